@@ -0,0 +1,241 @@
+package tback.kicketingback.performance;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tback.kicketingback.performance.domain.Reservation;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.GetSeatInfoResponse;
+import tback.kicketingback.performance.dto.SeatGradeDTO;
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.dto.SimpleSeatDTO;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.hold.DatabaseSeatHoldHandler;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.performance.repository.SeatRepository;
+import tback.kicketingback.performance.service.ReservationPriceCalculator;
+import tback.kicketingback.user.domain.User;
+import tback.kicketingback.user.domain.UserState;
+
+/**
+ * 예매 경로 중 DB 를 거치지 않는 자바 코드의 시간을 잰다. 최적화 전후 비교의 기준값으로 쓴다.
+ * legacySeatInfo 는 인벤토리 도입 전 getSeatInfo 의 partitioningBy 를 그대로 옮겨 inventorySeatInfo 와 비교한다.
+ * 나머지는 운영 코드를 그대로 호출하고 DB 조회 부분만 setup 때 만든 값으로 바꾼다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationHotPathBenchmark {
+
+	private static final int SEATS_PER_ROW = 50;
+	private static final Long USER_ID = 7L;
+	private static final Long OTHER_USER_ID = 8L;
+
+	@Param({"1000", "5000"})
+	private int seatCount;
+
+	@Param({"2", "4", "8"})
+	private int seatsPerRequest;
+
+	private List<Seat> seats;
+	private List<SeatReservationDTO> onStageSeats;
+	private SeatInventory seatInventory;
+
+	private User user;
+	private List<SeatReservationDTO> heldSeats;
+	private List<SeatReservationDTO> partlyHeldSeats;
+	private List<Long> requestSeatIds;
+	private DatabaseSeatHoldHandler databaseSeatHoldHandler;
+	private ReservationPriceCalculator reservationPriceCalculator;
+	private int[] prices;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		Random random = new Random(seatCount);
+		LocalDateTime now = LocalDateTime.now();
+		user = withId(User.of("user@kicketing.com", "password", "user", UserState.REGULAR_USER), USER_ID);
+		User otherUser = withId(User.of("other@kicketing.com", "password", "other", UserState.REGULAR_USER),
+			OTHER_USER_ID);
+
+		seats = new ArrayList<>();
+		onStageSeats = new ArrayList<>();
+		List<SeatStateDTO> seatStates = new ArrayList<>();
+		for (int index = 0; index < seatCount; index++) {
+			Seat seat = createSeat((long)index + 1, Grade.values()[index / SEATS_PER_ROW % Grade.values().length],
+				String.valueOf((char)('A' + index / SEATS_PER_ROW % 26)), index % SEATS_PER_ROW + 1);
+			boolean sold = random.nextDouble() < 0.5;
+			Reservation reservation = createReservation(sold ? otherUser : null, sold ? "order" : null,
+				sold ? now.minusMinutes(1) : null);
+
+			seats.add(seat);
+			onStageSeats.add(new SeatReservationDTO(seat, reservation));
+			seatStates.add(new SeatStateDTO(seat.getId(), seat.getGrade(), seat.getSeatRow(), seat.getSeatCol(),
+				sold ? OTHER_USER_ID : null, sold ? now.minusMinutes(1) : null, sold ? "order" : null));
+		}
+		seatInventory = SeatInventory.of(1L, UUID.randomUUID(), now.plusDays(1), List.of(), seatStates);
+
+		heldSeats = new ArrayList<>();
+		partlyHeldSeats = new ArrayList<>();
+		for (int index = 0; index < seatsPerRequest; index++) {
+			Seat seat = seats.get(index);
+			heldSeats.add(new SeatReservationDTO(seat, createReservation(user, null, now.plusMinutes(10))));
+			User holder = index == seatsPerRequest - 1 ? otherUser : user;
+			partlyHeldSeats.add(new SeatReservationDTO(seat, createReservation(holder, null, now.plusMinutes(10))));
+		}
+		requestSeatIds = heldSeats.stream().map(seatReservationDTO -> seatReservationDTO.seat().getId()).toList();
+
+		databaseSeatHoldHandler = new DatabaseSeatHoldHandler(null, null, null);
+		reservationPriceCalculator = new ReservationPriceCalculator(new FixedSeatGrades(), seatRepository());
+		prices = random.ints(1024, 10_000, 200_000).toArray();
+	}
+
+	@Benchmark
+	public GetSeatInfoResponse legacySeatInfo() {
+		Map<Boolean, List<SeatReservationDTO>> partitionedSeats = onStageSeats.stream()
+			.collect(
+				Collectors.partitioningBy(
+					seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() == null
+						&& (seatReservationDTO.reservation().getUser() == null
+						|| (seatReservationDTO.reservation().getLockExpiredTime() != null
+						&& seatReservationDTO.reservation().getLockExpiredTime().isBefore(LocalDateTime.now())))));
+
+		List<SimpleSeatDTO> bookableSeats = partitionedSeats.get(true)
+			.stream()
+			.map(SeatReservationDTO::seat)
+			.map(seat -> new SimpleSeatDTO(seat.getId(), seat.getGrade(), seat.getSeatRow(), seat.getSeatCol()))
+			.toList();
+		List<SimpleSeatDTO> unbookableSeats = partitionedSeats.get(false)
+			.stream()
+			.map(SeatReservationDTO::seat)
+			.map(seat -> new SimpleSeatDTO(seat.getId(), seat.getGrade(), seat.getSeatRow(), seat.getSeatCol()))
+			.toList();
+		return new GetSeatInfoResponse(bookableSeats, unbookableSeats, List.of());
+	}
+
+	@Benchmark
+	public GetSeatInfoResponse inventorySeatInfo() {
+		return seatInventory.getSeatInfo();
+	}
+
+	@Benchmark
+	public List<SeatReservationDTO> checkHolder() {
+		databaseSeatHoldHandler.checkHolder(1L, heldSeats, user);
+		return heldSeats;
+	}
+
+	@Benchmark
+	public AlreadySelectedSeatException checkHolderConflict() {
+		try {
+			databaseSeatHoldHandler.checkHolder(1L, partlyHeldSeats, user);
+			return null;
+		} catch (AlreadySelectedSeatException exception) {
+			return exception;
+		}
+	}
+
+	@Benchmark
+	public int calcPrice() {
+		return reservationPriceCalculator.calcPrice(DiscountType.STUDENT, 1L, requestSeatIds);
+	}
+
+	@Benchmark
+	public void discountAmount(Blackhole blackhole) {
+		for (int price : prices) {
+			blackhole.consume(DiscountType.OLD.getDiscountAmount(price));
+		}
+	}
+
+	@Benchmark
+	public AlreadySelectedSeatException alreadySelectedSeatException() {
+		return AlreadySelectedSeatException.of(seats.subList(0, seatsPerRequest));
+	}
+
+	private SeatRepository seatRepository() {
+		List<Seat> requestSeats = List.copyOf(seats.subList(0, seatsPerRequest));
+		return (SeatRepository)Proxy.newProxyInstance(SeatRepository.class.getClassLoader(),
+			new Class<?>[] {SeatRepository.class}, (proxy, method, args) -> {
+				if (method.getName().equals("findByIdIn")) {
+					return requestSeats;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private Seat createSeat(Long id, Grade grade, String seatRow, int seatCol) throws ReflectiveOperationException {
+		Constructor<Seat> constructor = Seat.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		Seat seat = constructor.newInstance();
+		setField(seat, "id", id);
+		setField(seat, "grade", grade);
+		setField(seat, "seatRow", seatRow);
+		setField(seat, "seatCol", seatCol);
+		return seat;
+	}
+
+	private Reservation createReservation(User holder, String orderNumber, LocalDateTime lockExpiredTime)
+		throws ReflectiveOperationException {
+		Constructor<Reservation> constructor = Reservation.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		Reservation reservation = constructor.newInstance();
+		reservation.setUser(holder);
+		reservation.setOrderNumber(orderNumber);
+		reservation.setLockExpiredTime(lockExpiredTime);
+		return reservation;
+	}
+
+	private User withId(User user, Long id) throws ReflectiveOperationException {
+		setField(user, "id", id);
+		return user;
+	}
+
+	private void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+		Field field = target.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+
+	/**
+	 * calcPrice 가 조회하는 회차 좌석 등급. 등급 수만큼의 목록을 좌석마다 다시 훑는 비용이 그대로 남는다.
+	 */
+	private static class FixedSeatGrades extends ReservationRepositoryCustom {
+
+		private final List<SeatGradeDTO> seatGrades = List.of(
+			new SeatGradeDTO(1L, Grade.VIP, 170_000),
+			new SeatGradeDTO(2L, Grade.R, 140_000),
+			new SeatGradeDTO(3L, Grade.S, 110_000),
+			new SeatGradeDTO(4L, Grade.A, 80_000));
+
+		FixedSeatGrades() {
+			super(null);
+		}
+
+		@Override
+		public List<SeatGradeDTO> findSeatGradeByOnStageId(Long onStageId) {
+			return seatGrades;
+		}
+	}
+}
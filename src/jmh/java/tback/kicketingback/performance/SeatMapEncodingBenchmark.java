@@ -0,0 +1,95 @@
+package tback.kicketingback.performance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.SeatAvailability;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.util.SeatBitmapUtil;
+
+/**
+ * 좌석 조회 응답을 만드는 세 경로(Jackson JSON, bitmap, run-length)의 시간을 비교한다.
+ * 응답 크기는 setup 때 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatMapEncodingBenchmark {
+
+	private static final int SEATS_PER_ROW = 50;
+	private static final int MAX_HOLD_SIZE = 4;
+
+	@Param({"1000", "5000"})
+	private int seatCount;
+
+	@Param({"0.1", "0.5", "0.9"})
+	private double unbookableRatio;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private SeatInventory seatInventory;
+
+	@Setup(Level.Trial)
+	public void setUp() throws JsonProcessingException {
+		seatInventory = SeatInventory.of(1L, UUID.randomUUID(), LocalDateTime.now().plusDays(1), List.of(),
+			createSeatStates());
+
+		System.out.printf("%n[size] seats=%d unbookable=%.1f json=%dB bitmap=%dB rle=%dB%n",
+			seatCount, unbookableRatio, jackson().length, bitmap().length, runLength().length);
+	}
+
+	/**
+	 * 예매는 보통 옆자리 몇 석을 함께 잡으므로 1~4석 단위로 예매 불가 좌석을 만든다.
+	 */
+	private List<SeatStateDTO> createSeatStates() {
+		Random random = new Random(seatCount);
+		List<SeatStateDTO> seatStates = new ArrayList<>();
+
+		int index = 0;
+		while (index < seatCount) {
+			int holdSize = Math.min(random.nextInt(MAX_HOLD_SIZE) + 1, seatCount - index);
+			boolean unbookable = random.nextDouble() < unbookableRatio;
+			for (int seat = 0; seat < holdSize; seat++, index++) {
+				seatStates.add(new SeatStateDTO((long)index + 1, Grade.values()[index % Grade.values().length],
+					String.valueOf((char)('A' + index / SEATS_PER_ROW % 26)), index % SEATS_PER_ROW + 1,
+					null, null, unbookable ? "order" : null));
+			}
+		}
+		return seatStates;
+	}
+
+	@Benchmark
+	public byte[] jackson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(seatInventory.getSeatInfo());
+	}
+
+	@Benchmark
+	public byte[] bitmap() {
+		SeatAvailability seatAvailability = seatInventory.getAvailability();
+		return SeatBitmapUtil.toBitmap(seatAvailability.bookableSeats(), seatAvailability.size());
+	}
+
+	@Benchmark
+	public byte[] runLength() {
+		SeatAvailability seatAvailability = seatInventory.getAvailability();
+		return SeatBitmapUtil.toRunLength(seatAvailability.bookableSeats(), seatAvailability.size());
+	}
+}
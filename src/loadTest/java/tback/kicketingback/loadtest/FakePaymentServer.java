@@ -0,0 +1,79 @@
+package tback.kicketingback.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 결제 검증/취소 요청에 latencyMillis 만큼 기다렸다가 200 으로 답하는 결제 서버.
+ */
+class FakePaymentServer {
+
+	private static final byte[] OK_BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final long latencyMillis;
+	private final AtomicLong verifyCount = new AtomicLong();
+	private final AtomicLong cancelCount = new AtomicLong();
+
+	FakePaymentServer(long latencyMillis) throws IOException {
+		this.latencyMillis = latencyMillis;
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/verify", exchange -> respond(exchange, verifyCount));
+		server.createContext("/cancel", exchange -> respond(exchange, cancelCount));
+		server.setExecutor(executor);
+	}
+
+	void start() {
+		server.start();
+	}
+
+	void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	String url(String path) {
+		return "http://localhost:%d%s".formatted(server.getAddress().getPort(), path);
+	}
+
+	long getVerifyCount() {
+		return verifyCount.get();
+	}
+
+	long getCancelCount() {
+		return cancelCount.get();
+	}
+
+	private void respond(HttpExchange exchange, AtomicLong counter) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			sleep();
+			counter.incrementAndGet();
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, OK_BODY.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(OK_BODY);
+			}
+		}
+	}
+
+	private void sleep() {
+		if (latencyMillis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package tback.kicketingback.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 응답 시간과 결과를 모아 처리량, 지연 백분위, 충돌률을 계산한다.
+ */
+class LoadTestReport {
+
+	private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+	private final LongAdder lockAttempts = new LongAdder();
+	private final LongAdder lockConflicts = new LongAdder();
+	private final LongAdder gaveUpUsers = new LongAdder();
+
+	void recordLatency(String operation, long nanos) {
+		latencies.computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+	}
+
+	void recordLockAttempt(boolean conflicted) {
+		lockAttempts.increment();
+		if (conflicted) {
+			lockConflicts.increment();
+		}
+	}
+
+	void recordGaveUp() {
+		gaveUpUsers.increment();
+	}
+
+	void recordError(String operation, Throwable throwable) {
+		errors.computeIfAbsent(operation + " " + throwable.getClass().getSimpleName(), key -> new LongAdder())
+			.increment();
+	}
+
+	long count(String operation) {
+		return latencies.getOrDefault(operation, new ConcurrentLinkedQueue<>()).size();
+	}
+
+	String format(long elapsedNanos, Map<String, Object> parameters, Map<String, Object> invariants) {
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+		StringBuilder report = new StringBuilder("\n===== ticket-open load test =====\n");
+
+		parameters.forEach((key, value) -> report.append("%-22s %s%n".formatted(key, value)));
+		report.append("%-22s %.2fs%n".formatted("elapsed", elapsedSeconds));
+		report.append("%n%-10s %8s %9s %9s %9s %9s %9s%n".formatted(
+			"operation", "count", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+		new TreeMap<>(latencies).forEach((operation, samples) -> {
+			long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+			report.append("%-10s %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n".formatted(operation, sorted.length,
+				sorted.length / elapsedSeconds, percentile(sorted, 50), percentile(sorted, 95),
+				percentile(sorted, 99), percentile(sorted, 100)));
+		});
+
+		long attempts = lockAttempts.sum();
+		report.append("%n%-22s %d / %d (%.1f%%)%n".formatted("lock conflicts", lockConflicts.sum(), attempts,
+			attempts == 0 ? 0.0 : lockConflicts.sum() * 100.0 / attempts));
+		report.append("%-22s %d%n".formatted("users gave up", gaveUpUsers.sum()));
+		new TreeMap<>(errors).forEach((error, count) -> report.append("%-22s %d%n".formatted(error, count.sum())));
+		invariants.forEach((key, value) -> report.append("%-22s %s%n".formatted(key, value)));
+		return report.toString();
+	}
+
+	private double percentile(long[] sorted, int percent) {
+		if (sorted.length == 0) {
+			return 0.0;
+		}
+		int index = Math.max(0, (int)Math.ceil(sorted.length * percent / 100.0) - 1);
+		return sorted[Math.min(index, sorted.length - 1)] / (double)TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,324 @@
+package tback.kicketingback.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import redis.embedded.RedisServer;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.ProvisionOnStagesRequest;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.service.OnStageProvisioningService;
+import tback.kicketingback.performance.service.ReservationService;
+import tback.kicketingback.user.domain.User;
+import tback.kicketingback.user.domain.UserState;
+import tback.kicketingback.user.repository.UserRepository;
+
+/**
+ * 티켓 오픈 순간을 재현한다. 모든 가상 사용자가 동시에 앞 열 위주로 좌석을 골라 점유 → 예매 → (일부) 취소한다.
+ * H2(MySQL 모드), embedded redis, 가짜 결제 서버를 띄우고 서비스 계층을 직접 호출한다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dload.rows=40 -Dload.cols=50 -Dload.users=5000 -Dload.concurrency=300 \
+ *     -Dload.seats-per-user=2 -Dload.cancel-ratio=0.1 -Dload.payment-latency-ms=50 -Dload.hold-mode=redis
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class TicketOpenLoadTest {
+
+	private static final int ROWS = Integer.getInteger("load.rows", 20);
+	private static final int COLS = Integer.getInteger("load.cols", 30);
+	private static final int USERS = Integer.getInteger("load.users", 1000);
+	private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 100);
+	private static final int SEATS_PER_USER = Integer.getInteger("load.seats-per-user", 2);
+	private static final int MAX_LOCK_ATTEMPTS = Integer.getInteger("load.max-lock-attempts", 5);
+	private static final double CANCEL_RATIO = Double.parseDouble(System.getProperty("load.cancel-ratio", "0.1"));
+	private static final long PAYMENT_LATENCY_MS = Long.getLong("load.payment-latency-ms", 20L);
+	private static final String HOLD_MODE = System.getProperty("load.hold-mode", "database");
+	private static final int REDIS_PORT = Integer.getInteger("load.redis-port", 16390);
+
+	private static RedisServer redisServer;
+	private static FakePaymentServer paymentServer;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private OnStageProvisioningService onStageProvisioningService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final LoadTestReport report = new LoadTestReport();
+	private final Map<Long, String> soldSeats = new ConcurrentHashMap<>();
+	private final AtomicLong doubleSoldSeats = new AtomicLong();
+
+	@DynamicPropertySource
+	static void infrastructure(DynamicPropertyRegistry registry) throws IOException {
+		redisServer = new RedisServer(REDIS_PORT);
+		redisServer.start();
+		paymentServer = new FakePaymentServer(PAYMENT_LATENCY_MS);
+		paymentServer.start();
+
+		registry.add("spring.data.redis.port.refresh", () -> REDIS_PORT);
+		registry.add("spring.data.redis.port.signup", () -> REDIS_PORT);
+		registry.add("payments.custom.verify-pay-url", () -> paymentServer.url("/verify"));
+		registry.add("payments.custom.cancel-pay-url", () -> paymentServer.url("/cancel"));
+		registry.add("reservation-policy.hold-mode", () -> HOLD_MODE);
+	}
+
+	@AfterAll
+	static void stopInfrastructure() throws IOException {
+		paymentServer.stop();
+		redisServer.stop();
+	}
+
+	@Test
+	@DisplayName("[정상] 동시 점유/예매/취소에서 한 좌석이 두 번 팔리지 않음")
+	void ticketOpen() throws InterruptedException {
+		Long onStageId = seedOnStage();
+		List<User> users = seedUsers();
+		Map<String, List<Long>> seatIdsByRow = findSeatIdsByRow(onStageId);
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+		CountDownLatch open = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(users.size());
+		for (User user : users) {
+			executor.execute(() -> {
+				try {
+					open.await();
+					book(onStageId, user, seatIdsByRow);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				} finally {
+					finished.countDown();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		open.countDown();
+		finished.await();
+		long elapsed = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		Map<Long, String> persistedSoldSeats = findSoldSeats(onStageId);
+		Map<String, Object> invariants = new LinkedHashMap<>();
+		invariants.put("double-sold seats", doubleSoldSeats.get());
+		invariants.put("sold seats (db)", persistedSoldSeats.size());
+		invariants.put("payment verify/cancel",
+			paymentServer.getVerifyCount() + " / " + paymentServer.getCancelCount());
+		System.out.println(report.format(elapsed, parameters(), invariants));
+
+		assertThat(doubleSoldSeats.get()).isZero();
+		assertThat(persistedSoldSeats).isEqualTo(soldSeats);
+	}
+
+	/**
+	 * 좌석 충돌이 나면 다른 좌석으로 MAX_LOCK_ATTEMPTS 번까지 다시 고른다.
+	 */
+	private void book(Long onStageId, User user, Map<String, List<Long>> seatIdsByRow) {
+		List<Long> seatIds = null;
+		for (int attempt = 1; attempt <= MAX_LOCK_ATTEMPTS && seatIds == null; attempt++) {
+			List<Long> candidate = pickSeats(seatIdsByRow);
+			seatIds = timed("lock", () -> {
+				reservationService.lockSeats(onStageId, candidate, user);
+				return candidate;
+			});
+		}
+		if (seatIds == null) {
+			report.recordGaveUp();
+			return;
+		}
+
+		String orderNumber = UUID.randomUUID().toString();
+		List<Long> lockedSeatIds = seatIds;
+		Boolean completed = timed("complete", () -> {
+			reservationService.completeReservation(onStageId, orderNumber, DiscountType.NONE, lockedSeatIds, user);
+			return true;
+		});
+		if (completed == null) {
+			return;
+		}
+		lockedSeatIds.forEach(seatId -> {
+			if (soldSeats.putIfAbsent(seatId, orderNumber) != null) {
+				doubleSoldSeats.incrementAndGet();
+			}
+		});
+
+		if (ThreadLocalRandom.current().nextDouble() < CANCEL_RATIO) {
+			Boolean canceled = timed("cancel", () -> {
+				reservationService.cancelReservation(user, orderNumber);
+				return true;
+			});
+			if (canceled != null) {
+				lockedSeatIds.forEach(seatId -> soldSeats.remove(seatId, orderNumber));
+			}
+		}
+	}
+
+	/**
+	 * @return 성공하면 action 결과, 실패하면 null
+	 */
+	private <T> T timed(String operation, Supplier<T> action) {
+		long startedAt = System.nanoTime();
+		try {
+			T result = action.get();
+			report.recordLatency(operation, System.nanoTime() - startedAt);
+			if ("lock".equals(operation)) {
+				report.recordLockAttempt(false);
+			}
+			return result;
+		} catch (AlreadySelectedSeatException exception) {
+			report.recordLatency(operation + "-fail", System.nanoTime() - startedAt);
+			if ("lock".equals(operation)) {
+				report.recordLockAttempt(true);
+				return null;
+			}
+			report.recordError(operation, exception);
+			return null;
+		} catch (RuntimeException exception) {
+			report.recordLatency(operation + "-fail", System.nanoTime() - startedAt);
+			report.recordError(operation, exception);
+			return null;
+		}
+	}
+
+	/**
+	 * 앞 열일수록 많이 고르도록 열을 제곱 분포로 뽑고, 그 열에서 SEATS_PER_USER 석을 연속으로 고른다.
+	 */
+	private List<Long> pickSeats(Map<String, List<Long>> seatIdsByRow) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		double position = random.nextDouble();
+		List<Long> rowSeatIds = seatIdsByRow.get(rowName((int)(position * position * ROWS)));
+
+		int count = Math.min(SEATS_PER_USER, rowSeatIds.size());
+		int from = random.nextInt(rowSeatIds.size() - count + 1);
+		return List.copyOf(rowSeatIds.subList(from, from + count));
+	}
+
+	private Long seedOnStage() {
+		jdbcTemplate.update("INSERT INTO place (name, address, hall) VALUES ('부하 테스트 공연장', '서울', '1관')");
+		Long placeId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM place", Long.class);
+
+		List<Object[]> seats = new ArrayList<>();
+		for (int row = 0; row < ROWS; row++) {
+			for (int col = 1; col <= COLS; col++) {
+				seats.add(new Object[] {gradeOf(row).name(), rowName(row), col, placeId});
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO seat (grade, seat_row, seat_col, place_id) VALUES (?, ?, ?, ?)", seats);
+
+		UUID performanceId = UUID.randomUUID();
+		LocalDate today = LocalDate.now();
+		jdbcTemplate.update("""
+				INSERT INTO performance (id, name, genre, length, start_date, end_date, age_limit, image_url, place_id)
+				VALUES (?, '부하 테스트', 'musical', 120, ?, ?, 0, 'http://localhost/poster.png', ?)""",
+			performanceId, today, today.plusDays(30), placeId);
+		for (Grade grade : Grade.values()) {
+			jdbcTemplate.update("INSERT INTO seat_grade (performance_id, grade, price) VALUES (?, ?, ?)",
+				performanceId, grade.name(), 10_000 * (Grade.values().length - grade.ordinal()));
+		}
+
+		LocalDate showDate = today.plusDays(2);
+		return onStageProvisioningService.provision(performanceId,
+				new ProvisionOnStagesRequest(showDate, showDate, List.of(LocalTime.of(19, 0)), null))
+			.get(0)
+			.onStageId();
+	}
+
+	private List<User> seedUsers() {
+		List<User> users = new ArrayList<>();
+		for (int index = 0; index < USERS; index++) {
+			User user = User.of("load%d@kicketing.com".formatted(index), "password", "user" + letters(index),
+				UserState.REGULAR_USER);
+			userRepository.save(user);
+			users.add(user);
+		}
+		return users;
+	}
+
+	private Map<String, List<Long>> findSeatIdsByRow(Long onStageId) {
+		Map<String, List<Long>> seatIdsByRow = new HashMap<>();
+		jdbcTemplate.query("""
+				SELECT s.id, s.seat_row FROM reservation r JOIN seat s ON s.id = r.seat_id
+				WHERE r.on_stage_id = ? ORDER BY s.seat_row, s.seat_col""",
+			resultSet -> {
+				seatIdsByRow.computeIfAbsent(resultSet.getString("seat_row"), row -> new ArrayList<>())
+					.add(resultSet.getLong("id"));
+			}, onStageId);
+		return seatIdsByRow;
+	}
+
+	private Map<Long, String> findSoldSeats(Long onStageId) {
+		Map<Long, String> persistedSoldSeats = new HashMap<>();
+		jdbcTemplate.query("""
+				SELECT seat_id, order_number FROM reservation
+				WHERE on_stage_id = ? AND order_number IS NOT NULL""",
+			resultSet -> {
+				persistedSoldSeats.put(resultSet.getLong("seat_id"), resultSet.getString("order_number"));
+			}, onStageId);
+		return persistedSoldSeats;
+	}
+
+	private Map<String, Object> parameters() {
+		Map<String, Object> parameters = new LinkedHashMap<>();
+		parameters.put("hall", ROWS + " x " + COLS);
+		parameters.put("users", USERS);
+		parameters.put("concurrency", CONCURRENCY);
+		parameters.put("seats per user", SEATS_PER_USER);
+		parameters.put("cancel ratio", CANCEL_RATIO);
+		parameters.put("payment latency", PAYMENT_LATENCY_MS + "ms");
+		parameters.put("hold mode", HOLD_MODE);
+		return parameters;
+	}
+
+	private Grade gradeOf(int row) {
+		return Grade.values()[Math.min(row * Grade.values().length / ROWS, Grade.values().length - 1)];
+	}
+
+	private String rowName(int row) {
+		return "R" + (row + 1);
+	}
+
+	/**
+	 * 이름에는 숫자를 쓸 수 없어 0 → A, 25 → Z, 26 → AA 로 바꾼다.
+	 */
+	private String letters(int number) {
+		StringBuilder letters = new StringBuilder();
+		for (int value = number; ; value = value / 26 - 1) {
+			letters.insert(0, (char)('A' + value % 26));
+			if (value < 26) {
+				return letters.toString();
+			}
+		}
+	}
+}
@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import tback.kicketingback.auth.exception.exceptions.ExpiredTokenException;
+import tback.kicketingback.auth.exception.exceptions.InvalidAdminKeyException;
 import tback.kicketingback.auth.exception.exceptions.InvalidJwtTokenException;
 import tback.kicketingback.auth.exception.exceptions.PayloadEmailMissingException;
 import tback.kicketingback.auth.exception.exceptions.TokenExtractionException;
@@ -28,6 +29,11 @@ public class AuthenticationExceptionHandler extends AbstractExceptionHandler {
 		return getBadRequestResponseEntity(exception, exception.getMessage());
 	}
 
+	@ExceptionHandler(InvalidAdminKeyException.class)
+	public ResponseEntity<String> InvalidAdminKeyException(InvalidAdminKeyException exception) {
+		return getForbiddenResponseEntity(exception, exception.getMessage());
+	}
+
 	@ExceptionHandler(PayloadEmailMissingException.class)
 	public ResponseEntity<String> PayloadEmailMissingException(PayloadEmailMissingException exception) {
 		return getBadRequestResponseEntity(exception, exception.getMessage());
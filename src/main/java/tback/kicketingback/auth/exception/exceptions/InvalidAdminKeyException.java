@@ -0,0 +1,8 @@
+package tback.kicketingback.auth.exception.exceptions;
+
+public class InvalidAdminKeyException extends RuntimeException {
+
+	public InvalidAdminKeyException() {
+		super("운영자 키가 없거나 일치하지 않음");
+	}
+}
@@ -0,0 +1,43 @@
+package tback.kicketingback.auth.interceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import tback.kicketingback.auth.exception.exceptions.InvalidAdminKeyException;
+
+/**
+ * 운영용 API 는 사용자 JWT 대신 배포 설정의 admin.api-key 로 확인한다.
+ */
+@Component
+public class AdminKeyInterceptor implements HandlerInterceptor {
+
+	private static final String ADMIN_KEY_HEADER = "Admin-Key";
+
+	@Value("${admin.api-key}")
+	private String apiKey;
+
+	@Override
+	public boolean preHandle(
+		@NonNull final HttpServletRequest request,
+		@NonNull final HttpServletResponse response,
+		@NonNull final Object handler
+	) {
+		if (request.getMethod().equals("OPTIONS")) {
+			return true;
+		}
+
+		String adminKey = request.getHeader(ADMIN_KEY_HEADER);
+		if (apiKey.isBlank() || adminKey == null || !MessageDigest.isEqual(
+			apiKey.getBytes(StandardCharsets.UTF_8), adminKey.getBytes(StandardCharsets.UTF_8))) {
+			throw new InvalidAdminKeyException();
+		}
+		return true;
+	}
+}
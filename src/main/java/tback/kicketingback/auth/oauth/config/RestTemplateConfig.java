@@ -1,5 +1,9 @@
 package tback.kicketingback.auth.oauth.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +11,18 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+	/**
+	 * 응답이 없는 외부 서버 때문에 스레드가 끝없이 묶이지 않도록 연결, 응답 대기 시간을 제한한다.
+	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(
+		RestTemplateBuilder restTemplateBuilder,
+		@Value("${http-client.connect-timeout}") long connectTimeout,
+		@Value("${http-client.read-timeout}") long readTimeout
+	) {
+		return restTemplateBuilder
+			.setConnectTimeout(Duration.ofMillis(connectTimeout))
+			.setReadTimeout(Duration.ofMillis(readTimeout))
+			.build();
 	}
 }
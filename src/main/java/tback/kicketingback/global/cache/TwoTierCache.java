@@ -0,0 +1,224 @@
+package tback.kicketingback.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.global.repository.CacheRedisRepository;
+
+/**
+ * 서버 메모리(L1)에서 먼저 찾고, 없으면 여러 서버가 함께 쓰는 Redis(L2), 그래도 없으면 loader 로 읽어 두 곳에 넣는다.
+ * 같은 키를 동시에 처음 찾으면 서버마다 한 요청만 Redis 와 loader 를 거친다.
+ * Redis 에 닿지 못하면 L1 과 loader 만으로 동작하고, 무효화 메시지를 놓친 L1 값은 local-ttl 이 지나면 사라진다.
+ */
+@Slf4j
+public class TwoTierCache<K, V> {
+
+	private static final String SHARED_METRIC = "catalog-cache.shared";
+
+	private final String name;
+	private final Duration ttl;
+	private final JavaType valueType;
+	private final Cache<String, V> local;
+	private final ObjectMapper objectMapper;
+	private final CacheRedisRepository cacheRedisRepository;
+	private final MeterRegistry meterRegistry;
+
+	TwoTierCache(
+		String name,
+		TwoTierCacheProperties.Spec spec,
+		JavaType valueType,
+		ObjectMapper objectMapper,
+		CacheRedisRepository cacheRedisRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.name = name;
+		this.ttl = Duration.ofMillis(spec.ttl());
+		this.valueType = valueType;
+		this.local = Caffeine.newBuilder()
+			.maximumSize(spec.size())
+			.expireAfterWrite(Duration.ofMillis(spec.localTtl()))
+			.recordStats()
+			.build();
+		this.objectMapper = objectMapper;
+		this.cacheRedisRepository = cacheRedisRepository;
+		this.meterRegistry = meterRegistry;
+		CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * loader 가 예외를 던지면 어느 쪽에도 남기지 않고 그대로 던진다.
+	 */
+	public V get(K key, Function<K, V> loader) {
+		return local.get(toKey(key), sharedKey -> loadShared(sharedKey, key, loader));
+	}
+
+	/**
+	 * L1 에 없는 키만 모아 Redis 에서 한 번에 읽고, Redis 에도 없는 키만 loader 로 한 번에 읽는다.
+	 * loader 가 돌려주지 않은 키는 결과에서 빠진다.
+	 */
+	public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+		Map<String, K> sharedKeys = new LinkedHashMap<>();
+		keys.forEach(key -> sharedKeys.put(toKey(key), key));
+
+		Map<String, V> values = local.getAll(sharedKeys.keySet(),
+			missingKeys -> loadAllShared(missingKeys, sharedKeys, loader));
+
+		Map<K, V> found = new LinkedHashMap<>();
+		values.forEach((sharedKey, value) -> found.put(sharedKeys.get(sharedKey), value));
+		return found;
+	}
+
+	/**
+	 * Redis 값을 지운 뒤에 L1 을 비우고 다른 서버에 알린다.
+	 * L1 을 먼저 비우면 Redis 값이 지워지기 전에 들어온 조회가 옛 값을 L1 에 다시 채울 수 있다.
+	 */
+	public void evict(K key) {
+		String sharedKey = toKey(key);
+		try {
+			cacheRedisRepository.delete(name, sharedKey);
+			local.invalidate(sharedKey);
+			cacheRedisRepository.publishInvalidation(TwoTierCacheManager.toMessage(name, sharedKey));
+		} catch (DataAccessException exception) {
+			local.invalidate(sharedKey);
+			log.warn("{}:{}: 다른 서버에 캐시 무효화를 알리지 못함 - {}", name, sharedKey, exception.getMessage());
+		}
+	}
+
+	public void evictAll() {
+		try {
+			cacheRedisRepository.deleteAll(name);
+			local.invalidateAll();
+			cacheRedisRepository.publishInvalidation(TwoTierCacheManager.toMessage(name, null));
+		} catch (DataAccessException exception) {
+			local.invalidateAll();
+			log.warn("{}: 다른 서버에 캐시 무효화를 알리지 못함 - {}", name, exception.getMessage());
+		}
+	}
+
+	void evictLocal(String sharedKey) {
+		local.invalidate(sharedKey);
+	}
+
+	void evictAllLocal() {
+		local.invalidateAll();
+	}
+
+	private V loadShared(String sharedKey, K key, Function<K, V> loader) {
+		Optional<V> shared = readShared(sharedKey);
+		if (shared.isPresent()) {
+			return shared.get();
+		}
+
+		V value = loader.apply(key);
+		writeShared(sharedKey, value);
+		return value;
+	}
+
+	private Map<String, V> loadAllShared(
+		Set<? extends String> missingKeys,
+		Map<String, K> sharedKeys,
+		Function<Set<K>, Map<K, V>> loader
+	) {
+		Map<String, V> loaded = readAllShared(List.copyOf(missingKeys));
+		Set<K> unloadedKeys = missingKeys.stream()
+			.filter(sharedKey -> !loaded.containsKey(sharedKey))
+			.map(sharedKeys::get)
+			.collect(Collectors.toSet());
+		if (unloadedKeys.isEmpty()) {
+			return loaded;
+		}
+
+		Map<String, V> values = new HashMap<>();
+		loader.apply(unloadedKeys).forEach((key, value) -> values.put(toKey(key), value));
+		writeAllShared(values);
+		loaded.putAll(values);
+		return loaded;
+	}
+
+	private Optional<V> readShared(String sharedKey) {
+		try {
+			Optional<String> json = cacheRedisRepository.get(name, sharedKey);
+			record(json.isPresent() ? "hit" : "miss", 1);
+			if (json.isEmpty()) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(json.get(), valueType));
+		} catch (DataAccessException | JsonProcessingException exception) {
+			record("error", 1);
+			log.warn("{}:{}: Redis 캐시를 읽지 못해 원본에서 읽음 - {}", name, sharedKey, exception.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private Map<String, V> readAllShared(List<String> sharedKeys) {
+		Map<String, V> values = new HashMap<>();
+		try {
+			for (Map.Entry<String, String> json : cacheRedisRepository.getAll(name, sharedKeys).entrySet()) {
+				values.put(json.getKey(), objectMapper.readValue(json.getValue(), valueType));
+			}
+			record("hit", values.size());
+			record("miss", sharedKeys.size() - values.size());
+			return values;
+		} catch (DataAccessException | JsonProcessingException exception) {
+			record("error", 1);
+			log.warn("{}: Redis 캐시를 읽지 못해 원본에서 읽음 - {}", name, exception.getMessage());
+			return new HashMap<>();
+		}
+	}
+
+	private void writeAllShared(Map<String, V> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+		try {
+			Map<String, String> jsons = new HashMap<>();
+			for (Map.Entry<String, V> value : values.entrySet()) {
+				jsons.put(value.getKey(), objectMapper.writeValueAsString(value.getValue()));
+			}
+			cacheRedisRepository.setAll(name, jsons, ttl);
+		} catch (DataAccessException | JsonProcessingException exception) {
+			record("error", 1);
+			log.warn("{}: Redis 캐시에 쓰지 못함 - {}", name, exception.getMessage());
+		}
+	}
+
+	private void writeShared(String sharedKey, V value) {
+		try {
+			cacheRedisRepository.set(name, sharedKey, objectMapper.writeValueAsString(value), ttl);
+		} catch (DataAccessException | JsonProcessingException exception) {
+			record("error", 1);
+			log.warn("{}:{}: Redis 캐시에 쓰지 못함 - {}", name, sharedKey, exception.getMessage());
+		}
+	}
+
+	private void record(String result, int count) {
+		meterRegistry.counter(SHARED_METRIC, "cache", name, "result", result).increment(count);
+	}
+
+	private String toKey(K key) {
+		return String.valueOf(key);
+	}
+}
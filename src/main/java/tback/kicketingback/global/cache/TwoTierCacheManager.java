@@ -0,0 +1,76 @@
+package tback.kicketingback.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.global.repository.CacheRedisRepository;
+
+/**
+ * 이름마다 TwoTierCache 를 하나씩 만들고, 다른 서버가 보낸 무효화 메시지를 받아 해당 캐시의 L1 값을 지운다.
+ * 메시지는 "캐시 이름:키" 이고 키가 없으면 그 캐시 전체를 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoTierCacheManager implements MessageListener {
+
+	private static final String SEPARATOR = ":";
+
+	private final Map<String, TwoTierCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+	private final TwoTierCacheProperties twoTierCacheProperties;
+	private final ObjectMapper objectMapper;
+	private final CacheRedisRepository cacheRedisRepository;
+	private final MeterRegistry meterRegistry;
+
+	public <K, V> TwoTierCache<K, V> create(String name, Class<V> valueType) {
+		return create(name, objectMapper.getTypeFactory().constructType(valueType));
+	}
+
+	public <K, V> TwoTierCache<K, List<V>> createList(String name, Class<V> elementType) {
+		return create(name, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(SEPARATOR);
+		TwoTierCache<?, ?> cache = caches.get(separator < 0 ? body : body.substring(0, separator));
+		if (cache == null) {
+			return;
+		}
+		if (separator < 0) {
+			cache.evictAllLocal();
+			return;
+		}
+		cache.evictLocal(body.substring(separator + 1));
+	}
+
+	static String toMessage(String name, String key) {
+		return key == null ? name : name + SEPARATOR + key;
+	}
+
+	private <K, V> TwoTierCache<K, V> create(String name, JavaType valueType) {
+		TwoTierCacheProperties.Spec spec = Optional.ofNullable(twoTierCacheProperties.caches())
+			.map(caches -> caches.get(name))
+			.orElseThrow(() -> new IllegalStateException("catalog-cache.caches." + name + " 설정 없음"));
+
+		TwoTierCache<K, V> cache = new TwoTierCache<>(name, spec, valueType, objectMapper, cacheRedisRepository,
+			meterRegistry);
+		if (caches.putIfAbsent(name, cache) != null) {
+			throw new IllegalStateException(name + ": 이미 만든 캐시");
+		}
+		return cache;
+	}
+}
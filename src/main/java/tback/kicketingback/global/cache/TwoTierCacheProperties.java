@@ -0,0 +1,21 @@
+package tback.kicketingback.global.cache;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param caches 캐시 이름마다 서버 메모리에 둘 최대 개수(size)와 보관 시간(local-ttl), Redis 보관 시간(ttl, 밀리초)
+ */
+@ConfigurationProperties("catalog-cache")
+public record TwoTierCacheProperties(
+	Map<String, Spec> caches
+) {
+
+	public record Spec(
+		long size,
+		long localTtl,
+		long ttl
+	) {
+	}
+}
@@ -0,0 +1,23 @@
+package tback.kicketingback.global.config;
+
+/**
+ * 인터셉터와 요청 수 제한 필터가 함께 쓰는 경로 패턴.
+ */
+public final class ApiPaths {
+
+	public static final String SIGN_IN = "/api/user/sign-in";
+	public static final String SIGN_UP = "/api/user/sign-up/**";
+	public static final String RESERVATION = "/api/reservation/**";
+	public static final String ADMIN = "/api/admin/**";
+
+	/**
+	 * 로그인하지 않아도 호출할 수 있는 경로
+	 */
+	public static final String[] PUBLIC = {
+		"/", SIGN_IN, SIGN_UP, "/api/oauth/**", "/error", "/api/refresh", "/api/performances/*",
+		"/api/performance/**", "/api/search/**", "/actuator/health", ADMIN
+	};
+
+	private ApiPaths() {
+	}
+}
@@ -2,6 +2,7 @@ package tback.kicketingback.global.config;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -23,4 +24,24 @@ public class AsyncConfiguration implements AsyncConfigurer {
 		executor.initialize();
 		return executor;
 	}
-}
\ No newline at end of file
+
+	@Bean(name = "seatStreamExecutor")
+	public Executor seatStreamExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setThreadNamePrefix("SeatStreamExecutor-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean(name = "paymentCancelExecutor")
+	public Executor paymentCancelExecutor(@Value("${payment-cancel-outbox.concurrency}") int concurrency) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setThreadNamePrefix("PaymentCancelExecutor-");
+		executor.initialize();
+		return executor;
+	}
+}
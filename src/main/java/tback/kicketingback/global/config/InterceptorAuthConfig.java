@@ -8,7 +8,9 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import lombok.RequiredArgsConstructor;
+import tback.kicketingback.auth.interceptor.AdminKeyInterceptor;
 import tback.kicketingback.auth.interceptor.UserInterceptor;
+import tback.kicketingback.queue.interceptor.AdmissionInterceptor;
 
 @RequiredArgsConstructor
 @Configuration
@@ -16,6 +18,8 @@ public class InterceptorAuthConfig implements WebMvcConfigurer {
 
 	private final UserInterceptor userInterceptor;
 	private final UserArgumentResolver userArgumentResolver;
+	private final AdmissionInterceptor admissionInterceptor;
+	private final AdminKeyInterceptor adminKeyInterceptor;
 
 	@Override
 	public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> resolvers) {
@@ -27,7 +31,14 @@ public class InterceptorAuthConfig implements WebMvcConfigurer {
 		registry.addInterceptor(userInterceptor)
 			.order(1)
 			.addPathPatterns("/**")
-			.excludePathPatterns("/", "/api/user/sign-in", "/api/user/sign-up/**", "/api/oauth/**", "/error",
-				"/api/refresh", "/api/performances/*", "/api/performance/**", "/api/search/**");
+			.excludePathPatterns(ApiPaths.PUBLIC);
+
+		registry.addInterceptor(admissionInterceptor)
+			.order(2)
+			.addPathPatterns(ApiPaths.RESERVATION);
+
+		registry.addInterceptor(adminKeyInterceptor)
+			.order(3)
+			.addPathPatterns(ApiPaths.ADMIN);
 	}
 }
\ No newline at end of file
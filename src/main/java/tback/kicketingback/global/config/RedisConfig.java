@@ -7,8 +7,18 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import tback.kicketingback.global.cache.TwoTierCacheManager;
+import tback.kicketingback.global.repository.CacheRedisRepository;
 import tback.kicketingback.global.repository.RedisRepository;
+import tback.kicketingback.performance.inventory.SeatStateRelay;
+import tback.kicketingback.performance.repository.IdempotencyRedisRepository;
+import tback.kicketingback.performance.repository.SeatHoldRedisRepository;
+import tback.kicketingback.performance.repository.SeatStateRedisRepository;
+import tback.kicketingback.queue.repository.AdmissionQueueRedisRepository;
+import tback.kicketingback.ratelimit.repository.RateLimitRedisRepository;
 
 @Configuration
 public class RedisConfig {
@@ -25,6 +35,18 @@ public class RedisConfig {
 	@Value("${spring.data.redis.port.signup}")
 	private int signupPort;
 
+	@Value("${spring.data.redis.host.reservation:${spring.data.redis.host.refresh}}")
+	private String reservationHostName;
+
+	@Value("${spring.data.redis.port.reservation:${spring.data.redis.port.refresh}}")
+	private int reservationPort;
+
+	@Value("${spring.data.redis.host.cache:${spring.data.redis.host.reservation:${spring.data.redis.host.refresh}}}")
+	private String cacheHostName;
+
+	@Value("${spring.data.redis.port.cache:${spring.data.redis.port.reservation:${spring.data.redis.port.refresh}}}")
+	private int cachePort;
+
 	@Bean
 	public LettuceConnectionFactory refreshRedisConnectionFactory() {
 		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(refreshHostName, refreshPort));
@@ -62,4 +84,74 @@ public class RedisConfig {
 	RedisRepository signupRedisRepository() {
 		return new RedisRepository(signupRedisTemplate());
 	}
+
+	@Bean
+	public LettuceConnectionFactory reservationRedisConnectionFactory() {
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(reservationHostName, reservationPort));
+	}
+
+	@Bean
+	StringRedisTemplate reservationRedisTemplate() {
+		StringRedisTemplate template = new StringRedisTemplate();
+		template.setConnectionFactory(reservationRedisConnectionFactory());
+		return template;
+	}
+
+	@Bean
+	SeatHoldRedisRepository seatHoldRedisRepository() {
+		return new SeatHoldRedisRepository(reservationRedisTemplate());
+	}
+
+	@Bean
+	AdmissionQueueRedisRepository admissionQueueRedisRepository() {
+		return new AdmissionQueueRedisRepository(reservationRedisTemplate());
+	}
+
+	@Bean
+	IdempotencyRedisRepository idempotencyRedisRepository() {
+		return new IdempotencyRedisRepository(reservationRedisTemplate());
+	}
+
+	@Bean
+	RateLimitRedisRepository rateLimitRedisRepository() {
+		return new RateLimitRedisRepository(reservationRedisTemplate());
+	}
+
+	@Bean
+	SeatStateRedisRepository seatStateRedisRepository() {
+		return new SeatStateRedisRepository(reservationRedisTemplate());
+	}
+
+	@Bean
+	RedisMessageListenerContainer reservationRedisMessageListenerContainer(SeatStateRelay seatStateRelay) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(reservationRedisConnectionFactory());
+		container.addMessageListener(seatStateRelay, new ChannelTopic(SeatStateRedisRepository.CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public LettuceConnectionFactory cacheRedisConnectionFactory() {
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(cacheHostName, cachePort));
+	}
+
+	@Bean
+	StringRedisTemplate cacheRedisTemplate() {
+		StringRedisTemplate template = new StringRedisTemplate();
+		template.setConnectionFactory(cacheRedisConnectionFactory());
+		return template;
+	}
+
+	@Bean
+	CacheRedisRepository cacheRedisRepository() {
+		return new CacheRedisRepository(cacheRedisTemplate());
+	}
+
+	@Bean
+	RedisMessageListenerContainer cacheRedisMessageListenerContainer(TwoTierCacheManager twoTierCacheManager) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(cacheRedisConnectionFactory());
+		container.addMessageListener(twoTierCacheManager, new ChannelTopic(CacheRedisRepository.INVALIDATION_CHANNEL));
+		return container;
+	}
 }
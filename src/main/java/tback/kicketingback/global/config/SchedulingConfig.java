@@ -0,0 +1,13 @@
+package tback.kicketingback.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 기본 스케줄러는 스레드가 하나라 느린 작업이 입장 처리나 점유 만료를 밀어낸다.
+ * spring.task.scheduling.pool.size 를 @Scheduled 작업 수만큼 잡아 서로 기다리지 않게 한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
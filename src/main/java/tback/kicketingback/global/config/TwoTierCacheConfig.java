@@ -0,0 +1,11 @@
+package tback.kicketingback.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import tback.kicketingback.global.cache.TwoTierCacheProperties;
+
+@Configuration
+@EnableConfigurationProperties(TwoTierCacheProperties.class)
+public class TwoTierCacheConfig {
+}
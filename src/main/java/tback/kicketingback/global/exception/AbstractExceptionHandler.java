@@ -41,6 +41,15 @@ public abstract class AbstractExceptionHandler {
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(message);
 	}
 
+	protected final ResponseEntity<String> getServiceUnavailableResponseEntity(
+		final Exception exception,
+		final String message
+	) {
+		log.warn("{}: {} response send because of Service Unavailable: {}", this.getClass(), exception.getClass(),
+			message);
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(message);
+	}
+
 	protected final ResponseEntity<String> getBadGatewayResponseEntity(final Exception exception, final String message) {
 		log.info("{}: {} response send because of Bad Gateway: {}", this.getClass(), exception.getClass(), message);
 		return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(message);
@@ -0,0 +1,96 @@
+package tback.kicketingback.global.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 서버가 함께 쓰는 캐시 값을 JSON 문자열로 둔다. 키는 catalog-cache:{캐시 이름}:키 형식이다.
+ * 무효화는 INVALIDATION_CHANNEL 로 알려 각 서버가 메모리에 둔 값도 지우게 한다.
+ */
+@RequiredArgsConstructor
+public class CacheRedisRepository {
+
+	public static final String INVALIDATION_CHANNEL = "catalog-cache:invalidation";
+
+	private static final String KEY_FORMAT = "catalog-cache:{%s}:%s";
+	private static final int SCAN_COUNT = 500;
+
+	private final StringRedisTemplate redisTemplate;
+
+	public Optional<String> get(String cacheName, String key) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(toKey(cacheName, key)));
+	}
+
+	public void set(String cacheName, String key, String value, Duration ttl) {
+		redisTemplate.opsForValue().set(toKey(cacheName, key), value, ttl);
+	}
+
+	/**
+	 * 한 번의 MGET 으로 읽는다. 없는 키는 결과에 넣지 않는다.
+	 */
+	public Map<String, String> getAll(String cacheName, List<String> keys) {
+		List<String> values = redisTemplate.opsForValue()
+			.multiGet(keys.stream().map(key -> toKey(cacheName, key)).toList());
+		Map<String, String> found = new HashMap<>();
+		for (int index = 0; index < keys.size(); index++) {
+			if (values != null && values.get(index) != null) {
+				found.put(keys.get(index), values.get(index));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * 키마다 ttl 을 줘야 해서 MSET 대신 SET 을 파이프라인으로 한 번에 보낸다.
+	 */
+	public void setAll(String cacheName, Map<String, String> values, Duration ttl) {
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			values.forEach((key, value) -> connection.stringCommands().set(
+				toKey(cacheName, key).getBytes(StandardCharsets.UTF_8),
+				value.getBytes(StandardCharsets.UTF_8),
+				Expiration.from(ttl),
+				SetOption.upsert()));
+			return null;
+		});
+	}
+
+	public void delete(String cacheName, String key) {
+		redisTemplate.delete(toKey(cacheName, key));
+	}
+
+	/**
+	 * KEYS 대신 SCAN 으로 찾아 지우므로 키가 많아도 Redis 를 오래 막지 않는다.
+	 */
+	public void deleteAll(String cacheName) {
+		ScanOptions scanOptions = ScanOptions.scanOptions().match(toKey(cacheName, "*")).count(SCAN_COUNT).build();
+		List<String> keys = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+			cursor.forEachRemaining(keys::add);
+		}
+		if (!keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+
+	public void publishInvalidation(String message) {
+		redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+	}
+
+	private String toKey(String cacheName, String key) {
+		return KEY_FORMAT.formatted(cacheName, key);
+	}
+}
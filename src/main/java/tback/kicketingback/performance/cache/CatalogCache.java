@@ -0,0 +1,83 @@
+package tback.kicketingback.performance.cache;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import tback.kicketingback.global.cache.TwoTierCache;
+import tback.kicketingback.global.cache.TwoTierCacheManager;
+import tback.kicketingback.performance.domain.type.Genre;
+import tback.kicketingback.performance.dto.DetailPerformanceDTO;
+import tback.kicketingback.performance.dto.GetPerformancesSize;
+import tback.kicketingback.performance.dto.Range;
+import tback.kicketingback.performance.dto.SimpleOnStageDTO;
+import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
+
+/**
+ * 거의 바뀌지 않는 공연 정보를 서버 메모리와 Redis 에 둔다. 설정은 catalog-cache.caches.{이름} 에 있다.
+ * 순위 목록은 PopularityRanking 이 다루지 못하는 지난 기간 조회만 담으므로 무효화 없이 ttl 로만 바뀐다.
+ */
+@Component
+public class CatalogCache {
+
+	private final TwoTierCache<UUID, DetailPerformanceDTO> performanceDetails;
+	private final TwoTierCache<String, List<SimpleOnStageDTO>> bookableDates;
+	private final TwoTierCache<String, List<SimplePerformancePlaceDTO>> rankings;
+
+	public CatalogCache(TwoTierCacheManager twoTierCacheManager) {
+		this.performanceDetails = twoTierCacheManager.create("performance-detail", DetailPerformanceDTO.class);
+		this.bookableDates = twoTierCacheManager.createList("bookable-dates", SimpleOnStageDTO.class);
+		this.rankings = twoTierCacheManager.createList("ranking", SimplePerformancePlaceDTO.class);
+	}
+
+	public DetailPerformanceDTO getPerformance(UUID performanceUUID, Function<UUID, DetailPerformanceDTO> loader) {
+		return performanceDetails.get(performanceUUID, loader);
+	}
+
+	public Map<UUID, DetailPerformanceDTO> getPerformances(
+		Collection<UUID> performanceUUIDs,
+		Function<Set<UUID>, Map<UUID, DetailPerformanceDTO>> loader
+	) {
+		return performanceDetails.getAll(performanceUUIDs, loader);
+	}
+
+	public void evictPerformance(UUID performanceUUID) {
+		performanceDetails.evict(performanceUUID);
+	}
+
+	public void evictAllPerformances() {
+		performanceDetails.evictAll();
+	}
+
+	/**
+	 * 조회 시작일이 달라도 같은 달이면 같은 값을 쓰도록 공연의 한 달 치 회차를 담는다.
+	 */
+	public List<SimpleOnStageDTO> getBookableDates(
+		UUID performanceUUID,
+		YearMonth month,
+		Supplier<List<SimpleOnStageDTO>> loader
+	) {
+		return bookableDates.get(performanceUUID + ":" + month, key -> loader.get());
+	}
+
+	public void evictBookableDates(UUID performanceUUID, YearMonth month) {
+		bookableDates.evict(performanceUUID + ":" + month);
+	}
+
+	public List<SimplePerformancePlaceDTO> getRanking(
+		Genre genre,
+		Range range,
+		GetPerformancesSize size,
+		Supplier<List<SimplePerformancePlaceDTO>> loader
+	) {
+		return rankings.get(genre + ":" + range.start() + ":" + range.end() + ":" + size.getAnInt(),
+			key -> loader.get());
+	}
+}
@@ -0,0 +1,53 @@
+package tback.kicketingback.performance.command;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.persistence.EntityManager;
+import tback.kicketingback.performance.dto.ReservationCancellationDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.inventory.SeatInventory;
+
+/**
+ * 취소할 수 있는지 확인을 마친 예매의 좌석을 되돌린다. 좌석마다 다른 재판매 대기 시각을 가진다.
+ * 결제 취소 요청과 취소 내역은 좌석을 되돌리는 트랜잭션에서 함께 저장해 어느 한쪽만 남지 않게 한다.
+ */
+public record CancelReservationCommand(
+	ReservationCancellationDTO cancellation,
+	Long userId,
+	List<LocalDateTime> freeLockTimes
+) implements SeatCommand {
+
+	private static final String SQL = """
+		UPDATE reservation SET ordered_at = NULL, order_number = NULL, discount_type = NULL, lock_expired_time = ?,
+		version = version + 1
+		WHERE on_stage_id = ? AND seat_id = ? AND order_number = ?""";
+
+	/**
+	 * 저장에 실패해 다시 결정하면 엔티티도 새로 만든다. 롤백된 엔티티는 ID 가 남아 있어 다시 저장할 수 없다.
+	 */
+	@Override
+	public SeatDecision decide(SeatInventory seatInventory) {
+		Long onStageId = cancellation.onStageId();
+		List<Long> seatIds = cancellation.seatIds();
+		String orderNumber = cancellation.orderNumber();
+		List<SeatStateChangedEvent> events = new ArrayList<>();
+		List<Object[]> rows = new ArrayList<>();
+
+		for (int index = 0; index < seatIds.size(); index++) {
+			Long seatId = seatIds.get(index);
+			LocalDateTime freeLockTime = freeLockTimes.get(index);
+			events.add(SeatStateChangedEvent.canceled(onStageId, List.of(seatId), userId, freeLockTime));
+			rows.add(new Object[] {Timestamp.valueOf(freeLockTime), onStageId, seatId, orderNumber});
+		}
+		List<Object> entities = new ArrayList<>(cancellation.createCanceledReservations());
+		cancellation.createPaymentCancelOutbox(LocalDateTime.now()).ifPresent(entities::add);
+		List<Consumer<EntityManager>> writes = entities.stream()
+			.<Consumer<EntityManager>>map(entity -> entityManager -> entityManager.persist(entity))
+			.toList();
+		return new SeatDecision(events, SQL, rows, writes);
+	}
+}
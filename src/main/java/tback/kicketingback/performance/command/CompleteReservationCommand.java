@@ -0,0 +1,50 @@
+package tback.kicketingback.performance.command;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+
+/**
+ * 결제가 확인된(VERIFIED) 주문의 좌석을 확정하고, 같은 트랜잭션에서 결제를 COMPLETED 로 바꾼다.
+ */
+public record CompleteReservationCommand(
+	Long onStageId,
+	List<Long> seatIds,
+	Long userId,
+	String orderNumber,
+	DiscountType discountType,
+	Long reservationPaymentId
+) implements SeatCommand {
+
+	private static final String SQL = """
+		UPDATE reservation SET ordered_at = ?, order_number = ?, discount_type = ?, version = version + 1
+		WHERE on_stage_id = ? AND seat_id = ? AND user_id = ? AND order_number IS NULL""";
+
+	@Override
+	public SeatDecision decide(SeatInventory seatInventory) {
+		if (seatIds.stream().distinct().count() != seatIds.size() || !seatInventory.containsAll(seatIds)) {
+			throw new InvalidSeatIdException();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> notHeldSeatIds = seatInventory.findNotHeldSeatIds(seatIds, userId, now);
+		if (!notHeldSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.from(seatInventory.getSeatRowCols(notHeldSeatIds),
+				notHeldSeatIds);
+		}
+
+		Timestamp orderedAt = Timestamp.valueOf(now);
+		List<Object[]> rows = seatIds.stream()
+			.map(seatId -> new Object[] {orderedAt, orderNumber, discountType.name(), onStageId, seatId, userId})
+			.toList();
+		return new SeatDecision(List.of(SeatStateChangedEvent.completed(onStageId, seatIds, userId)), SQL, rows,
+			List.of(entityManager -> entityManager.find(ReservationPayment.class, reservationPaymentId).complete()));
+	}
+}
@@ -0,0 +1,45 @@
+package tback.kicketingback.performance.command;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+
+/**
+ * database 점유 방식과 같이 빈 좌석만 점유한다. 이미 본인이 점유한 좌석도 다시 점유할 수 없다.
+ */
+public record LockSeatsCommand(
+	Long onStageId,
+	List<Long> seatIds,
+	Long userId,
+	LocalDateTime lockExpiredTime
+) implements SeatCommand {
+
+	private static final String SQL = """
+		UPDATE reservation SET user_id = ?, lock_expired_time = ?, version = version + 1
+		WHERE on_stage_id = ? AND seat_id = ? AND order_number IS NULL AND user_id IS NULL""";
+
+	@Override
+	public SeatDecision decide(SeatInventory seatInventory) {
+		if (seatIds.stream().distinct().count() != seatIds.size() || !seatInventory.containsAll(seatIds)) {
+			throw new InvalidSeatIdException();
+		}
+
+		List<Long> unavailableSeatIds = seatInventory.findUnavailableSeatIds(seatIds);
+		if (!unavailableSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.from(seatInventory.getSeatRowCols(unavailableSeatIds),
+				unavailableSeatIds);
+		}
+
+		Timestamp expiredAt = Timestamp.valueOf(lockExpiredTime);
+		List<Object[]> rows = seatIds.stream()
+			.map(seatId -> new Object[] {userId, expiredAt, onStageId, seatId})
+			.toList();
+		return new SeatDecision(
+			List.of(SeatStateChangedEvent.locked(onStageId, seatIds, userId, lockExpiredTime)), SQL, rows);
+	}
+}
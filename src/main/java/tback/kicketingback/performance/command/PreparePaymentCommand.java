@@ -0,0 +1,53 @@
+package tback.kicketingback.performance.command;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 좌석 점유를 확인하고 결제를 기다리는 동안 pendingUntil 까지 늘린 뒤, 같은 트랜잭션에서 PENDING 결제를 남긴다.
+ */
+public record PreparePaymentCommand(
+	Long onStageId,
+	List<Long> seatIds,
+	User user,
+	String orderNumber,
+	DiscountType discountType,
+	int price,
+	LocalDateTime pendingUntil
+) implements SeatCommand {
+
+	private static final String SQL = """
+		UPDATE reservation SET lock_expired_time = ?, version = version + 1
+		WHERE on_stage_id = ? AND seat_id = ? AND user_id = ? AND order_number IS NULL""";
+
+	@Override
+	public SeatDecision decide(SeatInventory seatInventory) {
+		if (seatIds.stream().distinct().count() != seatIds.size() || !seatInventory.containsAll(seatIds)) {
+			throw new InvalidSeatIdException();
+		}
+
+		List<Long> notHeldSeatIds = seatInventory.findNotHeldSeatIds(seatIds, user.getId(), LocalDateTime.now());
+		if (!notHeldSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.from(seatInventory.getSeatRowCols(notHeldSeatIds),
+				notHeldSeatIds);
+		}
+
+		Timestamp expiredAt = Timestamp.valueOf(pendingUntil);
+		List<Object[]> rows = seatIds.stream()
+			.map(seatId -> new Object[] {expiredAt, onStageId, seatId, user.getId()})
+			.toList();
+		return new SeatDecision(
+			List.of(SeatStateChangedEvent.locked(onStageId, seatIds, user.getId(), pendingUntil)), SQL, rows,
+			List.of(entityManager -> entityManager.persist(
+				ReservationPayment.pending(orderNumber, user, onStageId, seatIds, discountType, price, pendingUntil))));
+	}
+}
@@ -0,0 +1,11 @@
+package tback.kicketingback.performance.command;
+
+import tback.kicketingback.performance.inventory.SeatInventory;
+
+/**
+ * 한 회차의 좌석 변경 요청. 메모리의 인벤토리만 보고 결과를 정하며 DB 는 건드리지 않는다.
+ */
+public interface SeatCommand {
+
+	SeatDecision decide(SeatInventory seatInventory);
+}
@@ -0,0 +1,192 @@
+package tback.kicketingback.performance.command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.exception.exceptions.SeatCommandRejectedException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.inventory.SeatInventoryManager;
+
+/**
+ * 회차 ID 로 샤드를 나누고, 샤드마다 스레드 하나가 좌석 변경 요청을 차례로 처리한다.
+ * 같은 회차의 변경은 항상 같은 스레드에서 메모리 상태로 결정하므로 DB 행 락을 기다리지 않는다.
+ * 큐에 쌓인 요청은 한 번에 꺼내 하나의 트랜잭션으로 저장하고, 바뀐 좌석은 저장에 성공한 뒤에 알린다.
+ *
+ * 회차 하나는 서버 하나에서만 처리한다고 가정한다. 다른 서버가 같은 행을 바꿨다면 저장 단계의 조건에 걸려
+ * 인벤토리를 다시 읽고 요청을 하나씩 재처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCommandProcessor {
+
+	@Value("${reservation-policy.single-writer.enabled}")
+	private boolean enabled;
+
+	@Value("${reservation-policy.single-writer.shards}")
+	private int shardCount;
+
+	@Value("${reservation-policy.single-writer.queue-size}")
+	private int queueSize;
+
+	@Value("${reservation-policy.single-writer.batch-size}")
+	private int batchSize;
+
+	private final List<Shard> shards = new ArrayList<>();
+	private volatile boolean stopped;
+
+	private final SeatInventoryManager seatInventoryManager;
+	private final SeatCommandWriter seatCommandWriter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+		for (int index = 0; index < count; index++) {
+			Shard shard = new Shard(index);
+			shards.add(shard);
+			shard.thread.start();
+		}
+	}
+
+	/**
+	 * 처리 중인 묶음은 끝까지 처리하고, 큐에 남은 요청은 기다리지 않도록 바로 거절한다.
+	 */
+	@PreDestroy
+	void stop() {
+		stopped = true;
+		shards.forEach(shard -> {
+			shard.thread.interrupt();
+			shard.rejectQueued();
+		});
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 요청이 저장될 때까지 기다린다. 샤드 큐가 가득 차 있으면 바로 거절한다.
+	 */
+	public void execute(Long onStageId, SeatCommand command) {
+		Shard shard = shards.get(Math.floorMod(onStageId.hashCode(), shards.size()));
+		Task task = new Task(onStageId, command, new CompletableFuture<>());
+
+		if (stopped || !shard.queue.offer(task)) {
+			throw new SeatCommandRejectedException(onStageId);
+		}
+		if (stopped) {
+			shard.rejectQueued();
+		}
+
+		try {
+			task.result().join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
+	private void process(List<Task> tasks) {
+		List<Task> accepted = new ArrayList<>();
+		List<SeatDecision> decisions = new ArrayList<>();
+		Set<SeatInventory> changedInventories = new LinkedHashSet<>();
+
+		for (Task task : tasks) {
+			try {
+				SeatInventory seatInventory = seatInventoryManager.getInventory(task.onStageId());
+				SeatDecision decision = task.command().decide(seatInventory);
+				decision.events().forEach(event -> seatInventoryManager.applyUncommitted(seatInventory, event));
+				changedInventories.add(seatInventory);
+				accepted.add(task);
+				decisions.add(decision);
+			} catch (RuntimeException exception) {
+				task.result().completeExceptionally(exception);
+			}
+		}
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		try {
+			seatCommandWriter.flush(decisions);
+		} catch (RuntimeException exception) {
+			accepted.forEach(task -> seatInventoryManager.evict(task.onStageId()));
+			if (accepted.size() == 1) {
+				log.warn("{}: 좌석 변경 저장 실패", accepted.get(0).onStageId(), exception);
+				accepted.get(0).result().completeExceptionally(exception);
+				return;
+			}
+			accepted.forEach(task -> process(List.of(task)));
+			return;
+		}
+
+		changedInventories.forEach(seatInventoryManager::commit);
+		decisions.forEach(decision -> decision.events().forEach(eventPublisher::publishEvent));
+		accepted.forEach(task -> task.result().complete(null));
+	}
+
+	private record Task(Long onStageId, SeatCommand command, CompletableFuture<Void> result) {
+	}
+
+	private class Shard {
+
+		private final BlockingQueue<Task> queue = new ArrayBlockingQueue<>(queueSize);
+		private final Thread thread;
+
+		private Shard(int index) {
+			this.thread = new Thread(this::run, "SeatCommand-" + index);
+			this.thread.setDaemon(true);
+		}
+
+		private void run() {
+			List<Task> tasks = new ArrayList<>(batchSize);
+			while (!Thread.currentThread().isInterrupted()) {
+				try {
+					tasks.add(queue.take());
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				queue.drainTo(tasks, batchSize - 1);
+				try {
+					process(tasks);
+				} catch (RuntimeException exception) {
+					log.error("좌석 변경 처리 중 예상하지 못한 오류", exception);
+					tasks.forEach(task -> {
+						seatInventoryManager.evict(task.onStageId());
+						task.result().completeExceptionally(exception);
+					});
+				}
+				tasks.clear();
+			}
+			rejectQueued();
+		}
+
+		private void rejectQueued() {
+			List<Task> rejected = new ArrayList<>();
+			queue.drainTo(rejected);
+			rejected.forEach(task -> task.result()
+				.completeExceptionally(new SeatCommandRejectedException(task.onStageId())));
+		}
+	}
+}
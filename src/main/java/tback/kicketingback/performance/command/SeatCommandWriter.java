@@ -0,0 +1,54 @@
+package tback.kicketingback.performance.command;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.exception.exceptions.SeatWriteConflictException;
+
+@Component
+@RequiredArgsConstructor
+public class SeatCommandWriter {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+
+	/**
+	 * 결정된 순서를 지키면서 같은 SQL 이 연속된 구간을 JDBC batch 하나로 저장하고, 함께 할 JPA 작업을 실행한다.
+	 * 한 행이라도 조건에 맞지 않으면 전체를 롤백한다.
+	 */
+	@Transactional
+	public void flush(List<SeatDecision> decisions) {
+		String sql = null;
+		List<Object[]> rows = new ArrayList<>();
+
+		for (SeatDecision decision : decisions) {
+			if (sql != null && !sql.equals(decision.sql())) {
+				batchUpdate(sql, rows);
+				rows = new ArrayList<>();
+			}
+			sql = decision.sql();
+			rows.addAll(decision.rows());
+		}
+		batchUpdate(sql, rows);
+
+		decisions.forEach(decision -> decision.writes().forEach(write -> write.accept(entityManager)));
+	}
+
+	private void batchUpdate(String sql, List<Object[]> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		for (int count : jdbcTemplate.batchUpdate(sql, rows)) {
+			if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+				throw new SeatWriteConflictException();
+			}
+		}
+	}
+}
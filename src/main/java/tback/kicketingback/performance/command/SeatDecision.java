@@ -0,0 +1,23 @@
+package tback.kicketingback.performance.command;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.persistence.EntityManager;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+
+/**
+ * 인벤토리에 반영할 이벤트와, 같은 변경을 reservation 테이블에 저장할 SQL 및 행별 파라미터.
+ * writes 는 좌석 변경과 같은 트랜잭션에서 함께 할 JPA 작업이다. 좌석 저장이 롤백되면 함께 롤백된다.
+ */
+public record SeatDecision(
+	List<SeatStateChangedEvent> events,
+	String sql,
+	List<Object[]> rows,
+	List<Consumer<EntityManager>> writes
+) {
+
+	public SeatDecision(List<SeatStateChangedEvent> events, String sql, List<Object[]> rows) {
+		this(events, sql, rows, List.of());
+	}
+}
@@ -0,0 +1,39 @@
+package tback.kicketingback.performance.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.ProvisionOnStagesRequest;
+import tback.kicketingback.performance.dto.ProvisionOnStagesResponse;
+import tback.kicketingback.performance.dto.ProvisionedOnStageDTO;
+import tback.kicketingback.performance.service.OnStageProvisioningService;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Validated
+public class OnStageProvisioningController {
+
+	private final OnStageProvisioningService onStageProvisioningService;
+
+	@PostMapping("/performance/{uuid}/on-stages")
+	public ResponseEntity<ProvisionOnStagesResponse> provisionOnStages(
+		@PathVariable("uuid") UUID performanceUUID,
+		@RequestBody @Valid ProvisionOnStagesRequest provisionOnStagesRequest
+	) {
+		List<ProvisionedOnStageDTO> provisionedOnStages = onStageProvisioningService.provision(performanceUUID,
+			provisionOnStagesRequest);
+
+		return ResponseEntity.ok(new ProvisionOnStagesResponse(provisionedOnStages));
+	}
+}
@@ -0,0 +1,34 @@
+package tback.kicketingback.performance.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.service.PerformanceService;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class PerformanceCacheController {
+
+	private final PerformanceService performanceService;
+
+	@DeleteMapping("/performance/{uuid}/cache")
+	public ResponseEntity<Void> evictPerformance(@PathVariable("uuid") UUID performanceUUID) {
+		performanceService.evictPerformance(performanceUUID);
+
+		return ResponseEntity.ok().build();
+	}
+
+	@DeleteMapping("/performances/cache")
+	public ResponseEntity<Void> evictAllPerformances() {
+		performanceService.evictAllPerformances();
+
+		return ResponseEntity.ok().build();
+	}
+}
@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import tback.kicketingback.performance.dto.DetailPerformanceDTO;
 import tback.kicketingback.performance.dto.GetBookableDatesRequest;
 import tback.kicketingback.performance.dto.GetBookableDatesResponse;
 import tback.kicketingback.performance.dto.GetBookableSeatsResponse;
+import tback.kicketingback.performance.dto.GetPerformanceDetailsResponse;
 import tback.kicketingback.performance.dto.GetPerformancesRequest;
 import tback.kicketingback.performance.dto.GetPerformancesResponse;
 import tback.kicketingback.performance.dto.SeatGradeCount;
@@ -52,6 +55,18 @@ public class PerformanceController {
 		return ResponseEntity.ok().body(getPerformancesResponse);
 	}
 
+	/**
+	 * @param performanceUUIDs(query string): ids=uuid1,uuid2,... 최대 50 개, 없는 공연은 응답에서 빠짐
+	 */
+	@GetMapping("/performances/batch")
+	public ResponseEntity<GetPerformanceDetailsResponse> getPerformanceDetails(
+		@RequestParam("ids") List<UUID> performanceUUIDs
+	) {
+		List<DetailPerformanceDTO> performances = performanceService.getPerformances(performanceUUIDs);
+
+		return ResponseEntity.ok(new GetPerformanceDetailsResponse(performances));
+	}
+
 	@GetMapping("/performance/{uuid}")
 	public ResponseEntity<DetailPerformanceDTO> getPerformance(
 		@PathVariable("uuid") UUID performanceUUID
@@ -74,11 +89,17 @@ public class PerformanceController {
 
 	@GetMapping("/performance/{onStageId}/bookable-seats")
 	public ResponseEntity<GetBookableSeatsResponse> getBookableSeats(
-		@PathVariable("onStageId") Long onStageID
+		@PathVariable("onStageId") Long onStageID,
+		WebRequest webRequest
 	) {
+		String seatMapETag = reservationService.getSeatMapETag(onStageID);
+		if (webRequest.checkNotModified(seatMapETag)) {
+			return null;
+		}
+
 		List<SeatGradeCount> seatGradeCounts = reservationService.getUnorderedReservationsCountByGrade(onStageID);
 
 		GetBookableSeatsResponse getBookableSeatsResponse = new GetBookableSeatsResponse(seatGradeCounts);
-		return ResponseEntity.ok(getBookableSeatsResponse);
+		return ResponseEntity.ok().eTag(seatMapETag).body(getBookableSeatsResponse);
 	}
 }
@@ -1,7 +1,14 @@
 package tback.kicketingback.performance.controller;
 
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +17,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +26,13 @@ import tback.kicketingback.auth.jwt.JwtLogin;
 import tback.kicketingback.performance.domain.type.DiscountType;
 import tback.kicketingback.performance.dto.CompleteReservationRequest;
 import tback.kicketingback.performance.dto.GetSeatInfoResponse;
+import tback.kicketingback.performance.dto.SeatAvailability;
+import tback.kicketingback.performance.dto.SeatLayoutResponse;
+import tback.kicketingback.performance.dto.SelectBestSeatsRequest;
+import tback.kicketingback.performance.dto.SelectBestSeatsResponse;
 import tback.kicketingback.performance.dto.SelectSeatsRequest;
 import tback.kicketingback.performance.service.ReservationService;
+import tback.kicketingback.performance.util.SeatBitmapUtil;
 import tback.kicketingback.user.domain.User;
 
 @RestController
@@ -32,11 +46,58 @@ public class ReservationController {
 	@GetMapping("/{uuid}/{onStageId}")
 	public ResponseEntity<GetSeatInfoResponse> getSeatInfo(
 		@PathVariable("uuid") UUID performanceUUID,
-		@PathVariable("onStageId") Long onStageId
+		@PathVariable("onStageId") Long onStageId,
+		WebRequest webRequest
 	) {
+		String seatMapETag = reservationService.getSeatMapETag(performanceUUID, onStageId);
+		if (webRequest.checkNotModified(seatMapETag)) {
+			return null;
+		}
+
 		GetSeatInfoResponse seatInfo = reservationService.getSeatInfo(performanceUUID, onStageId);
 
-		return ResponseEntity.ok(seatInfo);
+		return ResponseEntity.ok().eTag(seatMapETag).varyBy(HttpHeaders.ACCEPT).body(seatInfo);
+	}
+
+	@GetMapping(value = "/{uuid}/{onStageId}", produces = SeatBitmapUtil.BITMAP_VALUE)
+	public ResponseEntity<byte[]> getSeatBitmap(
+		@PathVariable("uuid") UUID performanceUUID,
+		@PathVariable("onStageId") Long onStageId,
+		WebRequest webRequest
+	) {
+		return getEncodedSeatAvailability(performanceUUID, onStageId, webRequest, "bitmap",
+			SeatBitmapUtil::toBitmap);
+	}
+
+	@GetMapping(value = "/{uuid}/{onStageId}", produces = SeatBitmapUtil.RUN_LENGTH_VALUE)
+	public ResponseEntity<byte[]> getSeatRunLength(
+		@PathVariable("uuid") UUID performanceUUID,
+		@PathVariable("onStageId") Long onStageId,
+		WebRequest webRequest
+	) {
+		return getEncodedSeatAvailability(performanceUUID, onStageId, webRequest, "rle",
+			SeatBitmapUtil::toRunLength);
+	}
+
+	/**
+	 * bitmap, run-length 응답의 index 순서. 회차 동안 바뀌지 않으므로 한 번 받아 캐시해 둔다.
+	 */
+	@GetMapping("/{uuid}/{onStageId}/layout")
+	public ResponseEntity<SeatLayoutResponse> getSeatLayout(
+		@PathVariable("uuid") UUID performanceUUID,
+		@PathVariable("onStageId") Long onStageId
+	) {
+		SeatLayoutResponse seatLayout = reservationService.getSeatLayout(performanceUUID, onStageId);
+
+		return ResponseEntity.ok().cacheControl(CacheControl.maxAge(Duration.ofDays(1))).body(seatLayout);
+	}
+
+	@GetMapping(value = "/{uuid}/{onStageId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeSeatMap(
+		@PathVariable("uuid") UUID performanceUUID,
+		@PathVariable("onStageId") Long onStageId
+	) {
+		return reservationService.subscribeSeatMap(performanceUUID, onStageId);
 	}
 
 	@PostMapping("/{onStageId}")
@@ -49,6 +110,18 @@ public class ReservationController {
 		return ResponseEntity.ok().build();
 	}
 
+	@PostMapping("/{onStageId}/best-available")
+	public ResponseEntity<SelectBestSeatsResponse> lockBestSeats(
+		@JwtLogin User user,
+		@PathVariable("onStageId") Long onStageId,
+		@RequestBody @Valid SelectBestSeatsRequest selectBestSeatsRequest
+	) {
+		List<Long> seatIds = reservationService.lockBestSeats(onStageId, selectBestSeatsRequest.grade(),
+			selectBestSeatsRequest.count(), user);
+
+		return ResponseEntity.ok(new SelectBestSeatsResponse(seatIds));
+	}
+
 	@PostMapping("/{onStageId}/{orderNumber}")
 	public ResponseEntity<Void> completeReservation(
 		@JwtLogin User user,
@@ -67,4 +140,22 @@ public class ReservationController {
 
 		return ResponseEntity.ok().build();
 	}
+
+	private ResponseEntity<byte[]> getEncodedSeatAvailability(
+		UUID performanceUUID,
+		Long onStageId,
+		WebRequest webRequest,
+		String encoding,
+		BiFunction<BitSet, Integer, byte[]> encoder
+	) {
+		String seatMapETag = reservationService.getSeatMapETag(performanceUUID, onStageId) + "-" + encoding;
+		if (webRequest.checkNotModified(seatMapETag)) {
+			return null;
+		}
+
+		SeatAvailability seatAvailability = reservationService.getSeatAvailability(performanceUUID, onStageId);
+		byte[] body = encoder.apply(seatAvailability.bookableSeats(), seatAvailability.size());
+
+		return ResponseEntity.ok().eTag(seatMapETag).varyBy(HttpHeaders.ACCEPT).body(body);
+	}
 }
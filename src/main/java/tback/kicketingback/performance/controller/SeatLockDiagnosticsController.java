@@ -0,0 +1,32 @@
+package tback.kicketingback.performance.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.SeatLockDiagnosticsResponse;
+import tback.kicketingback.performance.metrics.SeatLockMetrics;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Validated
+public class SeatLockDiagnosticsController {
+
+	private final SeatLockMetrics seatLockMetrics;
+
+	@GetMapping("/diagnostics/seat-locks")
+	public ResponseEntity<SeatLockDiagnosticsResponse> getSeatLockDiagnostics(
+		@RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(100) int limit,
+		@RequestParam(value = "seatLimit", defaultValue = "10") @Min(1) @Max(100) int seatLimit
+	) {
+		return ResponseEntity.ok(new SeatLockDiagnosticsResponse(seatLockMetrics.getWindow(),
+			seatLockMetrics.getHottestOnStages(limit, seatLimit)));
+	}
+}
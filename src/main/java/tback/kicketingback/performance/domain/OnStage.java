@@ -10,10 +10,13 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"performance_id", "date_time"}))
 public class OnStage {
 
 	@Id
@@ -29,4 +32,17 @@ public class OnStage {
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "performance_id", nullable = false)
 	private Performance performance;
+
+	protected OnStage() {
+	}
+
+	private OnStage(Performance performance, LocalDateTime dateTime, int round) {
+		this.performance = performance;
+		this.dateTime = dateTime;
+		this.round = round;
+	}
+
+	public static OnStage of(Performance performance, LocalDateTime dateTime, int round) {
+		return new OnStage(performance, dateTime, round);
+	}
 }
@@ -0,0 +1,99 @@
+package tback.kicketingback.performance.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import tback.kicketingback.global.dto.BaseTimeEntity;
+import tback.kicketingback.performance.domain.type.OutboxStatus;
+
+/**
+ * 예매 취소 트랜잭션 안에서 남기는 결제 취소 요청. 결제 서버 호출은 PaymentCancelDispatcher 가 커밋 후에 한다.
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(columnList = "status, nextAttemptAt"))
+public class PaymentCancelOutbox extends BaseTimeEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, unique = true)
+	private String orderNumber;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private OutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	@Comment("다음 결제 취소 시도 시각")
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Version
+	private long version;
+
+	protected PaymentCancelOutbox() {
+	}
+
+	private PaymentCancelOutbox(String orderNumber, LocalDateTime nextAttemptAt) {
+		this.orderNumber = orderNumber;
+		this.status = OutboxStatus.PENDING;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public static PaymentCancelOutbox of(String orderNumber, LocalDateTime now) {
+		return new PaymentCancelOutbox(orderNumber, now);
+	}
+
+	/**
+	 * 보내는 동안 다시 읽히지 않도록 다음 시도 시각을 미룬다. 보내던 서버가 죽으면 claimedUntil 이 지난 뒤 다시 보낸다.
+	 */
+	public void claim(LocalDateTime claimedUntil) {
+		this.nextAttemptAt = claimedUntil;
+	}
+
+	public void sent() {
+		attempts++;
+		status = OutboxStatus.SENT;
+		lastError = null;
+	}
+
+	public void retryAt(LocalDateTime nextAttemptAt, String error) {
+		attempts++;
+		this.nextAttemptAt = nextAttemptAt;
+		this.lastError = truncate(error);
+	}
+
+	public void fail(String error) {
+		attempts++;
+		status = OutboxStatus.FAILED;
+		lastError = truncate(error);
+	}
+
+	private String truncate(String error) {
+		if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+			return error;
+		}
+		return error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
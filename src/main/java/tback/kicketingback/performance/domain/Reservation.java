@@ -16,6 +16,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import tback.kicketingback.performance.domain.type.DiscountType;
@@ -24,6 +27,7 @@ import tback.kicketingback.user.domain.User;
 @Entity
 @Getter
 @Setter
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"on_stage_id", "seat_id"}))
 public class Reservation {
 
 	@Id
@@ -57,6 +61,9 @@ public class Reservation {
 	@Column
 	private LocalDateTime lockExpiredTime;
 
+	@Version
+	private long version;
+
 	protected Reservation() {
 	}
 }
@@ -0,0 +1,138 @@
+package tback.kicketingback.performance.domain;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import tback.kicketingback.global.dto.BaseTimeEntity;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.PaymentStatus;
+import tback.kicketingback.performance.exception.exceptions.InvalidPaymentStatusException;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 결제 서버 호출 전후의 예매 진행 상태. 중간에 서버가 죽어도 ReservationPaymentResolver 가 이어서 마무리한다.
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(columnList = "status"))
+public class ReservationPayment extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, unique = true)
+	private String orderNumber;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(nullable = false)
+	private Long onStageId;
+
+	@Column(nullable = false)
+	@Comment("쉼표로 구분한 좌석 ID")
+	private String seatIds;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private DiscountType discountType;
+
+	@Column(nullable = false)
+	private int price;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private PaymentStatus status;
+
+	@Column(nullable = false)
+	@Comment("결제를 기다리는 동안 늘려 둔 좌석 점유 만료 시각")
+	private LocalDateTime pendingUntil;
+
+	@Version
+	private long version;
+
+	protected ReservationPayment() {
+	}
+
+	private ReservationPayment(
+		String orderNumber, User user, Long onStageId, String seatIds, DiscountType discountType, int price,
+		LocalDateTime pendingUntil
+	) {
+		this.orderNumber = orderNumber;
+		this.user = user;
+		this.onStageId = onStageId;
+		this.seatIds = seatIds;
+		this.discountType = discountType;
+		this.price = price;
+		this.status = PaymentStatus.PENDING;
+		this.pendingUntil = pendingUntil;
+	}
+
+	public static ReservationPayment pending(
+		String orderNumber, User user, Long onStageId, List<Long> seatIds, DiscountType discountType, int price,
+		LocalDateTime pendingUntil
+	) {
+		String joinedSeatIds = seatIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+		return new ReservationPayment(orderNumber, user, onStageId, joinedSeatIds, discountType, price, pendingUntil);
+	}
+
+	public List<Long> getSeatIdList() {
+		return Arrays.stream(seatIds.split(",")).map(Long::valueOf).toList();
+	}
+
+	/**
+	 * 같은 회차, 같은 좌석(순서 무관), 같은 할인으로 남긴 결제인지 확인한다.
+	 */
+	public boolean isFor(Long onStageId, List<Long> seatIds, DiscountType discountType) {
+		return this.onStageId.equals(onStageId)
+			&& this.discountType == discountType
+			&& getSeatIdList().stream().sorted().toList().equals(seatIds.stream().sorted().toList());
+	}
+
+	public void verify() {
+		changeStatus(PaymentStatus.PENDING, PaymentStatus.VERIFIED);
+	}
+
+	public void fail() {
+		changeStatus(PaymentStatus.PENDING, PaymentStatus.FAILED);
+	}
+
+	public void complete() {
+		changeStatus(PaymentStatus.VERIFIED, PaymentStatus.COMPLETED);
+	}
+
+	public void startCompensation() {
+		changeStatus(PaymentStatus.VERIFIED, PaymentStatus.COMPENSATING);
+	}
+
+	public void compensate() {
+		changeStatus(PaymentStatus.COMPENSATING, PaymentStatus.COMPENSATED);
+	}
+
+	private void changeStatus(PaymentStatus from, PaymentStatus to) {
+		if (status != from) {
+			throw new InvalidPaymentStatusException(orderNumber, status);
+		}
+		status = to;
+	}
+}
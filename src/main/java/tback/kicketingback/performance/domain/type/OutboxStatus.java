@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.domain.type;
+
+public enum OutboxStatus {
+	PENDING,
+	SENT,
+	FAILED
+}
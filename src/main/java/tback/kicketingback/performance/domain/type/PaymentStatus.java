@@ -0,0 +1,22 @@
+package tback.kicketingback.performance.domain.type;
+
+/**
+ * 예매 결제 진행 상태.
+ * PENDING -> VERIFIED -> COMPLETED 가 정상 흐름이고,
+ * 결제 서버가 거절하면 FAILED, 결제 확인 후 좌석을 확정하지 못하면 COMPENSATING -> COMPENSATED 로 끝난다.
+ */
+public enum PaymentStatus {
+	PENDING,
+	VERIFIED,
+	COMPLETED,
+	FAILED,
+	COMPENSATING,
+	COMPENSATED;
+
+	/**
+	 * 같은 주문 번호로 다시 요청하면 남은 단계부터 이어서 진행할 수 있는 상태
+	 */
+	public boolean isResumable() {
+		return this == PENDING || this == VERIFIED;
+	}
+}
@@ -6,6 +6,9 @@ import tback.kicketingback.performance.exception.exceptions.InvalidGetPerformanc
 @Getter
 public class GetPerformancesSize {
 
+	public static final int MIN_SIZE = 10;
+	public static final int MAX_SIZE = 50;
+
 	private final int anInt;
 
 	public static GetPerformancesSize of(int size) {
@@ -18,7 +21,7 @@ public class GetPerformancesSize {
 	}
 
 	private void validatePerformanceSize(int size) {
-		if (size < 10 || size > 50) {
+		if (size < MIN_SIZE || size > MAX_SIZE) {
 			throw new InvalidGetPerformanceSizeException(size);
 		}
 	}
@@ -0,0 +1,10 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.LocalDateTime;
+
+public record HeldSeatDTO(
+	Long seatId,
+	Long userId,
+	LocalDateTime lockExpiredTime
+) {
+}
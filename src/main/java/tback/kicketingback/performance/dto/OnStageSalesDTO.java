@@ -0,0 +1,11 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.LocalDateTime;
+
+public record OnStageSalesDTO(
+	Long onStageId,
+	LocalDateTime dateTime,
+	SimplePerformancePlaceDTO simplePerformancePlaceDTO,
+	Long soldCount
+) {
+}
@@ -0,0 +1,24 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * startDate ~ endDate 중 daysOfWeek(비어 있으면 매일)마다 times 시각의 회차를 만든다.
+ */
+public record ProvisionOnStagesRequest(
+	@NotNull(message = "시작 날짜를 입력하지 않음")
+	LocalDate startDate,
+	@NotNull(message = "종료 날짜를 입력하지 않음")
+	LocalDate endDate,
+	@NotEmpty(message = "회차 시각을 입력하지 않음")
+	List<LocalTime> times,
+	Set<DayOfWeek> daysOfWeek
+) {
+}
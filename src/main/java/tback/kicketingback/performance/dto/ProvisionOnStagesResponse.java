@@ -0,0 +1,8 @@
+package tback.kicketingback.performance.dto;
+
+import java.util.List;
+
+public record ProvisionOnStagesResponse(
+	List<ProvisionedOnStageDTO> onStages
+) {
+}
@@ -0,0 +1,14 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param createdSeats 이번 요청에서 새로 만든 좌석 재고 수, 이미 만들어진 회차를 다시 요청하면 0
+ */
+public record ProvisionedOnStageDTO(
+	Long onStageId,
+	LocalDateTime dateTime,
+	int round,
+	int createdSeats
+) {
+}
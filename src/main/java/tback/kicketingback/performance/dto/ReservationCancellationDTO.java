@@ -0,0 +1,56 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import tback.kicketingback.performance.domain.CanceledReservation;
+import tback.kicketingback.performance.domain.OnStage;
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+import tback.kicketingback.performance.domain.Performance;
+import tback.kicketingback.performance.domain.Place;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 취소할 수 있는지 확인을 마친 예매와, 결제 취소 요청 및 취소 내역을 만드는 데 필요한 정보.
+ * 저장이 실패해 다시 시도할 때마다 새 엔티티를 만들 수 있도록 엔티티 대신 재료를 들고 있는다.
+ * paymentCancelRequested 는 같은 주문 번호의 결제 취소 요청이 이미 남아 있는지를 나타낸다.
+ */
+public record ReservationCancellationDTO(
+	User user,
+	String orderNumber,
+	List<ReservationDTO> reservationDTOS,
+	Performance performance,
+	OnStage onStage,
+	Place place,
+	Map<Long, Seat> seats,
+	boolean paymentCancelRequested
+) {
+
+	public Long onStageId() {
+		return onStage.getId();
+	}
+
+	public List<Long> seatIds() {
+		return reservationDTOS.stream().map(ReservationDTO::getSeatId).toList();
+	}
+
+	/**
+	 * @return 결제 취소 요청이 이미 남아 있으면 빈 값
+	 */
+	public Optional<PaymentCancelOutbox> createPaymentCancelOutbox(LocalDateTime now) {
+		if (paymentCancelRequested) {
+			return Optional.empty();
+		}
+		return Optional.of(PaymentCancelOutbox.of(orderNumber, now));
+	}
+
+	public List<CanceledReservation> createCanceledReservations() {
+		return reservationDTOS.stream()
+			.map(reservationDTO -> CanceledReservation.of(reservationDTO, user, performance, onStage, place,
+				seats.get(reservationDTO.getSeatId())))
+			.toList();
+	}
+}
@@ -0,0 +1,12 @@
+package tback.kicketingback.performance.dto;
+
+import java.util.BitSet;
+
+/**
+ * @param bookableSeats 좌석 배치(SeatLayoutResponse) 순서의 index 별 예매 가능 여부
+ */
+public record SeatAvailability(
+	int size,
+	BitSet bookableSeats
+) {
+}
@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.dto;
+
+public record SeatDelta(
+	Long seatId,
+	boolean bookable
+) {
+}
@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.dto;
+
+public record SeatHoldDTO(
+	Long onStageId,
+	Long seatId
+) {
+}
@@ -0,0 +1,9 @@
+package tback.kicketingback.performance.dto;
+
+import java.util.List;
+
+public record SeatLayoutResponse(
+	List<SimpleSeatDTO> seats,
+	List<SeatGradeDTO> seatGradeDTOS
+) {
+}
@@ -0,0 +1,15 @@
+package tback.kicketingback.performance.dto;
+
+import java.util.List;
+
+public record SeatLockContentionDTO(
+	Long onStageId,
+	long conflicts,
+	long lockWaits,
+	double lockWaitMeanMillis,
+	double lockWaitMaxMillis,
+	long deadlocks,
+	long lockTimeouts,
+	List<HotSeatDTO> hotSeats
+) {
+}
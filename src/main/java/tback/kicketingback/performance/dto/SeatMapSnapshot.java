@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.dto;
+
+public record SeatMapSnapshot(
+	long version,
+	GetSeatInfoResponse seatInfo
+) {
+}
@@ -0,0 +1,16 @@
+package tback.kicketingback.performance.dto;
+
+import java.time.LocalDateTime;
+
+import tback.kicketingback.performance.domain.type.Grade;
+
+public record SeatStateDTO(
+	Long seatId,
+	Grade grade,
+	String seatRow,
+	int seatCol,
+	Long userId,
+	LocalDateTime lockExpiredTime,
+	String orderNumber
+) {
+}
@@ -0,0 +1,15 @@
+package tback.kicketingback.performance.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import tback.kicketingback.performance.domain.type.Grade;
+
+public record SelectBestSeatsRequest(
+	@NotNull(message = "좌석 등급을 선택하지 않음")
+	Grade grade,
+	@Min(value = 1, message = "좌석 범위 넘음 [1 ~10개 가능]")
+	@Max(value = 10, message = "좌석 범위 넘음 [1 ~10개 가능]")
+	int count
+) {
+}
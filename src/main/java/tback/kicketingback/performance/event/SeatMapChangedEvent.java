@@ -0,0 +1,15 @@
+package tback.kicketingback.performance.event;
+
+import java.util.List;
+
+import tback.kicketingback.performance.dto.SeatDelta;
+
+/**
+ * 인벤토리에 반영된 뒤 예매 가능 여부가 바뀐 좌석. version 은 회차별로 1씩 증가한다.
+ */
+public record SeatMapChangedEvent(
+	Long onStageId,
+	long version,
+	List<SeatDelta> deltas
+) {
+}
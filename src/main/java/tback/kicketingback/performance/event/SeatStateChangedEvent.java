@@ -0,0 +1,36 @@
+package tback.kicketingback.performance.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SeatStateChangedEvent(
+	Long onStageId,
+	List<Long> seatIds,
+	SeatTransition transition,
+	Long userId,
+	LocalDateTime lockExpiredTime
+) {
+
+	public static SeatStateChangedEvent locked(
+		Long onStageId, List<Long> seatIds, Long userId, LocalDateTime lockExpiredTime
+	) {
+		return new SeatStateChangedEvent(onStageId, seatIds, SeatTransition.LOCK, userId, lockExpiredTime);
+	}
+
+	public static SeatStateChangedEvent completed(Long onStageId, List<Long> seatIds, Long userId) {
+		return new SeatStateChangedEvent(onStageId, seatIds, SeatTransition.COMPLETE, userId, null);
+	}
+
+	public static SeatStateChangedEvent canceled(
+		Long onStageId, List<Long> seatIds, Long userId, LocalDateTime freeLockTime
+	) {
+		return new SeatStateChangedEvent(onStageId, seatIds, SeatTransition.CANCEL, userId, freeLockTime);
+	}
+
+	/**
+	 * expiredBefore 이전에 만료된 점유만 해제한다. 그 사이 다시 점유된 좌석은 그대로 둔다.
+	 */
+	public static SeatStateChangedEvent expired(Long onStageId, List<Long> seatIds, LocalDateTime expiredBefore) {
+		return new SeatStateChangedEvent(onStageId, seatIds, SeatTransition.EXPIRE, null, expiredBefore);
+	}
+}
@@ -0,0 +1,5 @@
+package tback.kicketingback.performance.event;
+
+public enum SeatTransition {
+	LOCK, COMPLETE, CANCEL, EXPIRE
+}
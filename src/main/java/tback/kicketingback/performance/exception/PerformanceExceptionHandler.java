@@ -8,14 +8,18 @@ import lombok.extern.slf4j.Slf4j;
 import tback.kicketingback.global.exception.AbstractExceptionHandler;
 import tback.kicketingback.performance.dto.AlreadySelectedSeatResponse;
 import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.DuplicateOrderNumberException;
 import tback.kicketingback.performance.exception.exceptions.DuplicateSeatSelectionException;
 import tback.kicketingback.performance.exception.exceptions.InvalidGenreException;
 import tback.kicketingback.performance.exception.exceptions.InvalidGetDiscountTypeException;
 import tback.kicketingback.performance.exception.exceptions.InvalidGetPerformanceDateUnitException;
 import tback.kicketingback.performance.exception.exceptions.InvalidGetPerformanceSizeException;
 import tback.kicketingback.performance.exception.exceptions.InvalidOnStageIDException;
+import tback.kicketingback.performance.exception.exceptions.InvalidOnStageScheduleException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPayCancelRequestException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPayRequestException;
+import tback.kicketingback.performance.exception.exceptions.InvalidPaymentStatusException;
+import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceBatchSizeException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceUUIDException;
 import tback.kicketingback.performance.exception.exceptions.InvalidReservationDataException;
@@ -24,6 +28,9 @@ import tback.kicketingback.performance.exception.exceptions.NoAvailableSeatsExce
 import tback.kicketingback.performance.exception.exceptions.NoSuchReservationException;
 import tback.kicketingback.performance.exception.exceptions.PaymentCancelServerErrorException;
 import tback.kicketingback.performance.exception.exceptions.PaymentServerErrorException;
+import tback.kicketingback.performance.exception.exceptions.RequestInProgressException;
+import tback.kicketingback.performance.exception.exceptions.SeatCommandRejectedException;
+import tback.kicketingback.performance.exception.exceptions.SeatWriteConflictException;
 import tback.kicketingback.performance.exception.exceptions.UnableCancelException;
 
 @RestControllerAdvice
@@ -46,6 +53,11 @@ public class PerformanceExceptionHandler extends AbstractExceptionHandler {
 		return getBadRequestResponseEntity(exception, exception.getMessage());
 	}
 
+	@ExceptionHandler(InvalidPerformanceBatchSizeException.class)
+	public ResponseEntity<String> invalidPerformanceBatchSizeException(InvalidPerformanceBatchSizeException exception) {
+		return getBadRequestResponseEntity(exception, exception.getMessage());
+	}
+
 	@ExceptionHandler(InvalidPerformanceUUIDException.class)
 	public ResponseEntity<String> invalidPerformanceUUIDException(InvalidPerformanceUUIDException exception) {
 		return getBadRequestResponseEntity(exception, exception.getMessage());
@@ -68,6 +80,11 @@ public class PerformanceExceptionHandler extends AbstractExceptionHandler {
 			new AlreadySelectedSeatResponse(exception.getMessage(), exception.getSeatRowCol()));
 	}
 
+	@ExceptionHandler(InvalidOnStageScheduleException.class)
+	public ResponseEntity<String> invalidOnStageScheduleException(InvalidOnStageScheduleException exception) {
+		return getBadRequestResponseEntity(exception, exception.getMessage());
+	}
+
 	@ExceptionHandler(InvalidPerformanceException.class)
 	public ResponseEntity<String> invalidPerformanceException(InvalidPerformanceException exception) {
 		return getBadRequestResponseEntity(exception, exception.getMessage());
@@ -123,4 +140,29 @@ public class PerformanceExceptionHandler extends AbstractExceptionHandler {
 	public ResponseEntity<String> paymentCancelServerErrorException(PaymentCancelServerErrorException exception) {
 		return getBadGatewayResponseEntity(exception, exception.getMessage());
 	}
+
+	@ExceptionHandler(SeatWriteConflictException.class)
+	public ResponseEntity<String> seatWriteConflictException(SeatWriteConflictException exception) {
+		return getConflictResponseEntity(exception, exception.getMessage());
+	}
+
+	@ExceptionHandler(SeatCommandRejectedException.class)
+	public ResponseEntity<String> seatCommandRejectedException(SeatCommandRejectedException exception) {
+		return getServiceUnavailableResponseEntity(exception, exception.getMessage());
+	}
+
+	@ExceptionHandler(DuplicateOrderNumberException.class)
+	public ResponseEntity<String> duplicateOrderNumberException(DuplicateOrderNumberException exception) {
+		return getConflictResponseEntity(exception, exception.getMessage());
+	}
+
+	@ExceptionHandler(InvalidPaymentStatusException.class)
+	public ResponseEntity<String> invalidPaymentStatusException(InvalidPaymentStatusException exception) {
+		return getConflictResponseEntity(exception, exception.getMessage());
+	}
+
+	@ExceptionHandler(RequestInProgressException.class)
+	public ResponseEntity<String> requestInProgressException(RequestInProgressException exception) {
+		return getConflictResponseEntity(exception, exception.getMessage());
+	}
 }
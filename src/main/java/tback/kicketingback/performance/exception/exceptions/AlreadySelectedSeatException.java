@@ -10,16 +10,22 @@ import tback.kicketingback.performance.dto.SeatRowCol;
 public class AlreadySelectedSeatException extends RuntimeException {
 
 	private final List<SeatRowCol> seatRowCol;
+	private final List<Long> seatIds;
 
-	private AlreadySelectedSeatException(List<SeatRowCol> seatRowCol) {
+	private AlreadySelectedSeatException(List<SeatRowCol> seatRowCol, List<Long> seatIds) {
 		super("이미 예약된 좌석");
 		this.seatRowCol = seatRowCol;
+		this.seatIds = seatIds;
 	}
 
 	public static AlreadySelectedSeatException of(List<Seat> seats) {
 		List<SeatRowCol> rowCols = seats.stream()
 			.map(seat -> new SeatRowCol(seat.getSeatCol(), seat.getSeatRow()))
 			.toList();
-		return new AlreadySelectedSeatException(rowCols);
+		return new AlreadySelectedSeatException(rowCols, seats.stream().map(Seat::getId).toList());
+	}
+
+	public static AlreadySelectedSeatException from(List<SeatRowCol> seatRowCols, List<Long> seatIds) {
+		return new AlreadySelectedSeatException(seatRowCols, seatIds);
 	}
 }
@@ -0,0 +1,8 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class DuplicateOrderNumberException extends RuntimeException {
+
+	public DuplicateOrderNumberException(String orderNumber) {
+		super("%s: 이미 처리 중이거나 처리된 주문 번호입니다.".formatted(orderNumber));
+	}
+}
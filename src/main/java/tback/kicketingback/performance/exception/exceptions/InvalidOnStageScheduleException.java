@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class InvalidOnStageScheduleException extends RuntimeException {
+	public InvalidOnStageScheduleException() {
+		super("공연 기간을 벗어나거나 순서가 잘못된 회차 일정");
+	}
+}
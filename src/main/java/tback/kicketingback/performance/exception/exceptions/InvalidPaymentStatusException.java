@@ -0,0 +1,10 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+import tback.kicketingback.performance.domain.type.PaymentStatus;
+
+public class InvalidPaymentStatusException extends RuntimeException {
+
+	public InvalidPaymentStatusException(String orderNumber, PaymentStatus status) {
+		super("%s: 이미 %s 상태인 결제입니다.".formatted(orderNumber, status));
+	}
+}
@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class InvalidPerformanceBatchSizeException extends RuntimeException {
+	public InvalidPerformanceBatchSizeException(int size) {
+		super("%d: 유효하지 않은 공연 조회 개수 [범위 초과]".formatted(size));
+	}
+}
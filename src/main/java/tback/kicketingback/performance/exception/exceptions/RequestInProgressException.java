@@ -0,0 +1,8 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class RequestInProgressException extends RuntimeException {
+
+	public RequestInProgressException(String orderNumber) {
+		super("%s: 같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.".formatted(orderNumber));
+	}
+}
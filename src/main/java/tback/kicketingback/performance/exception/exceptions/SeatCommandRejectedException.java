@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class SeatCommandRejectedException extends RuntimeException {
+	public SeatCommandRejectedException(Long onStageId) {
+		super("%s: 요청이 많아 처리하지 못함, 잠시 후 다시 시도".formatted(onStageId));
+	}
+}
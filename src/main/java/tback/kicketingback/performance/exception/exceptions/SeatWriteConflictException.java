@@ -0,0 +1,7 @@
+package tback.kicketingback.performance.exception.exceptions;
+
+public class SeatWriteConflictException extends RuntimeException {
+	public SeatWriteConflictException() {
+		super("좌석 상태가 변경되어 요청을 처리하지 못함");
+	}
+}
@@ -0,0 +1,118 @@
+package tback.kicketingback.performance.hold;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.domain.Reservation;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.metrics.SeatLockMetrics;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 빈 좌석만 점유하는 조건부 UPDATE 한 번으로 점유자와 점유 만료 시각을 기록한다.
+ * 점유한 행 수가 모자라면 그때만 좌석을 다시 읽어 충돌 좌석을 알려 주고 전체를 롤백한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseSeatHoldHandler implements SeatHoldHandler {
+
+	@Value("${reservation-policy.lock-time}")
+	private int lockTime;
+
+	protected final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SeatLockMetrics seatLockMetrics;
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public void hold(Long onStageId, List<Long> seatIds, User user) {
+		// DB 컬럼 정밀도와 상관없이 점유 실패 때 이번 요청이 점유한 행을 구분할 수 있도록 초 단위로 자른다
+		LocalDateTime lockExpiredTime = LocalDateTime.now().plusMinutes(lockTime).truncatedTo(ChronoUnit.SECONDS);
+
+		holdSeats(onStageId, seatIds, user, lockExpiredTime);
+		eventPublisher.publishEvent(SeatStateChangedEvent.locked(onStageId, seatIds, user.getId(), lockExpiredTime));
+	}
+
+	protected void holdSeats(Long onStageId, List<Long> seatIds, User user, LocalDateTime lockExpiredTime) {
+		long heldCount = seatLockMetrics.recordLockWait(onStageId, "hold",
+			() -> reservationRepositoryCustom.holdFreeSeats(onStageId, seatIds, user, lockExpiredTime));
+		if (heldCount == seatIds.size()) {
+			return;
+		}
+
+		List<SeatReservationDTO> seatReservationDTOS = reservationRepositoryCustom.findUnlockedSeats(onStageId,
+			seatIds);
+		if (seatIds.size() != seatReservationDTOS.size()) {
+			throw new InvalidSeatIdException();
+		}
+		List<Seat> conflictSeats = seatReservationDTOS.stream()
+			.filter(seatReservationDTO -> !isHeldBy(seatReservationDTO.reservation(), user, lockExpiredTime))
+			.map(SeatReservationDTO::seat)
+			.toList();
+		throw AlreadySelectedSeatException.of(conflictSeats);
+	}
+
+	@Override
+	public void checkHolder(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user) {
+		List<Seat> mySeats = seatReservationDTOS.stream()
+			.filter(seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() == null
+				&& seatReservationDTO.reservation().getUser() != null && seatReservationDTO.reservation()
+				.getUser()
+				.getId()
+				.equals(user.getId()) && seatReservationDTO.reservation().getLockExpiredTime() != null
+				&& seatReservationDTO.reservation().getLockExpiredTime().isAfter(LocalDateTime.now()))
+			.map(SeatReservationDTO::seat)
+			.toList();
+		if (mySeats.size() != seatReservationDTOS.size()) {
+			List<Seat> notMySeat = seatReservationDTOS.stream()
+				.map(SeatReservationDTO::seat)
+				.filter(seat -> !mySeats.contains(seat))
+				.toList();
+			throw AlreadySelectedSeatException.of(notMySeat);
+		}
+	}
+
+	@Override
+	public void extendHold(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user,
+		LocalDateTime lockExpiredTime) {
+		seatReservationDTOS.forEach(
+			seatReservationDTO -> seatReservationDTO.reservation().setLockExpiredTime(lockExpiredTime));
+		eventPublisher.publishEvent(SeatStateChangedEvent.locked(onStageId, getSeatIds(seatReservationDTOS),
+			user.getId(), lockExpiredTime));
+	}
+
+	protected void checkSelected(List<SeatReservationDTO> seatReservationDTOS) {
+		List<Seat> reservedSeats = seatReservationDTOS.stream()
+			.filter(seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() != null
+				|| seatReservationDTO.reservation().getUser() != null)
+			.map(SeatReservationDTO::seat)
+			.toList();
+		if (!reservedSeats.isEmpty()) {
+			throw AlreadySelectedSeatException.of(reservedSeats);
+		}
+	}
+
+	private List<Long> getSeatIds(List<SeatReservationDTO> seatReservationDTOS) {
+		return seatReservationDTOS.stream().map(seatReservationDTO -> seatReservationDTO.seat().getId()).toList();
+	}
+
+	private boolean isHeldBy(Reservation reservation, User user, LocalDateTime lockExpiredTime) {
+		return reservation.getOrderNumber() == null
+			&& reservation.getUser() != null
+			&& reservation.getUser().getId().equals(user.getId())
+			&& lockExpiredTime.equals(reservation.getLockExpiredTime());
+	}
+}
@@ -0,0 +1,44 @@
+package tback.kicketingback.performance.hold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.metrics.SeatLockMetrics;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * reservation 행을 락 없이 읽고, 커밋 때 version 이 그대로인 행만 점유한다.
+ * 그 사이 다른 요청이 행을 바꿨으면 ObjectOptimisticLockingFailureException 으로 전체가 롤백된다.
+ */
+@Component
+public class OptimisticSeatHoldHandler extends DatabaseSeatHoldHandler {
+
+	public OptimisticSeatHoldHandler(
+		ReservationRepositoryCustom reservationRepositoryCustom,
+		ApplicationEventPublisher eventPublisher,
+		SeatLockMetrics seatLockMetrics
+	) {
+		super(reservationRepositoryCustom, eventPublisher, seatLockMetrics);
+	}
+
+	@Override
+	protected void holdSeats(Long onStageId, List<Long> seatIds, User user, LocalDateTime lockExpiredTime) {
+		List<SeatReservationDTO> seatReservationDTOS = reservationRepositoryCustom.findUnlockedSeats(onStageId,
+			seatIds);
+		if (seatIds.size() != seatReservationDTOS.size()) {
+			throw new InvalidSeatIdException();
+		}
+		checkSelected(seatReservationDTOS);
+
+		seatReservationDTOS.forEach(seatReservationDTO -> {
+			seatReservationDTO.reservation().setUser(user);
+			seatReservationDTO.reservation().setLockExpiredTime(lockExpiredTime);
+		});
+	}
+}
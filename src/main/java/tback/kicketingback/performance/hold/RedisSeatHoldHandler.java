@@ -0,0 +1,112 @@
+package tback.kicketingback.performance.hold;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.event.SeatTransition;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.inventory.SeatInventoryManager;
+import tback.kicketingback.performance.repository.SeatHoldRedisRepository;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 점유는 Redis 에만 기록하고 reservation 행은 completeReservation 에서 한 번만 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSeatHoldHandler implements SeatHoldHandler {
+
+	@Value("${reservation-policy.lock-time}")
+	private int lockTime;
+
+	private final SeatInventoryManager seatInventoryManager;
+	private final SeatHoldRedisRepository seatHoldRedisRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public void hold(Long onStageId, List<Long> seatIds, User user) {
+		SeatInventory seatInventory = seatInventoryManager.getInventory(onStageId);
+		if (seatIds.stream().distinct().count() != seatIds.size() || !seatInventory.containsAll(seatIds)) {
+			throw new InvalidSeatIdException();
+		}
+
+		List<Long> unavailableSeatIds = seatInventory.findUnavailableSeatIds(seatIds, user.getId());
+		if (!unavailableSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.from(seatInventory.getSeatRowCols(unavailableSeatIds),
+				unavailableSeatIds);
+		}
+
+		LocalDateTime lockExpiredTime = LocalDateTime.now().plusMinutes(lockTime);
+		List<Long> conflictSeatIds = seatHoldRedisRepository.hold(onStageId, seatIds, user.getId(),
+			Duration.ofMinutes(lockTime));
+		if (!conflictSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.from(seatInventory.getSeatRowCols(conflictSeatIds),
+				conflictSeatIds);
+		}
+		eventPublisher.publishEvent(SeatStateChangedEvent.locked(onStageId, seatIds, user.getId(), lockExpiredTime));
+	}
+
+	/**
+	 * 예매가 커밋된 좌석은 판매 상태로 막히므로 남은 점유 키를 바로 지운다.
+	 */
+	@TransactionalEventListener
+	public void onSeatStateChanged(SeatStateChangedEvent event) {
+		if (event.transition() == SeatTransition.COMPLETE) {
+			seatHoldRedisRepository.release(event.onStageId(), event.seatIds(), event.userId());
+		}
+	}
+
+	/**
+	 * 같은 사용자의 점유 키는 다시 SET 해도 충돌하지 않으므로 TTL 만 새로 잡힌다.
+	 */
+	@Override
+	public void extendHold(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user,
+		LocalDateTime lockExpiredTime) {
+		List<Long> seatIds = seatReservationDTOS.stream()
+			.map(seatReservationDTO -> seatReservationDTO.seat().getId())
+			.toList();
+		List<Long> conflictSeatIds = seatHoldRedisRepository.hold(onStageId, seatIds, user.getId(),
+			Duration.between(LocalDateTime.now(), lockExpiredTime));
+		if (!conflictSeatIds.isEmpty()) {
+			throw AlreadySelectedSeatException.of(seatReservationDTOS.stream()
+				.map(SeatReservationDTO::seat)
+				.filter(seat -> conflictSeatIds.contains(seat.getId()))
+				.toList());
+		}
+		eventPublisher.publishEvent(SeatStateChangedEvent.locked(onStageId, seatIds, user.getId(), lockExpiredTime));
+	}
+
+	@Override
+	public void checkHolder(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user) {
+		List<Seat> soldSeats = seatReservationDTOS.stream()
+			.filter(seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() != null)
+			.map(SeatReservationDTO::seat)
+			.toList();
+		if (!soldSeats.isEmpty()) {
+			throw AlreadySelectedSeatException.of(soldSeats);
+		}
+
+		List<Long> seatIds = seatReservationDTOS.stream().map(seatReservationDTO -> seatReservationDTO.seat().getId())
+			.toList();
+		List<Long> notHeldSeatIds = seatHoldRedisRepository.findNotHeldBy(onStageId, seatIds, user.getId());
+		if (!notHeldSeatIds.isEmpty()) {
+			List<Seat> notMySeats = seatReservationDTOS.stream()
+				.map(SeatReservationDTO::seat)
+				.filter(seat -> notHeldSeatIds.contains(seat.getId()))
+				.toList();
+			throw AlreadySelectedSeatException.of(notMySeats);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package tback.kicketingback.performance.hold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.user.domain.User;
+
+public interface SeatHoldHandler {
+
+	void hold(Long onStageId, List<Long> seatIds, User user);
+
+	void checkHolder(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user);
+
+	/**
+	 * checkHolder 를 통과한 좌석의 점유 만료 시각을 lockExpiredTime 으로 늦춘다.
+	 */
+	void extendHold(Long onStageId, List<SeatReservationDTO> seatReservationDTOS, User user,
+		LocalDateTime lockExpiredTime);
+}
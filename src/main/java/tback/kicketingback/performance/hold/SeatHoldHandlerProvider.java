@@ -0,0 +1,36 @@
+package tback.kicketingback.performance.hold;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SeatHoldHandlerProvider {
+
+	private static final String OPTIMISTIC_MODE = "optimistic";
+
+	@Value("${reservation-policy.hold-mode}")
+	private String holdMode;
+
+	@Value("${reservation-policy.optimistic-on-stages}")
+	private Set<Long> optimisticOnStageIds;
+
+	private final Map<String, SeatHoldHandler> seatHoldHandlers;
+
+	/**
+	 * 경합이 적은 회차는 배포 단위 설정(hold-mode)과 관계없이 optimistic 방식으로 점유할 수 있다.
+	 */
+	public SeatHoldHandler getSeatHoldHandler(Long onStageId) {
+		String mode = optimisticOnStageIds.contains(onStageId) ? OPTIMISTIC_MODE : holdMode;
+		SeatHoldHandler seatHoldHandler = seatHoldHandlers.get(mode + "SeatHoldHandler");
+		if (seatHoldHandler == null) {
+			throw new IllegalStateException("지원하지 않는 좌석 점유 방식: " + mode);
+		}
+		return seatHoldHandler;
+	}
+}
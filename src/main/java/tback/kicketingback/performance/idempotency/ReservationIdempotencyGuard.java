@@ -0,0 +1,145 @@
+package tback.kicketingback.performance.idempotency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.exception.exceptions.RequestInProgressException;
+import tback.kicketingback.performance.repository.IdempotencyRedisRepository;
+import tback.kicketingback.performance.repository.IdempotencyRedisRepository.State;
+
+/**
+ * (사용자, 작업, 주문 번호)가 같은 요청을 한 번만 처리한다.
+ * 이미 성공한 요청은 DB 나 결제 서버를 거치지 않고 바로 성공으로 끝나고, 처리 중인 요청이 있으면 그 결과를 기다린다.
+ * 실패한 요청은 기록을 지우므로 다시 보낸 요청은 처음부터 처리된다.
+ * 같은 서버의 중복 요청은 진행 중인 요청의 future 를, 다른 서버의 중복 요청은 Redis 키를 기다린다.
+ */
+@Slf4j
+@Component
+public class ReservationIdempotencyGuard {
+
+	private final Duration inFlightTtl;
+	private final Duration completedTtl;
+	private final long waitTimeout;
+	private final long pollInterval;
+
+	private final IdempotencyRedisRepository idempotencyRedisRepository;
+	private final Map<String, CompletableFuture<Boolean>> inFlightRequests = new ConcurrentHashMap<>();
+	private final Cache<String, Boolean> completedRequests;
+
+	public ReservationIdempotencyGuard(
+		IdempotencyRedisRepository idempotencyRedisRepository,
+		@Value("${idempotency.in-flight-ttl}") long inFlightTtl,
+		@Value("${idempotency.completed-ttl}") long completedTtl,
+		@Value("${idempotency.wait-timeout}") long waitTimeout,
+		@Value("${idempotency.poll-interval}") long pollInterval,
+		@Value("${idempotency.near-cache.size}") long nearCacheSize
+	) {
+		this.idempotencyRedisRepository = idempotencyRedisRepository;
+		this.inFlightTtl = Duration.ofMillis(inFlightTtl);
+		this.completedTtl = Duration.ofMillis(completedTtl);
+		this.waitTimeout = waitTimeout;
+		this.pollInterval = pollInterval;
+		this.completedRequests = Caffeine.newBuilder()
+			.maximumSize(nearCacheSize)
+			.expireAfterWrite(this.completedTtl)
+			.build();
+	}
+
+	public void execute(Long userId, ReservationOperation operation, String orderNumber, Runnable action) {
+		String key = IdempotencyRedisRepository.toKey(userId, operation.name(), orderNumber);
+		long deadline = System.currentTimeMillis() + waitTimeout;
+
+		while (completedRequests.getIfPresent(key) == null) {
+			CompletableFuture<Boolean> request = new CompletableFuture<>();
+			CompletableFuture<Boolean> runningRequest = inFlightRequests.putIfAbsent(key, request);
+			if (runningRequest != null) {
+				await(runningRequest, deadline, orderNumber);
+				continue;
+			}
+
+			try {
+				State state = run(key, action, request);
+				if (state != State.IN_PROGRESS) {
+					return;
+				}
+			} finally {
+				request.complete(false);
+				inFlightRequests.remove(key, request);
+			}
+			sleep(deadline, orderNumber);
+		}
+	}
+
+	private State run(String key, Runnable action, CompletableFuture<Boolean> request) {
+		String token = UUID.randomUUID().toString();
+		State state = idempotencyRedisRepository.begin(key, token, inFlightTtl);
+
+		if (state == State.IN_PROGRESS) {
+			return state;
+		}
+		if (state == State.STARTED) {
+			try {
+				action.run();
+			} catch (RuntimeException exception) {
+				idempotencyRedisRepository.release(key, token);
+				throw exception;
+			}
+			complete(key, token);
+		}
+		completedRequests.put(key, true);
+		request.complete(true);
+		return state;
+	}
+
+	/**
+	 * 처리는 이미 끝났으므로 기록에 실패해도 요청은 성공으로 돌려준다. 키는 in-flight-ttl 뒤에 사라진다.
+	 */
+	private void complete(String key, String token) {
+		try {
+			idempotencyRedisRepository.complete(key, token, completedTtl);
+		} catch (RuntimeException exception) {
+			log.warn("{}: 처리 완료 기록 실패", key, exception);
+		}
+	}
+
+	/**
+	 * 같은 서버에서 처리 중인 요청이 끝날 때까지 기다린다. 실패로 끝났으면 호출한 쪽에서 다시 처리를 시도한다.
+	 */
+	private void await(CompletableFuture<Boolean> runningRequest, long deadline, String orderNumber) {
+		try {
+			runningRequest.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException exception) {
+			throw new RequestInProgressException(orderNumber);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new RequestInProgressException(orderNumber);
+		} catch (ExecutionException exception) {
+			// runningRequest 는 예외로 끝나지 않는다
+		}
+	}
+
+	private void sleep(long deadline, String orderNumber) {
+		if (System.currentTimeMillis() + pollInterval > deadline) {
+			throw new RequestInProgressException(orderNumber);
+		}
+		try {
+			Thread.sleep(pollInterval);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new RequestInProgressException(orderNumber);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package tback.kicketingback.performance.idempotency;
+
+public enum ReservationOperation {
+	COMPLETE,
+	CANCEL
+}
@@ -0,0 +1,59 @@
+package tback.kicketingback.performance.inventory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.event.SeatTransition;
+import tback.kicketingback.performance.service.HoldReleaseService;
+
+/**
+ * 점유 만료 시각에 맞춰 점유를 해제한다.
+ * 해제 결과는 EXPIRE 이벤트로 인벤토리에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryScheduler {
+
+	private final HoldExpiryWheel holdExpiryWheel;
+	private final HoldReleaseService holdReleaseService;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatStateChanged(SeatStateChangedEvent event) {
+		if (event.transition() != SeatTransition.LOCK && event.transition() != SeatTransition.CANCEL) {
+			return;
+		}
+		holdExpiryWheel.schedule(event.onStageId(), event.seatIds(),
+			SeatInventory.toEpochMilli(event.lockExpiredTime()));
+	}
+
+	@Scheduled(fixedDelayString = "${reservation-policy.hold-expiry.tick-duration}")
+	public void releaseExpiredHolds() {
+		LocalDateTime now = LocalDateTime.now();
+		Map<Long, List<Long>> expiredSeatIds = holdExpiryWheel.advance(SeatInventory.toEpochMilli(now));
+
+		expiredSeatIds.forEach((onStageId, seatIds) -> {
+			try {
+				holdReleaseService.release(onStageId, seatIds, now);
+			} catch (RuntimeException exception) {
+				log.error("{}: 좌석 점유 해제 실패, 전체 정리 때 다시 시도", onStageId, exception);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${reservation-policy.hold-expiry.sweep-interval}")
+	public void releaseMissedHolds() {
+		long released = holdReleaseService.releaseAllExpired(LocalDateTime.now());
+		if (released > 0) {
+			log.info("타이밍 휠 밖의 만료 점유 {}건 해제", released);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package tback.kicketingback.performance.inventory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 점유 만료 시각을 담는 hashed timing wheel.
+ * 만료 시각을 tick 단위로 나눠 slot 에 넣고, tick 마다 지나간 slot 만 확인한다.
+ */
+@Component
+public class HoldExpiryWheel {
+
+	private final List<List<Deadline>> slots;
+	private final long tickMillis;
+	private final long startMillis;
+	private long currentTick;
+
+	public HoldExpiryWheel(
+		@Value("${reservation-policy.hold-expiry.wheel-size}") int wheelSize,
+		@Value("${reservation-policy.hold-expiry.tick-duration}") long tickMillis
+	) {
+		this.slots = new ArrayList<>(wheelSize);
+		for (int index = 0; index < wheelSize; index++) {
+			slots.add(new ArrayList<>());
+		}
+		this.tickMillis = tickMillis;
+		this.startMillis = System.currentTimeMillis();
+	}
+
+	public synchronized void schedule(Long onStageId, List<Long> seatIds, long deadlineMillis) {
+		long tick = Math.max(toTick(deadlineMillis), currentTick);
+		List<Deadline> slot = slots.get((int)(tick % slots.size()));
+		seatIds.forEach(seatId -> slot.add(new Deadline(onStageId, seatId, deadlineMillis)));
+	}
+
+	/**
+	 * 현재 시각까지 지나간 slot 을 돌며 만료된 점유를 꺼낸다.
+	 *
+	 * @return 회차 ID 별 만료된 좌석 ID
+	 */
+	public synchronized Map<Long, List<Long>> advance(long nowMillis) {
+		Map<Long, List<Long>> expired = new HashMap<>();
+		long targetTick = toTick(nowMillis);
+		long lastTick = Math.min(targetTick, currentTick + slots.size() - 1);
+
+		for (long tick = currentTick; tick <= lastTick; tick++) {
+			Iterator<Deadline> iterator = slots.get((int)(tick % slots.size())).iterator();
+			while (iterator.hasNext()) {
+				Deadline deadline = iterator.next();
+				if (deadline.deadlineMillis() <= nowMillis) {
+					expired.computeIfAbsent(deadline.onStageId(), id -> new ArrayList<>()).add(deadline.seatId());
+					iterator.remove();
+				}
+			}
+		}
+		currentTick = Math.max(currentTick, targetTick);
+		return expired;
+	}
+
+	public synchronized int size() {
+		int size = 0;
+		for (List<Deadline> slot : slots) {
+			size += slot.size();
+		}
+		return size;
+	}
+
+	private long toTick(long millis) {
+		return Math.max(0, (millis - startMillis) / tickMillis);
+	}
+
+	private record Deadline(Long onStageId, Long seatId, long deadlineMillis) {
+	}
+}
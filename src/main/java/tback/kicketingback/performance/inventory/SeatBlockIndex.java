@@ -0,0 +1,306 @@
+package tback.kicketingback.performance.inventory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+
+/**
+ * 등급별, 열(seatRow)별로 예매 가능한 연속 좌석 구간(seatCol 기준)을 관리한다.
+ * 열마다 가장 긴 구간 길이를 세그먼트 트리에 두어 count 석이 들어가는 가장 앞 열을 O(log 열 수)로 찾는다.
+ * 동기화는 SeatInventory 의 lock 을 따른다.
+ */
+class SeatBlockIndex {
+
+	private static final int[] NO_BLOCK = new int[0];
+
+	private final Map<Grade, GradeRows> gradeRows = new EnumMap<>(Grade.class);
+	private final Row[] rowOfSeat;
+	private final int[] colOfSeat;
+
+	SeatBlockIndex(List<SeatStateDTO> sortedStates) {
+		this.rowOfSeat = new Row[sortedStates.size()];
+		this.colOfSeat = new int[sortedStates.size()];
+
+		Map<String, int[]> colRanges = new HashMap<>();
+		for (SeatStateDTO seatState : sortedStates) {
+			colRanges.merge(seatState.seatRow(), new int[] {seatState.seatCol(), seatState.seatCol()},
+				(range, col) -> new int[] {Math.min(range[0], col[0]), Math.max(range[1], col[1])});
+		}
+
+		Map<Grade, Map<String, Row>> rowsByGrade = new EnumMap<>(Grade.class);
+		for (int index = 0; index < sortedStates.size(); index++) {
+			SeatStateDTO seatState = sortedStates.get(index);
+			int[] colRange = colRanges.get(seatState.seatRow());
+			double center = (colRange[0] + colRange[1]) / 2.0;
+			Row row = rowsByGrade.computeIfAbsent(seatState.grade(), grade -> new HashMap<>())
+				.computeIfAbsent(seatState.seatRow(), seatRow -> new Row(seatRow, center));
+
+			row.indexByCol.put(seatState.seatCol(), index);
+			rowOfSeat[index] = row;
+			colOfSeat[index] = seatState.seatCol();
+		}
+		rowsByGrade.forEach((grade, rows) -> gradeRows.put(grade, new GradeRows(rows.values())));
+	}
+
+	void markBookable(int index, boolean bookable) {
+		Row row = rowOfSeat[index];
+		if (bookable) {
+			row.open(colOfSeat[index]);
+		} else {
+			row.close(colOfSeat[index]);
+		}
+		row.gradeRows.update(row);
+	}
+
+	/**
+	 * 앞 열 우선, 같은 열에서는 열 가운데에 가까운 연속 count 석을 찾는다.
+	 *
+	 * @param excludedIndexes 예매 가능해 보여도 고르지 않을 좌석 index (다른 서버에서 방금 점유한 좌석 등)
+	 * @return 좌석 index, 없으면 빈 배열
+	 */
+	int[] findBestBlock(Grade grade, int count, Set<Integer> excludedIndexes) {
+		GradeRows rows = gradeRows.get(grade);
+		if (rows == null || count <= 0) {
+			return NO_BLOCK;
+		}
+
+		for (int position = rows.findRow(0, count); position >= 0; position = rows.findRow(position + 1, count)) {
+			int[] block = rows.rows[position].findBestBlock(count, excludedIndexes);
+			if (block.length > 0) {
+				return block;
+			}
+		}
+		return NO_BLOCK;
+	}
+
+	/**
+	 * 숫자 부분은 수 크기로 비교해 "2" 열이 "10" 열보다 앞에 온다.
+	 */
+	static int compareSeatRows(String left, String right) {
+		int leftIndex = 0;
+		int rightIndex = 0;
+		while (leftIndex < left.length() && rightIndex < right.length()) {
+			char leftChar = left.charAt(leftIndex);
+			char rightChar = right.charAt(rightIndex);
+			if (!Character.isDigit(leftChar) || !Character.isDigit(rightChar)) {
+				if (leftChar != rightChar) {
+					return Character.compare(leftChar, rightChar);
+				}
+				leftIndex++;
+				rightIndex++;
+				continue;
+			}
+
+			int leftEnd = digitsEnd(left, leftIndex);
+			int rightEnd = digitsEnd(right, rightIndex);
+			String leftNumber = stripLeadingZeros(left.substring(leftIndex, leftEnd));
+			String rightNumber = stripLeadingZeros(right.substring(rightIndex, rightEnd));
+			int compared = leftNumber.length() != rightNumber.length()
+				? Integer.compare(leftNumber.length(), rightNumber.length())
+				: leftNumber.compareTo(rightNumber);
+			if (compared != 0) {
+				return compared;
+			}
+			leftIndex = leftEnd;
+			rightIndex = rightEnd;
+		}
+		return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+	}
+
+	private static int digitsEnd(String value, int from) {
+		int end = from;
+		while (end < value.length() && Character.isDigit(value.charAt(end))) {
+			end++;
+		}
+		return end;
+	}
+
+	private static String stripLeadingZeros(String digits) {
+		int start = 0;
+		while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+			start++;
+		}
+		return digits.substring(start);
+	}
+
+	private static class GradeRows {
+
+		private final Row[] rows;
+		private final int leaves;
+		private final int[] tree;
+
+		GradeRows(Iterable<Row> rows) {
+			List<Row> sortedRows = new ArrayList<>();
+			rows.forEach(sortedRows::add);
+			sortedRows.sort(Comparator.comparing(Row::getSeatRow, SeatBlockIndex::compareSeatRows));
+
+			this.rows = sortedRows.toArray(Row[]::new);
+			this.leaves = Integer.highestOneBit(Math.max(1, this.rows.length - 1)) << 1;
+			this.tree = new int[leaves * 2];
+			for (int position = 0; position < this.rows.length; position++) {
+				this.rows[position].gradeRows = this;
+				this.rows[position].position = position;
+			}
+		}
+
+		void update(Row row) {
+			int node = leaves + row.position;
+			tree[node] = row.longestLength();
+			for (node /= 2; node > 0; node /= 2) {
+				tree[node] = Math.max(tree[node * 2], tree[node * 2 + 1]);
+			}
+		}
+
+		/**
+		 * from 이상 위치 중 길이 count 이상 구간이 있는 첫 열의 위치, 없으면 -1
+		 */
+		int findRow(int from, int count) {
+			return findRow(1, 0, leaves, from, count);
+		}
+
+		private int findRow(int node, int nodeFrom, int nodeTo, int from, int count) {
+			if (nodeTo <= from || tree[node] < count) {
+				return -1;
+			}
+			if (node >= leaves) {
+				return node - leaves;
+			}
+			int middle = (nodeFrom + nodeTo) / 2;
+			int position = findRow(node * 2, nodeFrom, middle, from, count);
+			if (position >= 0) {
+				return position;
+			}
+			return findRow(node * 2 + 1, middle, nodeTo, from, count);
+		}
+	}
+
+	private static class Row {
+
+		private final String seatRow;
+		private final double center;
+		private final Map<Integer, Integer> indexByCol = new HashMap<>();
+		private final TreeMap<Integer, Integer> intervals = new TreeMap<>();
+		private final TreeMap<Integer, Integer> lengthCounts = new TreeMap<>();
+
+		private GradeRows gradeRows;
+		private int position;
+
+		Row(String seatRow, double center) {
+			this.seatRow = seatRow;
+			this.center = center;
+		}
+
+		String getSeatRow() {
+			return seatRow;
+		}
+
+		int longestLength() {
+			return lengthCounts.isEmpty() ? 0 : lengthCounts.lastKey();
+		}
+
+		void open(int col) {
+			int from = col;
+			int to = col;
+
+			Map.Entry<Integer, Integer> left = intervals.floorEntry(col - 1);
+			if (left != null && left.getValue() == col - 1) {
+				from = left.getKey();
+				removeInterval(left.getKey(), left.getValue());
+			}
+			Integer rightTo = intervals.get(col + 1);
+			if (rightTo != null) {
+				to = rightTo;
+				removeInterval(col + 1, rightTo);
+			}
+			addInterval(from, to);
+		}
+
+		void close(int col) {
+			Map.Entry<Integer, Integer> interval = intervals.floorEntry(col);
+			if (interval == null || interval.getValue() < col) {
+				return;
+			}
+			removeInterval(interval.getKey(), interval.getValue());
+			if (interval.getKey() < col) {
+				addInterval(interval.getKey(), col - 1);
+			}
+			if (col < interval.getValue()) {
+				addInterval(col + 1, interval.getValue());
+			}
+		}
+
+		int[] findBestBlock(int count, Set<Integer> excludedIndexes) {
+			int bestFrom = -1;
+			double bestDistance = Double.MAX_VALUE;
+
+			for (int[] segment : segments(excludedIndexes)) {
+				int from = closestFrom(segment[0], segment[1], count);
+				if (from >= 0 && distance(from, count) < bestDistance) {
+					bestFrom = from;
+					bestDistance = distance(from, count);
+				}
+			}
+
+			if (bestFrom < 0) {
+				return NO_BLOCK;
+			}
+			int[] block = new int[count];
+			for (int offset = 0; offset < count; offset++) {
+				block[offset] = indexByCol.get(bestFrom + offset);
+			}
+			return block;
+		}
+
+		/**
+		 * 예매 가능 구간을 제외할 좌석 기준으로 다시 나눈다.
+		 */
+		private List<int[]> segments(Set<Integer> excludedIndexes) {
+			List<int[]> segments = new ArrayList<>();
+			for (Map.Entry<Integer, Integer> interval : intervals.entrySet()) {
+				if (excludedIndexes.isEmpty()) {
+					segments.add(new int[] {interval.getKey(), interval.getValue()});
+					continue;
+				}
+				int from = interval.getKey();
+				for (int col = interval.getKey(); col <= interval.getValue(); col++) {
+					if (excludedIndexes.contains(indexByCol.get(col))) {
+						segments.add(new int[] {from, col - 1});
+						from = col + 1;
+					}
+				}
+				segments.add(new int[] {from, interval.getValue()});
+			}
+			return segments;
+		}
+
+		private int closestFrom(int from, int to, int count) {
+			if (to - from + 1 < count) {
+				return -1;
+			}
+			int idealFrom = (int)Math.round(center - (count - 1) / 2.0);
+			return Math.max(from, Math.min(idealFrom, to - count + 1));
+		}
+
+		private double distance(int from, int count) {
+			return Math.abs(from + (count - 1) / 2.0 - center);
+		}
+
+		private void addInterval(int from, int to) {
+			intervals.put(from, to);
+			lengthCounts.merge(to - from + 1, 1, Integer::sum);
+		}
+
+		private void removeInterval(int from, int to) {
+			intervals.remove(from);
+			lengthCounts.computeIfPresent(to - from + 1, (length, count) -> count == 1 ? null : count - 1);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package tback.kicketingback.performance.inventory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.SeatGradeCount;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+
+/**
+ * 인벤토리의 등급별 예매 가능 좌석 수를 주기적으로 DB 집계와 비교한다.
+ * redis 점유 방식이면 DB 의 판매 상태에 Redis 의 점유를 더해 비교한다.
+ * 비교 도중 반영된 변경 때문에 잠깐 어긋날 수 있어, 두 번 연속 어긋난 회차만 인벤토리를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCountReconciler {
+
+	private final Set<Long> driftedOnStageIds = new HashSet<>();
+
+	private final SeatInventoryManager seatInventoryManager;
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final SeatStateReader seatStateReader;
+	private final MeterRegistry meterRegistry;
+
+	@Scheduled(fixedDelayString = "${reservation-policy.count-reconcile-interval}")
+	public void reconcile() {
+		driftedOnStageIds.retainAll(seatInventoryManager.getLoadedOnStageIds());
+		seatInventoryManager.getLoadedOnStageIds().forEach(this::reconcile);
+	}
+
+	private void reconcile(Long onStageId) {
+		List<SeatGradeCount> expected = countBookableSeats(onStageId);
+		seatInventoryManager.findLoadedInventory(onStageId).ifPresent(seatInventory -> {
+			List<SeatGradeCount> actual = seatInventory.getAvailableSeatCounts().stream()
+				.filter(seatGradeCount -> seatGradeCount.count() > 0)
+				.toList();
+
+			if (Set.copyOf(expected).equals(Set.copyOf(actual))) {
+				driftedOnStageIds.remove(onStageId);
+				return;
+			}
+			if (driftedOnStageIds.add(onStageId)) {
+				return;
+			}
+
+			log.warn("{}: 예매 가능 좌석 수 불일치, 인벤토리 재적재 (db={}, memory={})", onStageId, expected, actual);
+			meterRegistry.counter("seat.inventory.drift").increment();
+			driftedOnStageIds.remove(onStageId);
+			seatInventoryManager.evict(onStageId);
+		});
+	}
+
+	private List<SeatGradeCount> countBookableSeats(Long onStageId) {
+		if (!seatStateReader.isRedisMode()) {
+			return reservationRepositoryCustom.countBookableSeatsByGrade(onStageId);
+		}
+		Map<Grade, Long> counts = seatStateReader.read(onStageId).stream()
+			.filter(seatState -> seatState.orderNumber() == null && seatState.userId() == null)
+			.collect(Collectors.groupingBy(SeatStateDTO::grade, Collectors.counting()));
+		return counts.entrySet().stream()
+			.map(entry -> new SeatGradeCount(entry.getKey(), entry.getValue()))
+			.toList();
+	}
+}
@@ -0,0 +1,429 @@
+package tback.kicketingback.performance.inventory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.GetSeatInfoResponse;
+import tback.kicketingback.performance.dto.SeatAvailability;
+import tback.kicketingback.performance.dto.SeatDelta;
+import tback.kicketingback.performance.dto.SeatGradeCount;
+import tback.kicketingback.performance.dto.SeatGradeDTO;
+import tback.kicketingback.performance.dto.SeatLayoutResponse;
+import tback.kicketingback.performance.dto.SeatMapSnapshot;
+import tback.kicketingback.performance.dto.SeatRowCol;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.dto.SimpleSeatDTO;
+import tback.kicketingback.performance.event.SeatMapChangedEvent;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+
+/**
+ * 한 회차(OnStage)의 좌석 상태를 좌석 위치(index) 기준 배열로 보관한다.
+ * 판매 여부는 BitSet, 점유자와 점유 만료 시각은 primitive 배열로 관리한다.
+ * 점유 만료는 조회 시점에 계산하지 않고 EXPIRE 이벤트로만 반영한다.
+ */
+public class SeatInventory {
+
+	private static final long NO_USER = 0L;
+	private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+	@Getter
+	private final Long onStageId;
+	@Getter
+	private final UUID performanceId;
+	private final LocalDateTime dateTime;
+	@Getter
+	private final List<SeatGradeDTO> seatGrades;
+
+	private final long[] seatIds;
+	private final SimpleSeatDTO[] seats;
+	private final BitSet sold;
+	private final long[] holderIds;
+	private final long[] holdExpiredAt;
+	private final int[] totalCounts = new int[Grade.values().length];
+	private final int[] availableCounts = new int[Grade.values().length];
+	private final SeatBlockIndex seatBlockIndex;
+	private long availabilityHash;
+	private long version;
+	private boolean uncommitted;
+	private final List<SeatMapChangedEvent> unpublished = new ArrayList<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private SeatInventory(
+		Long onStageId, UUID performanceId, LocalDateTime dateTime, List<SeatGradeDTO> seatGrades,
+		List<SeatStateDTO> sortedStates
+	) {
+		int size = sortedStates.size();
+		this.onStageId = onStageId;
+		this.performanceId = performanceId;
+		this.dateTime = dateTime;
+		this.seatGrades = List.copyOf(seatGrades);
+		this.seatIds = new long[size];
+		this.seats = new SimpleSeatDTO[size];
+		this.sold = new BitSet(size);
+		this.holderIds = new long[size];
+		this.holdExpiredAt = new long[size];
+		this.seatBlockIndex = new SeatBlockIndex(sortedStates);
+	}
+
+	public static SeatInventory of(
+		Long onStageId,
+		UUID performanceId,
+		LocalDateTime dateTime,
+		List<SeatGradeDTO> seatGrades,
+		List<SeatStateDTO> seatStates
+	) {
+		List<SeatStateDTO> sortedStates = seatStates.stream()
+			.sorted(Comparator.comparing(SeatStateDTO::seatId))
+			.toList();
+		SeatInventory inventory = new SeatInventory(onStageId, performanceId, dateTime, seatGrades, sortedStates);
+
+		for (int index = 0; index < sortedStates.size(); index++) {
+			inventory.initSeat(index, sortedStates.get(index));
+			inventory.totalCounts[inventory.gradeOf(index)]++;
+			if (inventory.isBookable(index)) {
+				inventory.availableCounts[inventory.gradeOf(index)]++;
+				inventory.seatBlockIndex.markBookable(index, true);
+				inventory.availabilityHash ^= hashSeat(inventory.seatIds[index]);
+			}
+		}
+		return inventory;
+	}
+
+	private void initSeat(int index, SeatStateDTO seatState) {
+		seatIds[index] = seatState.seatId();
+		seats[index] = new SimpleSeatDTO(seatState.seatId(), seatState.grade(), seatState.seatRow(),
+			seatState.seatCol());
+		sold.set(index, seatState.orderNumber() != null);
+
+		if (seatState.userId() == null) {
+			holderIds[index] = NO_USER;
+			holdExpiredAt[index] = 0L;
+			return;
+		}
+		holderIds[index] = seatState.userId();
+		holdExpiredAt[index] = toEpochMilli(seatState.lockExpiredTime());
+	}
+
+	public boolean isClosed(LocalDateTime now) {
+		return dateTime.isBefore(now);
+	}
+
+	public int size() {
+		return seatIds.length;
+	}
+
+	public GetSeatInfoResponse getSeatInfo() {
+		return getSnapshot().seatInfo();
+	}
+
+	/**
+	 * 예매 가능한 좌석 구성으로 정해지는 값. 좌석마다 정해진 64비트 값을 XOR 로 합쳐 두므로
+	 * 좌석 구성이 같으면 다른 서버나 다시 적재한 인벤토리에서도 같은 값이 나온다.
+	 */
+	public String getAvailabilityTag() {
+		lock.readLock().lock();
+		try {
+			return Long.toHexString(availabilityHash);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 좌석 배치와 그 시점의 version 을 함께 읽는다. version 이후의 SeatMapChangedEvent 만 이어 붙이면 된다.
+	 */
+	public SeatMapSnapshot getSnapshot() {
+		List<SimpleSeatDTO> bookableSeats = new ArrayList<>();
+		List<SimpleSeatDTO> unbookableSeats = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (int index = 0; index < seats.length; index++) {
+				if (isBookable(index)) {
+					bookableSeats.add(seats[index]);
+					continue;
+				}
+				unbookableSeats.add(seats[index]);
+			}
+			return new SeatMapSnapshot(version, new GetSeatInfoResponse(bookableSeats, unbookableSeats, seatGrades));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 회차 동안 바뀌지 않는 좌석 배치. 좌석 순서가 getAvailability 의 index 가 된다.
+	 */
+	public SeatLayoutResponse getLayout() {
+		return new SeatLayoutResponse(List.of(seats), seatGrades);
+	}
+
+	public SeatAvailability getAvailability() {
+		BitSet bookableSeats = new BitSet(seats.length);
+
+		lock.readLock().lock();
+		try {
+			for (int index = 0; index < seats.length; index++) {
+				bookableSeats.set(index, isBookable(index));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return new SeatAvailability(seats.length, bookableSeats);
+	}
+
+	/**
+	 * 좌석 변경 때마다 갱신해 둔 등급별 예매 가능 좌석 수를 돌려준다.
+	 */
+	public List<SeatGradeCount> getAvailableSeatCounts() {
+		List<SeatGradeCount> seatGradeCounts = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (Grade grade : Grade.values()) {
+				if (totalCounts[grade.ordinal()] > 0) {
+					seatGradeCounts.add(new SeatGradeCount(grade, (long)availableCounts[grade.ordinal()]));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return seatGradeCounts;
+	}
+
+	public boolean containsAll(List<Long> seatIds) {
+		return seatIds.stream().allMatch(seatId -> indexOf(seatId) >= 0);
+	}
+
+	/**
+	 * 이미 판매됐거나 누군가 점유 중인 좌석을 찾는다.
+	 */
+	public List<Long> findUnavailableSeatIds(List<Long> seatIds) {
+		lock.readLock().lock();
+		try {
+			return seatIds.stream()
+				.filter(seatId -> !isBookable(indexOf(seatId)))
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 이미 판매됐거나 다른 사용자가 점유 중인 좌석을 찾는다.
+	 */
+	public List<Long> findUnavailableSeatIds(List<Long> seatIds, Long userId) {
+		lock.readLock().lock();
+		try {
+			return seatIds.stream()
+				.filter(seatId -> {
+					int index = indexOf(seatId);
+					return !isBookable(index) && (sold.get(index) || holderIds[index] != userId);
+				})
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 판매되지 않았고 userId 가 점유 중이며 점유 시간이 남은 좌석이 아닌 것을 찾는다.
+	 */
+	public List<Long> findNotHeldSeatIds(List<Long> seatIds, Long userId, LocalDateTime now) {
+		long nowMilli = toEpochMilli(now);
+
+		lock.readLock().lock();
+		try {
+			return seatIds.stream()
+				.filter(seatId -> {
+					int index = indexOf(seatId);
+					return sold.get(index) || holderIds[index] != userId || holdExpiredAt[index] <= nowMilli;
+				})
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * grade 좌석 중 앞 열, 열 가운데에 가까운 연속 count 석을 찾는다.
+	 *
+	 * @param excludedSeatIds 예매 가능해 보여도 고르지 않을 좌석
+	 * @return 좌석 ID, 없으면 빈 목록
+	 */
+	public List<Long> findBestBlock(Grade grade, int count, Set<Long> excludedSeatIds) {
+		Set<Integer> excludedIndexes = excludedSeatIds.stream()
+			.map(this::indexOf)
+			.filter(index -> index >= 0)
+			.collect(Collectors.toSet());
+
+		lock.readLock().lock();
+		try {
+			return Arrays.stream(seatBlockIndex.findBestBlock(grade, count, excludedIndexes))
+				.mapToObj(index -> seatIds[index])
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public List<SeatRowCol> getSeatRowCols(List<Long> seatIds) {
+		return seatIds.stream()
+			.map(this::indexOf)
+			.filter(index -> index >= 0)
+			.map(index -> new SeatRowCol(seats[index].seatCol(), seats[index].seatRow()))
+			.toList();
+	}
+
+	/**
+	 * 저장 전인 결정을 반영한다. 바뀐 좌석은 commit() 에서 돌려주고,
+	 * 그 사이 다른 스레드가 반영한 변경도 version 순서를 지키도록 함께 미룬다.
+	 */
+	public void applyUncommitted(SeatStateChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			uncommitted = true;
+			SeatMapChangedEvent seatMapChangedEvent = apply(event);
+			if (!seatMapChangedEvent.deltas().isEmpty()) {
+				unpublished.add(seatMapChangedEvent);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 지금 알려도 되는 변경, 바뀐 좌석이 없거나 저장 전인 결정 뒤로 미뤘으면 empty
+	 */
+	public Optional<SeatMapChangedEvent> applyCommitted(SeatStateChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			SeatMapChangedEvent seatMapChangedEvent = apply(event);
+			if (seatMapChangedEvent.deltas().isEmpty()) {
+				return Optional.empty();
+			}
+			if (uncommitted) {
+				unpublished.add(seatMapChangedEvent);
+				return Optional.empty();
+			}
+			return Optional.of(seatMapChangedEvent);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 저장 전이던 결정이 저장됐음을 표시한다.
+	 *
+	 * @return 그동안 미뤄 둔 변경, version 순서
+	 */
+	public List<SeatMapChangedEvent> commit() {
+		lock.writeLock().lock();
+		try {
+			uncommitted = false;
+			List<SeatMapChangedEvent> committed = List.copyOf(unpublished);
+			unpublished.clear();
+			return committed;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 예매 가능 여부가 바뀐 좌석, 바뀐 좌석이 있으면 version 이 1 증가한다
+	 */
+	public SeatMapChangedEvent apply(SeatStateChangedEvent event) {
+		List<SeatDelta> deltas = new ArrayList<>();
+
+		lock.writeLock().lock();
+		try {
+			for (Long seatId : event.seatIds()) {
+				int index = indexOf(seatId);
+				if (index < 0) {
+					continue;
+				}
+				boolean wasBookable = isBookable(index);
+				applySeat(index, event);
+				if (wasBookable != isBookable(index)) {
+					availableCounts[gradeOf(index)] += wasBookable ? -1 : 1;
+					availabilityHash ^= hashSeat(seatId);
+					seatBlockIndex.markBookable(index, !wasBookable);
+					deltas.add(new SeatDelta(seatId, !wasBookable));
+				}
+			}
+			if (!deltas.isEmpty()) {
+				version++;
+			}
+			return new SeatMapChangedEvent(onStageId, version, deltas);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void applySeat(int index, SeatStateChangedEvent event) {
+		switch (event.transition()) {
+			case LOCK -> {
+				holderIds[index] = event.userId();
+				holdExpiredAt[index] = toEpochMilli(event.lockExpiredTime());
+			}
+			case COMPLETE -> {
+				sold.set(index);
+				holderIds[index] = event.userId();
+			}
+			case CANCEL -> {
+				sold.clear(index);
+				holderIds[index] = event.userId();
+				holdExpiredAt[index] = toEpochMilli(event.lockExpiredTime());
+			}
+			case EXPIRE -> {
+				if (!sold.get(index) && holdExpiredAt[index] <= toEpochMilli(event.lockExpiredTime())) {
+					holderIds[index] = NO_USER;
+					holdExpiredAt[index] = 0L;
+				}
+			}
+		}
+	}
+
+	/**
+	 * SplitMix64 로 좌석 ID 를 고르게 흩뜨린다. 서버마다 같은 값이 나와야 하므로 난수를 쓰지 않는다.
+	 */
+	private static long hashSeat(long seatId) {
+		long hash = seatId + 0x9E3779B97F4A7C15L;
+		hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+		return hash ^ (hash >>> 31);
+	}
+
+	private boolean isBookable(int index) {
+		return !sold.get(index) && holderIds[index] == NO_USER;
+	}
+
+	private int gradeOf(int index) {
+		return seats[index].grade().ordinal();
+	}
+
+	private int indexOf(Long seatId) {
+		return Arrays.binarySearch(seatIds, seatId);
+	}
+
+	static long toEpochMilli(LocalDateTime time) {
+		if (time == null) {
+			return NO_EXPIRY;
+		}
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
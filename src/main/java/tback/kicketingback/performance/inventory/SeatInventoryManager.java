@@ -0,0 +1,220 @@
+package tback.kicketingback.performance.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import tback.kicketingback.performance.domain.OnStage;
+import tback.kicketingback.performance.dto.SeatGradeDTO;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.event.SeatMapChangedEvent;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.InvalidOnStageIDException;
+import tback.kicketingback.performance.repository.OnStageRepository;
+import tback.kicketingback.performance.repository.SeatGradeRepository;
+import tback.kicketingback.performance.stream.SeatMapStreamHub;
+
+/**
+ * 회차별 인벤토리를 max-size 개까지, 마지막 조회 후 expire-after-access 동안 메모리에 둔다.
+ * 처음 조회하는 회차는 요청 스레드 하나만 DB 에서 읽고, 같은 회차의 다른 요청은 그 future 를 기다린다.
+ * DB 에서 읽는 동안 커밋된 변경은 읽은 결과에 빠졌을 수 있으므로 모아 두었다가 적재를 마치기 전에 차례로 반영한다.
+ */
+@Component
+public class SeatInventoryManager {
+
+	private final Cache<Long, CompletableFuture<SeatInventory>> inventories;
+	private final Map<Long, List<SeatStateChangedEvent>> eventsDuringLoad = new ConcurrentHashMap<>();
+
+	private final OnStageRepository onStageRepository;
+	private final SeatGradeRepository seatGradeRepository;
+	private final SeatStateReader seatStateReader;
+	private final HoldExpiryWheel holdExpiryWheel;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SeatMapStreamHub seatMapStreamHub;
+
+	public SeatInventoryManager(
+		OnStageRepository onStageRepository,
+		SeatGradeRepository seatGradeRepository,
+		SeatStateReader seatStateReader,
+		HoldExpiryWheel holdExpiryWheel,
+		ApplicationEventPublisher eventPublisher,
+		SeatMapStreamHub seatMapStreamHub,
+		@Value("${reservation-policy.inventory.max-size}") long maxSize,
+		@Value("${reservation-policy.inventory.expire-after-access}") long expireAfterAccess
+	) {
+		this.onStageRepository = onStageRepository;
+		this.seatGradeRepository = seatGradeRepository;
+		this.seatStateReader = seatStateReader;
+		this.holdExpiryWheel = holdExpiryWheel;
+		this.eventPublisher = eventPublisher;
+		this.seatMapStreamHub = seatMapStreamHub;
+		this.inventories = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterAccess(Duration.ofMillis(expireAfterAccess))
+			.<Long, CompletableFuture<SeatInventory>>removalListener((onStageId, inventory, cause) -> {
+				if (cause.wasEvicted()) {
+					seatMapStreamHub.disconnect(onStageId);
+				}
+			})
+			.build();
+	}
+
+	public SeatInventory getInventory(Long onStageId) {
+		CompletableFuture<SeatInventory> inventory = inventories.getIfPresent(onStageId);
+		if (inventory != null) {
+			return join(inventory);
+		}
+
+		CompletableFuture<SeatInventory> loading = new CompletableFuture<>();
+		CompletableFuture<SeatInventory> loadingByOther = inventories.asMap().putIfAbsent(onStageId, loading);
+		if (loadingByOther != null) {
+			return join(loadingByOther);
+		}
+
+		eventsDuringLoad.put(onStageId, new ArrayList<>());
+		try {
+			SeatInventory seatInventory = load(onStageId);
+			eventsDuringLoad.compute(onStageId, (id, events) -> {
+				if (events != null) {
+					events.forEach(seatInventory::apply);
+				}
+				loading.complete(seatInventory);
+				return null;
+			});
+		} catch (RuntimeException exception) {
+			eventsDuringLoad.remove(onStageId);
+			inventories.asMap().remove(onStageId, loading);
+			loading.completeExceptionally(exception);
+		}
+		return join(loading);
+	}
+
+	public Set<Long> getLoadedOnStageIds() {
+		return inventories.asMap().entrySet().stream()
+			.filter(inventory -> isLoaded(inventory.getValue()))
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toUnmodifiableSet());
+	}
+
+	/**
+	 * 아직 DB 에서 읽는 중인 회차는 적재되지 않은 것으로 본다.
+	 */
+	public Optional<SeatInventory> findLoadedInventory(Long onStageId) {
+		return Optional.ofNullable(inventories.getIfPresent(onStageId))
+			.filter(this::isLoaded)
+			.map(CompletableFuture::join);
+	}
+
+	/**
+	 * 다시 적재하면 version 이 처음부터 시작하므로 구독 중인 스트림도 끊어 새 snapshot 을 받게 한다.
+	 * 크기나 시간 제한으로 밀려난 회차도 removalListener 에서 같은 이유로 스트림을 끊는다.
+	 */
+	public void evict(Long onStageId) {
+		inventories.invalidate(onStageId);
+		seatMapStreamHub.disconnect(onStageId);
+	}
+
+	/**
+	 * 커밋된 변경만 반영한다. DB 에서 읽는 중인 회차는 적재를 마칠 때 반영하도록 모아 두고,
+	 * 적재되지 않은 회차는 다음 조회 때 DB 에서 새로 읽는다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatStateChanged(SeatStateChangedEvent event) {
+		applyCommitted(event);
+	}
+
+	/**
+	 * 이미 커밋된 변경을 반영한다. 다른 서버에서 커밋된 변경은 SeatStateRelay 가 넘겨준다.
+	 */
+	public void applyCommitted(SeatStateChangedEvent event) {
+		List<SeatStateChangedEvent> buffered = eventsDuringLoad.computeIfPresent(event.onStageId(), (id, events) -> {
+			events.add(event);
+			return events;
+		});
+		if (buffered != null) {
+			return;
+		}
+		findLoadedInventory(event.onStageId()).ifPresent(seatInventory -> apply(seatInventory, event));
+	}
+
+	/**
+	 * 인벤토리에 이벤트를 반영하고 예매 가능 여부가 바뀐 좌석이 있으면 SeatMapChangedEvent 로 알린다.
+	 */
+	private void apply(SeatInventory seatInventory, SeatStateChangedEvent event) {
+		seatInventory.applyCommitted(event).ifPresent(eventPublisher::publishEvent);
+	}
+
+	/**
+	 * 저장이 끝나면 commit 을 불러야 바뀐 좌석을 알린다. 저장에 실패하면 commit 대신 evict 한다.
+	 */
+	public void applyUncommitted(SeatInventory seatInventory, SeatStateChangedEvent event) {
+		seatInventory.applyUncommitted(event);
+	}
+
+	public void commit(SeatInventory seatInventory) {
+		seatInventory.commit().forEach(eventPublisher::publishEvent);
+	}
+
+	private boolean isLoaded(CompletableFuture<SeatInventory> inventory) {
+		return inventory.isDone() && !inventory.isCompletedExceptionally();
+	}
+
+	private SeatInventory join(CompletableFuture<SeatInventory> inventory) {
+		try {
+			return inventory.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
+	private SeatInventory load(Long onStageId) {
+		OnStage onStage = onStageRepository.findById(onStageId)
+			.orElseThrow(() -> new InvalidOnStageIDException(onStageId));
+
+		List<SeatGradeDTO> seatGradeDTOS = seatGradeRepository.findSeatGradesByPerformanceId(
+				onStage.getPerformance().getId())
+			.stream()
+			.map(seatGrade -> new SeatGradeDTO(seatGrade.getId(), seatGrade.getGrade(), seatGrade.getPrice()))
+			.toList();
+
+		List<SeatStateDTO> seatStates = seatStateReader.read(onStageId);
+		scheduleHoldExpiry(onStageId, seatStates);
+
+		SeatInventory seatInventory = SeatInventory.of(
+			onStageId,
+			onStage.getPerformance().getId(),
+			onStage.getDateTime(),
+			seatGradeDTOS,
+			seatStates);
+		return seatInventory;
+	}
+
+	/**
+	 * 다른 서버에서 잡은 점유도 이 서버의 인벤토리에서 만료되도록 타이밍 휠에 등록한다.
+	 */
+	private void scheduleHoldExpiry(Long onStageId, List<SeatStateDTO> seatStates) {
+		seatStates.stream()
+			.filter(seatState -> seatState.userId() != null && seatState.orderNumber() == null
+				&& seatState.lockExpiredTime() != null)
+			.forEach(seatState -> holdExpiryWheel.schedule(onStageId, List.of(seatState.seatId()),
+				SeatInventory.toEpochMilli(seatState.lockExpiredTime())));
+	}
+}
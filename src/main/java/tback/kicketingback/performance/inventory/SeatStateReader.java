@@ -0,0 +1,64 @@
+package tback.kicketingback.performance.inventory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.HeldSeatDTO;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.performance.repository.SeatHoldRedisRepository;
+
+/**
+ * 회차의 좌석 상태를 읽는다. 판매 여부는 DB 에서 읽고,
+ * redis 점유 방식이면 DB 에 남지 않는 점유를 Redis 에서 읽어 덧씌운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatStateReader {
+
+	private static final String REDIS_MODE = "redis";
+
+	@Value("${reservation-policy.hold-mode}")
+	private String holdMode;
+
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final SeatHoldRedisRepository seatHoldRedisRepository;
+
+	public boolean isRedisMode() {
+		return holdMode.equals(REDIS_MODE);
+	}
+
+	public List<SeatStateDTO> read(Long onStageId) {
+		List<SeatStateDTO> seatStates = reservationRepositoryCustom.findOnStageSeatStates(onStageId);
+		if (!isRedisMode()) {
+			return seatStates;
+		}
+
+		List<Long> unsoldSeatIds = seatStates.stream()
+			.filter(seatState -> seatState.orderNumber() == null)
+			.map(SeatStateDTO::seatId)
+			.toList();
+		Map<Long, HeldSeatDTO> holds = seatHoldRedisRepository.findHolds(onStageId, unsoldSeatIds, LocalDateTime.now())
+			.stream()
+			.collect(Collectors.toMap(HeldSeatDTO::seatId, Function.identity()));
+
+		return seatStates.stream()
+			.map(seatState -> overlay(seatState, holds.get(seatState.seatId())))
+			.toList();
+	}
+
+	private SeatStateDTO overlay(SeatStateDTO seatState, HeldSeatDTO hold) {
+		if (hold == null || seatState.orderNumber() != null) {
+			return seatState;
+		}
+		return new SeatStateDTO(seatState.seatId(), seatState.grade(), seatState.seatRow(), seatState.seatCol(),
+			hold.userId(), hold.lockExpiredTime(), null);
+	}
+}
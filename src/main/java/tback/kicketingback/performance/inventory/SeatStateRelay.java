@@ -0,0 +1,68 @@
+package tback.kicketingback.performance.inventory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.repository.SeatStateRedisRepository;
+
+/**
+ * 이 서버에서 커밋된 좌석 상태 변경을 Redis 로 알리고, 다른 서버가 알린 변경을 이 서버의 인벤토리에 반영한다.
+ * 그래서 어느 서버에서 읽어도 좌석 배치와 ETag 가 같아진다.
+ * Redis 에 닿지 못해 놓친 변경은 SeatCountReconciler 가 DB 와 비교해 바로잡는다.
+ */
+@Slf4j
+@Component
+public class SeatStateRelay implements MessageListener {
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final SeatInventoryManager seatInventoryManager;
+	private final SeatStateRedisRepository seatStateRedisRepository;
+	private final ObjectMapper objectMapper;
+
+	public SeatStateRelay(
+		SeatInventoryManager seatInventoryManager,
+		SeatStateRedisRepository seatStateRedisRepository,
+		ObjectMapper objectMapper
+	) {
+		this.seatInventoryManager = seatInventoryManager;
+		this.seatStateRedisRepository = seatStateRedisRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatStateChanged(SeatStateChangedEvent event) {
+		try {
+			seatStateRedisRepository.publish(objectMapper.writeValueAsString(new SeatStateMessage(nodeId, event)));
+		} catch (DataAccessException | JsonProcessingException exception) {
+			log.warn("{}: 다른 서버에 좌석 상태 변경을 알리지 못함 - {}", event.onStageId(), exception.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			SeatStateMessage seatStateMessage = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), SeatStateMessage.class);
+			if (!nodeId.equals(seatStateMessage.nodeId())) {
+				seatInventoryManager.applyCommitted(seatStateMessage.event());
+			}
+		} catch (JsonProcessingException exception) {
+			log.warn("읽을 수 없는 좌석 상태 변경 메시지 - {}", exception.getMessage());
+		}
+	}
+
+	record SeatStateMessage(String nodeId, SeatStateChangedEvent event) {
+	}
+}
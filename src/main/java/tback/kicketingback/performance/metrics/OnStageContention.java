@@ -0,0 +1,76 @@
+package tback.kicketingback.performance.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import tback.kicketingback.performance.dto.HotSeatDTO;
+import tback.kicketingback.performance.dto.SeatLockContentionDTO;
+
+/**
+ * 한 회차의 한 집계 구간 동안의 좌석 락 대기와 충돌 횟수.
+ */
+class OnStageContention {
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	private final LongAdder conflicts = new LongAdder();
+	private final LongAdder lockWaits = new LongAdder();
+	private final LongAdder lockWaitNanos = new LongAdder();
+	private final LongAccumulator lockWaitMaxNanos = new LongAccumulator(Math::max, 0L);
+	private final LongAdder deadlocks = new LongAdder();
+	private final LongAdder lockTimeouts = new LongAdder();
+	private final Map<Long, LongAdder> seatConflicts = new ConcurrentHashMap<>();
+
+	void recordLockWait(long nanos) {
+		lockWaits.increment();
+		lockWaitNanos.add(nanos);
+		lockWaitMaxNanos.accumulate(nanos);
+	}
+
+	void recordConflict(List<Long> seatIds) {
+		conflicts.increment();
+		seatIds.forEach(seatId -> seatConflicts.computeIfAbsent(seatId, id -> new LongAdder()).increment());
+	}
+
+	void recordDeadlock() {
+		deadlocks.increment();
+	}
+
+	void recordLockTimeout() {
+		lockTimeouts.increment();
+	}
+
+	/**
+	 * 이전 구간과 현재 구간을 합쳐 최근 상태를 만든다.
+	 */
+	static SeatLockContentionDTO merge(Long onStageId, List<OnStageContention> windows, int seatLimit) {
+		long conflicts = windows.stream().mapToLong(window -> window.conflicts.sum()).sum();
+		long lockWaits = windows.stream().mapToLong(window -> window.lockWaits.sum()).sum();
+		long lockWaitNanos = windows.stream().mapToLong(window -> window.lockWaitNanos.sum()).sum();
+		long lockWaitMaxNanos = windows.stream().mapToLong(window -> window.lockWaitMaxNanos.get()).max().orElse(0);
+
+		Map<Long, Long> seatConflicts = new HashMap<>();
+		windows.forEach(window -> window.seatConflicts.forEach(
+			(seatId, count) -> seatConflicts.merge(seatId, count.sum(), Long::sum)));
+		List<HotSeatDTO> hotSeats = seatConflicts.entrySet().stream()
+			.map(entry -> new HotSeatDTO(entry.getKey(), entry.getValue()))
+			.sorted(Comparator.comparingLong(HotSeatDTO::conflicts).reversed().thenComparing(HotSeatDTO::seatId))
+			.limit(seatLimit)
+			.toList();
+
+		return new SeatLockContentionDTO(
+			onStageId,
+			conflicts,
+			lockWaits,
+			lockWaits == 0 ? 0 : lockWaitNanos / NANOS_PER_MILLI / lockWaits,
+			lockWaitMaxNanos / NANOS_PER_MILLI,
+			windows.stream().mapToLong(window -> window.deadlocks.sum()).sum(),
+			windows.stream().mapToLong(window -> window.lockTimeouts.sum()).sum(),
+			hotSeats);
+	}
+}
@@ -0,0 +1,138 @@
+package tback.kicketingback.performance.metrics;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.SeatLockContentionDTO;
+
+/**
+ * 회차별 좌석 락 대기 시간, 이미 선택된 좌석 충돌, 데드락과 락 대기 시간 초과를 기록한다.
+ * 누적 값은 회차 구분 없이 Micrometer 로 내보내고, 최근 두 구간(window) 값은 진단 API 에서 회차, 좌석별로 보여 준다.
+ * 회차 ID 를 태그로 붙이면 회차마다 시계열이 생겨 끝없이 늘어나므로 회차별 값은 진단 API 에만 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatLockMetrics {
+
+	private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+	private static final int MYSQL_LOCK_NOWAIT = 3572;
+	private static final int MYSQL_DEADLOCK = 1213;
+	private static final String LOCK_TIMEOUT = "lock-timeout";
+	private static final String DEADLOCK = "deadlock";
+	private static final String OTHER = "other";
+
+	@Value("${seat-lock-metrics.window}")
+	private long window;
+
+	private final MeterRegistry meterRegistry;
+
+	private volatile Map<Long, OnStageContention> currentWindow = new ConcurrentHashMap<>();
+	private volatile Map<Long, OnStageContention> previousWindow = Map.of();
+
+	/**
+	 * 좌석 행 락을 잡는 쿼리의 실행 시간을 락 대기 시간으로 기록한다.
+	 */
+	public <T> T recordLockWait(Long onStageId, String operation, Supplier<T> lockAcquisition) {
+		long start = System.nanoTime();
+		try {
+			return lockAcquisition.get();
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			meterRegistry.timer("seat.lock.wait", "operation", operation).record(elapsed, TimeUnit.NANOSECONDS);
+			contention(onStageId).recordLockWait(elapsed);
+		}
+	}
+
+	public void recordConflict(Long onStageId, List<Long> seatIds) {
+		meterRegistry.counter("seat.lock.conflict").increment();
+		meterRegistry.counter("seat.lock.conflict.seats").increment(seatIds.size());
+		contention(onStageId).recordConflict(seatIds);
+	}
+
+	/**
+	 * Hibernate 와 Spring 을 거치면 MySQL 락 대기 시간 초과는 PessimisticLockingFailureException,
+	 * 데드락은 CannotAcquireLockException 이 되어 예외 타입만으로는 구분할 수 없으므로 원인 SQLException 의 에러 코드로 나눈다.
+	 * 에러 코드를 찾지 못하면 other 로만 센다.
+	 */
+	public void recordLockFailure(Long onStageId, PessimisticLockingFailureException exception) {
+		String type = classify(exception);
+		meterRegistry.counter("seat.lock.failure", "type", type).increment();
+
+		switch (type) {
+			case LOCK_TIMEOUT -> contention(onStageId).recordLockTimeout();
+			case DEADLOCK -> contention(onStageId).recordDeadlock();
+			default -> {
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${seat-lock-metrics.window}")
+	public void rotate() {
+		previousWindow = currentWindow;
+		currentWindow = new ConcurrentHashMap<>();
+	}
+
+	public long getWindow() {
+		return window;
+	}
+
+	/**
+	 * 최근 충돌이 많은 회차 순으로, 충돌 횟수가 같으면 락 대기가 많은 순으로 돌려준다.
+	 */
+	public List<SeatLockContentionDTO> getHottestOnStages(int limit, int seatLimit) {
+		Map<Long, OnStageContention> previous = previousWindow;
+		Map<Long, OnStageContention> current = currentWindow;
+
+		Set<Long> onStageIds = new HashSet<>(previous.keySet());
+		onStageIds.addAll(current.keySet());
+
+		return onStageIds.stream()
+			.map(onStageId -> {
+				List<OnStageContention> windows = new ArrayList<>();
+				if (previous.containsKey(onStageId)) {
+					windows.add(previous.get(onStageId));
+				}
+				if (current.containsKey(onStageId)) {
+					windows.add(current.get(onStageId));
+				}
+				return OnStageContention.merge(onStageId, windows, seatLimit);
+			})
+			.sorted(Comparator.comparingLong(SeatLockContentionDTO::conflicts)
+				.thenComparingLong(SeatLockContentionDTO::lockWaits)
+				.reversed())
+			.limit(limit)
+			.toList();
+	}
+
+	private String classify(PessimisticLockingFailureException exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sqlException) {
+				return switch (sqlException.getErrorCode()) {
+					case MYSQL_LOCK_WAIT_TIMEOUT, MYSQL_LOCK_NOWAIT -> LOCK_TIMEOUT;
+					case MYSQL_DEADLOCK -> DEADLOCK;
+					default -> OTHER;
+				};
+			}
+		}
+		return OTHER;
+	}
+
+	private OnStageContention contention(Long onStageId) {
+		return currentWindow.computeIfAbsent(onStageId, id -> new OnStageContention());
+	}
+}
@@ -0,0 +1,153 @@
+package tback.kicketingback.performance.outbox;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+import tback.kicketingback.performance.domain.type.OutboxStatus;
+import tback.kicketingback.performance.exception.exceptions.InvalidPayCancelRequestException;
+import tback.kicketingback.performance.repository.PaymentCancelOutboxRepository;
+import tback.kicketingback.performance.service.PaymentCancelGateway;
+
+/**
+ * 시도할 때가 된 결제 취소 요청을 batch-size 와 쉬고 있는 executor 스레드 수 중 작은 만큼만 읽어 결제 서버로 보낸다.
+ * 가져간 요청은 큐에서 기다리지 않으므로 claim-timeout 안에 보내고, 결제 서버가 느려지면 덜 가져간다.
+ * 보내기 전에 다음 시도 시각을 claim-timeout 뒤로 미뤄 저장해 두므로, 보내는 동안 다음 차례나 다른 서버가 같은 요청을 다시 읽지 않는다.
+ * 스케줄러 스레드는 보낼 요청을 넘기기만 하고 결과를 기다리지 않는다.
+ * 실패하면 시도 횟수에 따라 대기 시간을 두 배씩 늘려 다시 보내고, max-attempts 를 넘기거나 요청이 거절되면 FAILED 로 남긴다.
+ */
+@Slf4j
+@Component
+public class PaymentCancelDispatcher {
+
+	@Value("${payment-cancel-outbox.batch-size}")
+	private int batchSize;
+	@Value("${payment-cancel-outbox.concurrency}")
+	private int concurrency;
+	@Value("${payment-cancel-outbox.claim-timeout}")
+	private long claimTimeout;
+	@Value("${payment-cancel-outbox.max-attempts}")
+	private int maxAttempts;
+	@Value("${payment-cancel-outbox.backoff.initial}")
+	private long initialBackoff;
+	@Value("${payment-cancel-outbox.backoff.max}")
+	private long maxBackoff;
+
+	private final PaymentCancelOutboxRepository paymentCancelOutboxRepository;
+	private final PaymentCancelGateway paymentCancelGateway;
+	private final Executor executor;
+	private final MeterRegistry meterRegistry;
+	private final Timer gatewayTimer;
+	private final AtomicInteger sending = new AtomicInteger();
+
+	public PaymentCancelDispatcher(
+		PaymentCancelOutboxRepository paymentCancelOutboxRepository,
+		PaymentCancelGateway paymentCancelGateway,
+		@Qualifier("paymentCancelExecutor") Executor executor,
+		MeterRegistry meterRegistry
+	) {
+		this.paymentCancelOutboxRepository = paymentCancelOutboxRepository;
+		this.paymentCancelGateway = paymentCancelGateway;
+		this.executor = executor;
+		this.meterRegistry = meterRegistry;
+		this.gatewayTimer = meterRegistry.timer("payment.cancel.gateway");
+	}
+
+	@Scheduled(fixedDelayString = "${payment-cancel-outbox.dispatch-interval}")
+	public void dispatch() {
+		int idle = concurrency - sending.get();
+		if (idle <= 0) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<PaymentCancelOutbox> outboxes = paymentCancelOutboxRepository
+			.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(OutboxStatus.PENDING, now,
+				Limit.of(Math.min(batchSize, idle)));
+
+		LocalDateTime claimedUntil = now.plus(claimTimeout, ChronoUnit.MILLIS);
+		outboxes.forEach(outbox -> claim(outbox, claimedUntil).ifPresent(claimed -> {
+			sending.incrementAndGet();
+			executor.execute(() -> {
+				try {
+					send(claimed);
+				} finally {
+					sending.decrementAndGet();
+				}
+			});
+		}));
+	}
+
+	/**
+	 * @return 다른 서버가 먼저 가져갔으면 빈 값
+	 */
+	private Optional<PaymentCancelOutbox> claim(PaymentCancelOutbox outbox, LocalDateTime claimedUntil) {
+		outbox.claim(claimedUntil);
+		try {
+			return Optional.of(paymentCancelOutboxRepository.save(outbox));
+		} catch (OptimisticLockingFailureException exception) {
+			log.debug("{}: 다른 서버가 먼저 결제 취소를 보내는 중", outbox.getOrderNumber());
+			return Optional.empty();
+		}
+	}
+
+	private void send(PaymentCancelOutbox outbox) {
+		try {
+			gatewayTimer.record(() -> paymentCancelGateway.cancelPayment(outbox.getOrderNumber()));
+			outbox.sent();
+		} catch (InvalidPayCancelRequestException exception) {
+			log.error("{}: 결제 서버가 취소 요청을 거절", outbox.getOrderNumber(), exception);
+			outbox.fail(exception.getMessage());
+		} catch (RuntimeException exception) {
+			handleFailure(outbox, exception);
+		}
+
+		try {
+			paymentCancelOutboxRepository.save(outbox);
+			meterRegistry.counter("payment.cancel.outbox.dispatch", "result", result(outbox)).increment();
+		} catch (RuntimeException exception) {
+			log.error("{}: 결제 취소 결과 저장 실패, claim-timeout 이 지나면 다시 보냄", outbox.getOrderNumber(), exception);
+		}
+	}
+
+	private void handleFailure(PaymentCancelOutbox outbox, RuntimeException exception) {
+		if (outbox.getAttempts() + 1 >= maxAttempts) {
+			log.error("{}: 결제 취소 {}회 실패, 더 시도하지 않음", outbox.getOrderNumber(), maxAttempts, exception);
+			outbox.fail(exception.getMessage());
+			return;
+		}
+		log.warn("{}: 결제 취소 실패, 다시 시도 예정", outbox.getOrderNumber(), exception);
+		outbox.retryAt(LocalDateTime.now().plus(backoff(outbox.getAttempts() + 1), ChronoUnit.MILLIS),
+			exception.getMessage());
+	}
+
+	/**
+	 * @return attempts 번째 실패 후 기다릴 시간(ms), initial * 2^(attempts - 1) 을 max 로 자른다
+	 */
+	long backoff(int attempts) {
+		int shift = Math.min(attempts - 1, Long.numberOfLeadingZeros(initialBackoff) - 1);
+		return Math.min(maxBackoff, initialBackoff << shift);
+	}
+
+	private String result(PaymentCancelOutbox outbox) {
+		return switch (outbox.getStatus()) {
+			case SENT -> "sent";
+			case FAILED -> "failed";
+			case PENDING -> "retry";
+		};
+	}
+}
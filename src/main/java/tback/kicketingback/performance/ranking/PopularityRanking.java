@@ -0,0 +1,91 @@
+package tback.kicketingback.performance.ranking;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.domain.type.Genre;
+import tback.kicketingback.performance.dto.DateUnit;
+import tback.kicketingback.performance.dto.GetPerformancesSize;
+import tback.kicketingback.performance.dto.OnStageSalesDTO;
+import tback.kicketingback.performance.dto.Range;
+import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.repository.PerformanceRepositoryCustom;
+
+/**
+ * 예매 확정과 취소 이벤트로 공연별 판매 수를 바로 고쳐 순위 조회가 DB 집계 없이 최신 값을 돌려주게 한다.
+ * 다른 서버에서 팔린 좌석과 반영하지 못한 이벤트는 ranking.refresh-interval 마다 DB 에서 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularityRanking {
+
+	private final PerformanceRepositoryCustom performanceRepositoryCustom;
+
+	private final AtomicReference<SalesIndex> salesIndex = new AtomicReference<>();
+
+	@Scheduled(fixedDelayString = "${ranking.refresh-interval}")
+	public void rebuild() {
+		rebuild(LocalDate.now());
+	}
+
+	/**
+	 * 오늘 기준 가장 이른 DateUnit 범위의 시작일부터 읽는다. 실패하면 이전 인덱스를 그대로 둔다.
+	 */
+	void rebuild(LocalDate date) {
+		long startedAt = System.currentTimeMillis();
+		LocalDate from = Arrays.stream(DateUnit.values())
+			.map(dateUnit -> dateUnit.getRangeCalculator().apply(date).start())
+			.min(LocalDate::compareTo)
+			.orElse(date);
+		try {
+			salesIndex.set(new SalesIndex(from, performanceRepositoryCustom.findOnStageSales(from)));
+			log.debug("{}: 예매 순위 재계산 ({}ms)", from, System.currentTimeMillis() - startedAt);
+		} catch (RuntimeException exception) {
+			log.warn("{}: 예매 순위 재계산 실패 - {}", from, exception.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatStateChanged(SeatStateChangedEvent event) {
+		long delta = switch (event.transition()) {
+			case COMPLETE -> event.seatIds().size();
+			case CANCEL -> -event.seatIds().size();
+			default -> 0;
+		};
+		SalesIndex current = salesIndex.get();
+		if (delta == 0 || current == null) {
+			return;
+		}
+		try {
+			current.add(event.onStageId(), delta, this::findOnStageSales);
+		} catch (RuntimeException exception) {
+			log.warn("{}: 예매 순위 반영 실패, 다음 재계산 때 맞춤 - {}", event.onStageId(), exception.getMessage());
+		}
+	}
+
+	/**
+	 * @return 인덱스가 아직 없거나 range 가 인덱스보다 앞선 날짜를 포함하면 빈 값
+	 */
+	public Optional<List<SimplePerformancePlaceDTO>> findRanking(Genre genre, Range range, GetPerformancesSize size) {
+		SalesIndex current = salesIndex.get();
+		if (current == null || !current.covers(range)) {
+			return Optional.empty();
+		}
+		return Optional.of(current.top(range, genre, size.getAnInt()));
+	}
+
+	private Optional<OnStageSalesDTO> findOnStageSales(Long onStageId) {
+		return performanceRepositoryCustom.findOnStageSales(onStageId).stream().findFirst();
+	}
+}
@@ -0,0 +1,96 @@
+package tback.kicketingback.performance.ranking;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import tback.kicketingback.performance.domain.type.Genre;
+import tback.kicketingback.performance.dto.OnStageSalesDTO;
+import tback.kicketingback.performance.dto.Range;
+import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
+
+/**
+ * 공연 날짜별로 공연마다 판매된 좌석 수를 센다. DAY, WEEK, MONTH 순위는 범위에 든 날짜의 합으로 구한다.
+ * from 이전 날짜는 담고 있지 않으므로 그 날짜가 포함된 범위는 계산하지 않는다.
+ */
+class SalesIndex {
+
+	private final LocalDate from;
+	private final Map<LocalDate, Map<UUID, LongAdder>> dailySales = new ConcurrentHashMap<>();
+	private final Map<UUID, SimplePerformancePlaceDTO> performances = new ConcurrentHashMap<>();
+	private final Map<Long, OnStageSalesDTO> onStages = new ConcurrentHashMap<>();
+
+	SalesIndex(LocalDate from, List<OnStageSalesDTO> onStageSales) {
+		this.from = from;
+		onStageSales.forEach(sales -> onStages.put(sales.onStageId(), count(sales)));
+	}
+
+	boolean covers(Range range) {
+		return !range.start().isBefore(from);
+	}
+
+	/**
+	 * 처음 보는 회차는 loader 로 읽은 판매 수를 더한다. 커밋된 뒤 읽으므로 delta 는 이미 들어 있다.
+	 */
+	void add(Long onStageId, long delta, Function<Long, Optional<OnStageSalesDTO>> loader) {
+		OnStageSalesDTO known = onStages.get(onStageId);
+		if (known == null) {
+			onStages.computeIfAbsent(onStageId, id -> loader.apply(id).map(this::count).orElse(null));
+			return;
+		}
+		getSales(known).add(delta);
+	}
+
+	/**
+	 * 범위 안의 판매 수를 공연별로 합친 뒤 크기 size 의 최소 힙으로 상위 공연만 남긴다.
+	 */
+	List<SimplePerformancePlaceDTO> top(Range range, Genre genre, int size) {
+		Map<UUID, Long> totals = new HashMap<>();
+		for (LocalDate date = range.start(); date.isBefore(range.end()); date = date.plusDays(1)) {
+			dailySales.getOrDefault(date, Map.of()).forEach((performanceId, sales) ->
+				totals.merge(performanceId, sales.sum(), Long::sum));
+		}
+
+		Comparator<Map.Entry<UUID, Long>> bySales = Map.Entry.comparingByValue();
+		PriorityQueue<Map.Entry<UUID, Long>> heap = new PriorityQueue<>(size + 1, bySales);
+		for (Map.Entry<UUID, Long> total : totals.entrySet()) {
+			if (total.getValue() <= 0 || !matches(performances.get(total.getKey()), genre)) {
+				continue;
+			}
+			heap.offer(total);
+			if (heap.size() > size) {
+				heap.poll();
+			}
+		}
+
+		return heap.stream()
+			.sorted(bySales.reversed())
+			.map(total -> performances.get(total.getKey()))
+			.toList();
+	}
+
+	private OnStageSalesDTO count(OnStageSalesDTO onStageSales) {
+		SimplePerformancePlaceDTO performance = onStageSales.simplePerformancePlaceDTO();
+		performances.put(performance.simplePerformanceDTO().id(), performance);
+		getSales(onStageSales).add(onStageSales.soldCount());
+		return onStageSales;
+	}
+
+	private LongAdder getSales(OnStageSalesDTO onStageSales) {
+		return dailySales.computeIfAbsent(onStageSales.dateTime().toLocalDate(), date -> new ConcurrentHashMap<>())
+			.computeIfAbsent(onStageSales.simplePerformancePlaceDTO().simplePerformanceDTO().id(),
+				performanceId -> new LongAdder());
+	}
+
+	private boolean matches(SimplePerformancePlaceDTO performance, Genre genre) {
+		return genre == Genre.NONE || performance.simplePerformanceDTO().genre().equals(genre.getValue());
+	}
+}
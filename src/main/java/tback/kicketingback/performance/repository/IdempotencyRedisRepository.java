@@ -0,0 +1,82 @@
+package tback.kicketingback.performance.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 키마다 처리 중(요청을 맡은 서버의 token) 또는 완료(DONE) 상태를 TTL 과 함께 기록한다.
+ * token 이 같을 때만 완료하거나 지우므로 TTL 이 지나 다른 요청이 맡은 키를 건드리지 않는다.
+ */
+@RequiredArgsConstructor
+public class IdempotencyRedisRepository {
+
+	public enum State {
+		STARTED,
+		IN_PROGRESS,
+		DONE
+	}
+
+	private static final String KEY_FORMAT = "idempotency:{%d}:%s:%s";
+	private static final String DONE = "DONE";
+
+	private static final RedisScript<String> BEGIN_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+			return 'STARTED'
+		end
+		return redis.call('GET', KEYS[1])
+		""", String.class);
+
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 키가 비어 있으면 token 으로 처리 중 상태를 남긴다.
+	 *
+	 * @return STARTED 면 이번 요청이 처리를 맡음
+	 */
+	public State begin(String key, String token, Duration inFlightTtl) {
+		String result = redisTemplate.execute(BEGIN_SCRIPT, List.of(key), token,
+			String.valueOf(inFlightTtl.toMillis()));
+
+		if (DONE.equals(result)) {
+			return State.DONE;
+		}
+		if (State.STARTED.name().equals(result)) {
+			return State.STARTED;
+		}
+		return State.IN_PROGRESS;
+	}
+
+	public boolean complete(String key, String token, Duration completedTtl) {
+		return redisTemplate.execute(COMPLETE_SCRIPT, List.of(key), token, DONE,
+			String.valueOf(completedTtl.toMillis())) == 1L;
+	}
+
+	public void release(String key, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+	}
+
+	public static String toKey(Long userId, String operation, String orderNumber) {
+		return KEY_FORMAT.formatted(userId, operation, orderNumber);
+	}
+}
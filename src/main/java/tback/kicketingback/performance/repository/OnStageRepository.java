@@ -15,5 +15,7 @@ public interface OnStageRepository extends JpaRepository<OnStage, Long> {
 
 	boolean existsByPerformance_Id(UUID performanceUUID);
 
+	Optional<OnStage> findByPerformance_IdAndDateTime(UUID performanceUUID, LocalDateTime dateTime);
+
 	Optional<OnStage> findById(Long id);
 }
@@ -0,0 +1,20 @@
+package tback.kicketingback.performance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+import tback.kicketingback.performance.domain.type.OutboxStatus;
+
+public interface PaymentCancelOutboxRepository extends Repository<PaymentCancelOutbox, Long> {
+
+	PaymentCancelOutbox save(PaymentCancelOutbox paymentCancelOutbox);
+
+	boolean existsByOrderNumber(String orderNumber);
+
+	List<PaymentCancelOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+		OutboxStatus status, LocalDateTime nextAttemptAt, Limit limit);
+}
@@ -1,12 +1,18 @@
 package tback.kicketingback.performance.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -18,6 +24,7 @@ import tback.kicketingback.performance.domain.QStar;
 import tback.kicketingback.performance.domain.QStarsIn;
 import tback.kicketingback.performance.domain.type.Genre;
 import tback.kicketingback.performance.dto.GetPerformancesSize;
+import tback.kicketingback.performance.dto.OnStageSalesDTO;
 import tback.kicketingback.performance.dto.PerformanceDTO;
 import tback.kicketingback.performance.dto.PerformancePlaceDTO;
 import tback.kicketingback.performance.dto.PlaceDTO;
@@ -104,6 +111,44 @@ public class PerformanceRepositoryCustom {
 			.fetch();
 	}
 
+	/**
+	 * from 이후 회차마다 판매된 좌석 수. 판매가 없는 회차도 0 으로 포함한다.
+	 */
+	public List<OnStageSalesDTO> findOnStageSales(LocalDate from) {
+		return findOnStageSales(onStage.dateTime.goe(from.atStartOfDay()));
+	}
+
+	public List<OnStageSalesDTO> findOnStageSales(Long onStageId) {
+		return findOnStageSales(onStage.id.eq(onStageId));
+	}
+
+	private List<OnStageSalesDTO> findOnStageSales(BooleanExpression condition) {
+		return queryFactory.select(Projections.constructor(OnStageSalesDTO.class,
+				onStage.id,
+				onStage.dateTime,
+				Projections.constructor(SimplePerformancePlaceDTO.class,
+					Projections.constructor(SimplePerformanceDTO.class,
+						performance.id,
+						performance.genre,
+						performance.name,
+						performance.startDate,
+						performance.endDate,
+						performance.imageUrl),
+					Projections.constructor(PlaceDTO.class,
+						place.id,
+						place.name,
+						place.address,
+						place.hall)),
+				JPAExpressions.select(reservation.count())
+					.from(reservation)
+					.where(reservation.onStage.id.eq(onStage.id).and(reservation.orderNumber.isNotNull()))))
+			.from(onStage)
+			.join(performance).on(onStage.performance.id.eq(performance.id))
+			.join(place).on(place.id.eq(performance.place.id))
+			.where(condition)
+			.fetch();
+	}
+
 	public Optional<PerformancePlaceDTO> findPerformanceAndPlaceInfo(UUID performanceUUID) {
 		return Optional.ofNullable(queryFactory.select(Projections.constructor(PerformancePlaceDTO.class,
 				Projections.constructor(PerformanceDTO.class,
@@ -127,6 +172,29 @@ public class PerformanceRepositoryCustom {
 			.fetchOne());
 	}
 
+	public List<PerformancePlaceDTO> findPerformanceAndPlaceInfos(Collection<UUID> performanceUUIDs) {
+		return queryFactory.select(Projections.constructor(PerformancePlaceDTO.class,
+				Projections.constructor(PerformanceDTO.class,
+					performance.id,
+					performance.name,
+					performance.genre,
+					performance.length,
+					performance.startDate,
+					performance.endDate,
+					performance.ageLimit,
+					performance.imageUrl,
+					performance.place.id),
+				Projections.constructor(PlaceDTO.class,
+					place.id,
+					place.name,
+					place.address,
+					place.hall)))
+			.from(performance)
+			.join(place).on(performance.place.id.eq(place.id))
+			.where(performance.id.in(performanceUUIDs))
+			.fetch();
+	}
+
 	public List<StarDTO> findStarsIn(UUID performanceUUID) {
 		return queryFactory.select(Projections.constructor(StarDTO.class,
 				star.id,
@@ -140,6 +208,22 @@ public class PerformanceRepositoryCustom {
 			.fetch();
 	}
 
+	/**
+	 * @return 공연마다 출연진 목록, 출연진이 없는 공연은 빠진다
+	 */
+	public Map<UUID, List<StarDTO>> findStarsIn(Collection<UUID> performanceUUIDs) {
+		return queryFactory.from(starsIn)
+			.join(star).on(star.id.eq(starsIn.star.id))
+			.where(starsIn.performance.id.in(performanceUUIDs))
+			.transform(GroupBy.groupBy(starsIn.performance.id).as(GroupBy.list(
+				Projections.constructor(StarDTO.class,
+					star.id,
+					star.name,
+					star.birthdate,
+					star.sex,
+					star.imageURL))));
+	}
+
 	public boolean isExistPerformance(UUID performanceUUID, Long onStageId) {
 		Long count = queryFactory.select(onStage.id.count())
 			.from(onStage)
@@ -0,0 +1,58 @@
+package tback.kicketingback.performance.repository;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회차 좌석 재고(reservation 행)를 JDBC batch 로 만든다.
+ * 좌석은 place 단위로 seat.id 순서의 구간씩 읽으므로 중간에 멈춰도 마지막 구간부터 다시 시작할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationInventoryJdbcRepository {
+
+	private static final String FIND_SEAT_IDS_SQL = """
+		SELECT id FROM seat WHERE place_id = ? AND id > ? ORDER BY id LIMIT ?""";
+
+	private static final String FIND_PROVISIONED_SEAT_IDS_SQL = """
+		SELECT seat_id FROM reservation WHERE on_stage_id = ? AND seat_id BETWEEN ? AND ?""";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO reservation (id, on_stage_id, seat_id, version) VALUES (?, ?, ?, 0)""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<Long> findSeatIds(Long placeId, long afterSeatId, int limit) {
+		return jdbcTemplate.queryForList(FIND_SEAT_IDS_SQL, Long.class, placeId, afterSeatId, limit);
+	}
+
+	public Set<Long> findProvisionedSeatIds(Long onStageId, long fromSeatId, long toSeatId) {
+		return new HashSet<>(
+			jdbcTemplate.queryForList(FIND_PROVISIONED_SEAT_IDS_SQL, Long.class, onStageId, fromSeatId, toSeatId));
+	}
+
+	public void insertReservations(Long onStageId, List<Long> seatIds) {
+		List<Object[]> rows = seatIds.stream()
+			.map(seatId -> new Object[] {toBytes(UUID.randomUUID()), onStageId, seatId})
+			.toList();
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+	}
+
+	/**
+	 * Hibernate 가 UUID 를 binary(16) 으로 저장하는 방식과 같게 맞춘다.
+	 */
+	private byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -0,0 +1,20 @@
+package tback.kicketingback.performance.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.PaymentStatus;
+
+public interface ReservationPaymentRepository extends JpaRepository<ReservationPayment, Long> {
+
+	Optional<ReservationPayment> findByOrderNumber(String orderNumber);
+
+	List<ReservationPayment> findByStatusInAndModifiedAtBeforeOrderByModifiedAt(
+		Collection<PaymentStatus> statuses, LocalDateTime modifiedAt, Limit limit);
+}
@@ -2,12 +2,10 @@ package tback.kicketingback.performance.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -24,10 +22,13 @@ import tback.kicketingback.performance.dto.PlaceDTO;
 import tback.kicketingback.performance.dto.SeatDTO;
 import tback.kicketingback.performance.dto.SeatGradeCount;
 import tback.kicketingback.performance.dto.SeatGradeDTO;
+import tback.kicketingback.performance.dto.SeatHoldDTO;
 import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.dto.SeatStateDTO;
 import tback.kicketingback.performance.dto.SimplePerformanceDTO;
 import tback.kicketingback.performance.dto.SimpleReservationDTO;
 import tback.kicketingback.user.domain.QUser;
+import tback.kicketingback.user.domain.User;
 
 @Repository
 public class ReservationRepositoryCustom {
@@ -51,30 +52,29 @@ public class ReservationRepositoryCustom {
 		this.seatGrade = QSeatGrade.seatGrade;
 	}
 
-	public Optional<List<SeatGradeCount>> getUnorderedReservationsCountByGrade(Long onStageId) {
-		List<SeatGradeCount> gradeCountList = queryFactory
+	public List<SeatGradeCount> countBookableSeatsByGrade(Long onStageId) {
+		return queryFactory
 			.select(Projections.constructor(SeatGradeCount.class,
 				seat.grade,
-				reservation.id.count().coalesce(0L)))
-			.from(seat)
-			.leftJoin(reservation).on(
-				reservation.seat.id.eq(seat.id)
-					.and(reservation.onStage.id.eq(onStageId))
-					.and(reservation.orderNumber.isNull())
-					.and(reservation.user.isNull().or(reservation.lockExpiredTime.before(LocalDateTime.now()))))
-			.where(JPAExpressions.selectOne()
-				.from(onStage)
-				.where(onStage.id.eq(onStageId))
-				.exists())
+				reservation.id.count()))
+			.from(reservation)
+			.join(seat).on(reservation.seat.id.eq(seat.id))
+			.where(reservation.onStage.id.eq(onStageId)
+				.and(reservation.orderNumber.isNull())
+				.and(reservation.user.isNull()))
 			.groupBy(seat.grade)
 			.fetch();
-
-		return Optional.ofNullable(gradeCountList.isEmpty() ? null : gradeCountList);
 	}
 
-	public List<SeatReservationDTO> findOnStageSeats(Long onStageId) {
-		return queryFactory.select(Projections.constructor(SeatReservationDTO.class,
-				seat, reservation))
+	public List<SeatStateDTO> findOnStageSeatStates(Long onStageId) {
+		return queryFactory.select(Projections.constructor(SeatStateDTO.class,
+				seat.id,
+				seat.grade,
+				seat.seatRow,
+				seat.seatCol,
+				reservation.user.id,
+				reservation.lockExpiredTime,
+				reservation.orderNumber))
 			.from(reservation)
 			.join(seat).on(reservation.seat.id.eq(seat.id))
 			.where(reservation.onStage.id.eq(onStageId))
@@ -93,6 +93,64 @@ public class ReservationRepositoryCustom {
 			.fetch();
 	}
 
+	/**
+	 * 판매되지 않았고 점유자도 없는 좌석만 UPDATE 한 번으로 점유한다.
+	 *
+	 * @return 점유한 좌석 수, seatIds 크기보다 작으면 일부 좌석이 없거나 이미 점유된 것
+	 */
+	public long holdFreeSeats(Long onStageId, List<Long> seatIds, User holder, LocalDateTime lockExpiredTime) {
+		return queryFactory.update(reservation)
+			.set(reservation.user, holder)
+			.set(reservation.lockExpiredTime, lockExpiredTime)
+			.set(reservation.version, reservation.version.add(1))
+			.where(reservation.onStage.id.eq(onStageId)
+				.and(reservation.seat.id.in(seatIds))
+				.and(reservation.orderNumber.isNull())
+				.and(reservation.user.isNull()))
+			.execute();
+	}
+
+	/**
+	 * 락 없이 읽는다. 변경은 커밋 때 version 조건으로 검사한다.
+	 */
+	public List<SeatReservationDTO> findUnlockedSeats(Long onStageId, List<Long> seatsIds) {
+		return queryFactory.select(
+				Projections.constructor(SeatReservationDTO.class,
+					seat, reservation))
+			.from(reservation)
+			.join(seat).on(reservation.seat.id.eq(seat.id)
+				.and(seat.id.in(seatsIds)))
+			.where(reservation.onStage.id.eq(onStageId))
+			.fetch();
+	}
+
+	/**
+	 * 만료 시각이 지난 미결제 점유만 해제한다. 그 사이 다시 점유되거나 결제된 좌석은 건드리지 않는다.
+	 */
+	public long releaseExpiredHolds(Long onStageId, List<Long> seatIds, LocalDateTime now) {
+		return queryFactory.update(reservation)
+			.setNull(reservation.user)
+			.setNull(reservation.lockExpiredTime)
+			.set(reservation.version, reservation.version.add(1))
+			.where(reservation.onStage.id.eq(onStageId)
+				.and(reservation.seat.id.in(seatIds))
+				.and(reservation.orderNumber.isNull())
+				.and(reservation.lockExpiredTime.loe(now)))
+			.execute();
+	}
+
+	public List<SeatHoldDTO> findExpiredHolds(LocalDateTime now, int limit) {
+		return queryFactory.select(Projections.constructor(SeatHoldDTO.class,
+				reservation.onStage.id,
+				reservation.seat.id))
+			.from(reservation)
+			.where(reservation.user.isNotNull()
+				.and(reservation.orderNumber.isNull())
+				.and(reservation.lockExpiredTime.loe(now)))
+			.limit(limit)
+			.fetch();
+	}
+
 	public List<DetailReservationDTO> myReservations(Long userId) {
 
 		return queryFactory.select(Projections.constructor(DetailReservationDTO.class,
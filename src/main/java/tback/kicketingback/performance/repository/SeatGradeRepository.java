@@ -1,5 +1,6 @@
 package tback.kicketingback.performance.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,5 +12,7 @@ public interface SeatGradeRepository extends JpaRepository<SeatGrade, Long> {
 
 	List<SeatGrade> findSeatGradesByPerformanceId(UUID performanceUUID);
 
+	List<SeatGrade> findSeatGradesByPerformanceIdIn(Collection<UUID> performanceUUIDs);
+
 	List<Integer> findPriceByPerformanceId(UUID performanceUUID);
 }
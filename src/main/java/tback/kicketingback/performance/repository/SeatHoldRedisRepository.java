@@ -0,0 +1,122 @@
+package tback.kicketingback.performance.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.HeldSeatDTO;
+
+/**
+ * 좌석 점유를 좌석별 키(TTL = 점유 시간)로 관리한다.
+ * 여러 좌석의 점유는 Lua 스크립트 한 번으로 전부 성공하거나 전부 실패한다.
+ */
+@RequiredArgsConstructor
+public class SeatHoldRedisRepository {
+
+	private static final String HOLD_KEY_FORMAT = "seat-hold:{%d}:%d";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> HOLD_SCRIPT = new DefaultRedisScript<>("""
+		local conflicts = {}
+		for index, key in ipairs(KEYS) do
+			local holder = redis.call('GET', key)
+			if holder and holder ~= ARGV[1] then
+				table.insert(conflicts, index)
+			end
+		end
+		if #conflicts > 0 then
+			return conflicts
+		end
+		for _, key in ipairs(KEYS) do
+			redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+		end
+		return conflicts
+		""", List.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		local released = 0
+		for _, key in ipairs(KEYS) do
+			if redis.call('GET', key) == ARGV[1] then
+				released = released + redis.call('DEL', key)
+			end
+		end
+		return released
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * @return 다른 사용자가 점유 중이라 점유하지 못한 좌석 ID, 비어 있으면 모든 좌석 점유 성공
+	 */
+	public List<Long> hold(Long onStageId, List<Long> seatIds, Long userId, Duration lockTime) {
+		List<?> conflictIndexes = redisTemplate.execute(HOLD_SCRIPT, toKeys(onStageId, seatIds),
+			String.valueOf(userId), String.valueOf(lockTime.toMillis()));
+
+		if (conflictIndexes == null) {
+			return List.of();
+		}
+		return conflictIndexes.stream()
+			.map(index -> seatIds.get(((Long)index).intValue() - 1))
+			.toList();
+	}
+
+	public List<Long> findNotHeldBy(Long onStageId, List<Long> seatIds, Long userId) {
+		List<String> holders = redisTemplate.opsForValue().multiGet(toKeys(onStageId, seatIds));
+		String holderId = String.valueOf(userId);
+
+		List<Long> notHeldSeatIds = new ArrayList<>();
+		for (int index = 0; index < seatIds.size(); index++) {
+			if (holders == null || !holderId.equals(holders.get(index))) {
+				notHeldSeatIds.add(seatIds.get(index));
+			}
+		}
+		return notHeldSeatIds;
+	}
+
+	/**
+	 * 점유자와 남은 TTL 을 GET, PTTL 파이프라인 한 번으로 읽는다.
+	 */
+	public List<HeldSeatDTO> findHolds(Long onStageId, List<Long> seatIds, LocalDateTime now) {
+		if (seatIds.isEmpty()) {
+			return List.of();
+		}
+		List<String> keys = toKeys(onStageId, seatIds);
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			keys.forEach(key -> {
+				byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+				connection.stringCommands().get(rawKey);
+				connection.keyCommands().pTtl(rawKey);
+			});
+			return null;
+		});
+
+		List<HeldSeatDTO> holds = new ArrayList<>();
+		for (int index = 0; index < seatIds.size(); index++) {
+			Object holder = results.get(index * 2);
+			Object ttl = results.get(index * 2 + 1);
+			if (holder != null && ttl instanceof Long millis && millis > 0) {
+				holds.add(new HeldSeatDTO(seatIds.get(index), Long.valueOf(holder.toString()),
+					now.plus(Duration.ofMillis(millis))));
+			}
+		}
+		return holds;
+	}
+
+	public void release(Long onStageId, List<Long> seatIds, Long userId) {
+		redisTemplate.execute(RELEASE_SCRIPT, toKeys(onStageId, seatIds), String.valueOf(userId));
+	}
+
+	private List<String> toKeys(Long onStageId, List<Long> seatIds) {
+		return seatIds.stream()
+			.map(seatId -> HOLD_KEY_FORMAT.formatted(onStageId, seatId))
+			.toList();
+	}
+}
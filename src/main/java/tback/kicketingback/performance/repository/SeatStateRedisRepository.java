@@ -0,0 +1,20 @@
+package tback.kicketingback.performance.repository;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 좌석 상태 변경을 CHANNEL 로 다른 서버에 알린다. 받는 쪽은 SeatStateRelay 다.
+ */
+@RequiredArgsConstructor
+public class SeatStateRedisRepository {
+
+	public static final String CHANNEL = "seat-state:changed";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public void publish(String message) {
+		redisTemplate.convertAndSend(CHANNEL, message);
+	}
+}
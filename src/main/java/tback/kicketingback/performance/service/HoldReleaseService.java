@@ -0,0 +1,50 @@
+package tback.kicketingback.performance.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.dto.SeatHoldDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+
+@Service
+@RequiredArgsConstructor
+public class HoldReleaseService {
+
+	@Value("${reservation-policy.hold-expiry.batch-size}")
+	private int batchSize;
+
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public long release(Long onStageId, List<Long> seatIds, LocalDateTime now) {
+		long released = 0;
+		for (int from = 0; from < seatIds.size(); from += batchSize) {
+			List<Long> batch = seatIds.subList(from, Math.min(from + batchSize, seatIds.size()));
+			released += reservationRepositoryCustom.releaseExpiredHolds(onStageId, batch, now);
+		}
+		eventPublisher.publishEvent(SeatStateChangedEvent.expired(onStageId, seatIds, now));
+		return released;
+	}
+
+	/**
+	 * 타이밍 휠에 없는 점유(다른 서버에서 잡았거나 재시작 전에 잡힌 점유)를 정리한다.
+	 */
+	@Transactional
+	public long releaseAllExpired(LocalDateTime now) {
+		return reservationRepositoryCustom.findExpiredHolds(now, batchSize).stream()
+			.collect(Collectors.groupingBy(SeatHoldDTO::onStageId,
+				Collectors.mapping(SeatHoldDTO::seatId, Collectors.toList())))
+			.entrySet().stream()
+			.mapToLong(entry -> release(entry.getKey(), entry.getValue(), now))
+			.sum();
+	}
+}
@@ -0,0 +1,138 @@
+package tback.kicketingback.performance.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.cache.CatalogCache;
+import tback.kicketingback.performance.domain.OnStage;
+import tback.kicketingback.performance.domain.Performance;
+import tback.kicketingback.performance.dto.ProvisionOnStagesRequest;
+import tback.kicketingback.performance.dto.ProvisionedOnStageDTO;
+import tback.kicketingback.performance.exception.exceptions.InvalidOnStageScheduleException;
+import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceUUIDException;
+import tback.kicketingback.performance.repository.OnStageRepository;
+import tback.kicketingback.performance.repository.PerformanceRepository;
+import tback.kicketingback.performance.repository.ReservationInventoryJdbcRepository;
+
+/**
+ * 회차를 만들고 공연장의 모든 좌석에 대해 reservation 행을 만든다.
+ * 같은 요청을 다시 보내면 이미 있는 회차와 좌석 재고는 건너뛰고 빠진 것만 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OnStageProvisioningService {
+
+	@Value("${provisioning.batch-size}")
+	private int batchSize;
+
+	private final PerformanceRepository performanceRepository;
+	private final OnStageRepository onStageRepository;
+	private final ReservationInventoryJdbcRepository reservationInventoryJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final CatalogCache catalogCache;
+
+	public List<ProvisionedOnStageDTO> provision(UUID performanceUUID, ProvisionOnStagesRequest request) {
+		Performance performance = performanceRepository.findById(performanceUUID)
+			.orElseThrow(() -> new InvalidPerformanceUUIDException(performanceUUID));
+		checkSchedule(performance, request);
+
+		List<LocalTime> times = request.times().stream().distinct().sorted().toList();
+		List<ProvisionedOnStageDTO> provisionedOnStages = new ArrayList<>();
+
+		for (LocalDate date : scheduledDates(request)) {
+			for (int index = 0; index < times.size(); index++) {
+				OnStage onStage = findOrCreateOnStage(performance, date.atTime(times.get(index)), index + 1);
+				int createdSeats = provisionSeats(onStage.getId(), performance.getPlace().getId());
+
+				provisionedOnStages.add(new ProvisionedOnStageDTO(onStage.getId(), onStage.getDateTime(),
+					onStage.getRound(), createdSeats));
+			}
+		}
+
+		provisionedOnStages.stream()
+			.map(provisionedOnStage -> YearMonth.from(provisionedOnStage.dateTime()))
+			.distinct()
+			.forEach(month -> catalogCache.evictBookableDates(performanceUUID, month));
+		return provisionedOnStages;
+	}
+
+	private void checkSchedule(Performance performance, ProvisionOnStagesRequest request) {
+		if (request.startDate().isAfter(request.endDate())
+			|| request.startDate().isBefore(performance.getStartDate())
+			|| request.endDate().isAfter(performance.getEndDate())) {
+			throw new InvalidOnStageScheduleException();
+		}
+	}
+
+	private List<LocalDate> scheduledDates(ProvisionOnStagesRequest request) {
+		Set<DayOfWeek> daysOfWeek = request.daysOfWeek() == null ? Set.of() : request.daysOfWeek();
+
+		return request.startDate().datesUntil(request.endDate().plusDays(1))
+			.filter(date -> daysOfWeek.isEmpty() || daysOfWeek.contains(date.getDayOfWeek()))
+			.toList();
+	}
+
+	private OnStage findOrCreateOnStage(Performance performance, LocalDateTime dateTime, int round) {
+		return onStageRepository.findByPerformance_IdAndDateTime(performance.getId(), dateTime)
+			.orElseGet(() -> createOnStage(performance, dateTime, round));
+	}
+
+	/**
+	 * 같은 요청이 동시에 들어와 다른 쪽이 먼저 만들었으면 unique 제약에 걸리므로, 그 회차를 다시 읽어 쓴다.
+	 */
+	private OnStage createOnStage(Performance performance, LocalDateTime dateTime, int round) {
+		try {
+			return onStageRepository.save(OnStage.of(performance, dateTime, round));
+		} catch (DataIntegrityViolationException exception) {
+			return onStageRepository.findByPerformance_IdAndDateTime(performance.getId(), dateTime)
+				.orElseThrow(() -> exception);
+		}
+	}
+
+	/**
+	 * 좌석을 batchSize 개씩 seat.id 순서로 읽고, 구간마다 아직 없는 reservation 행만 한 트랜잭션으로 넣는다.
+	 */
+	private int provisionSeats(Long onStageId, Long placeId) {
+		long startedAt = System.currentTimeMillis();
+		int createdSeats = 0;
+
+		List<Long> seatIds = reservationInventoryJdbcRepository.findSeatIds(placeId, 0L, batchSize);
+		while (!seatIds.isEmpty()) {
+			List<Long> chunk = seatIds;
+			Integer created = transactionTemplate.execute(status -> insertMissing(onStageId, chunk));
+			createdSeats += created == null ? 0 : created;
+
+			Long lastSeatId = chunk.get(chunk.size() - 1);
+			seatIds = reservationInventoryJdbcRepository.findSeatIds(placeId, lastSeatId, batchSize);
+		}
+
+		log.info("{}: 좌석 재고 {}건 생성 ({}ms)", onStageId, createdSeats, System.currentTimeMillis() - startedAt);
+		return createdSeats;
+	}
+
+	private int insertMissing(Long onStageId, List<Long> seatIds) {
+		Set<Long> provisionedSeatIds = reservationInventoryJdbcRepository.findProvisionedSeatIds(onStageId,
+			seatIds.get(0), seatIds.get(seatIds.size() - 1));
+		List<Long> missingSeatIds = seatIds.stream()
+			.filter(seatId -> !provisionedSeatIds.contains(seatId))
+			.toList();
+
+		reservationInventoryJdbcRepository.insertReservations(onStageId, missingSeatIds);
+		return missingSeatIds.size();
+	}
+}
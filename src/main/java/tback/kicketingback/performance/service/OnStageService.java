@@ -1,13 +1,14 @@
 package tback.kicketingback.performance.service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
-import tback.kicketingback.performance.domain.OnStage;
+import tback.kicketingback.performance.cache.CatalogCache;
 import tback.kicketingback.performance.dto.DateUnit;
 import tback.kicketingback.performance.dto.GetBookableDatesRequest;
 import tback.kicketingback.performance.dto.Range;
@@ -20,23 +21,35 @@ import tback.kicketingback.performance.repository.OnStageRepository;
 public class OnStageService {
 
 	private final OnStageRepository onStageRepository;
+	private final CatalogCache catalogCache;
 
 	public List<SimpleOnStageDTO> getBookableDates(UUID performanceUUID,
 		GetBookableDatesRequest getBookableDatesRequest) {
 		LocalDate startDate = getBookableDatesRequest.startDate();
-		Range range = calculateRange(startDate);
+		YearMonth month = YearMonth.from(startDate);
 
-		List<OnStage> onStages = onStageRepository.findByPerformance_IdAndDateTimeBetween(
-			performanceUUID,
-			startDate.atStartOfDay(),
-			range.end().atStartOfDay()
-		);
+		List<SimpleOnStageDTO> onStages = catalogCache.getBookableDates(performanceUUID, month,
+				() -> findOnStages(performanceUUID, month))
+			.stream()
+			.filter(onStage -> !onStage.dateTime().isBefore(startDate.atStartOfDay()))
+			.toList();
 
 		if (onStages.isEmpty() && performanceNotOnStageExists(performanceUUID)) {
 			throw new InvalidPerformanceUUIDException(performanceUUID);
 		}
 
-		return onStages.stream()
+		return onStages;
+	}
+
+	private List<SimpleOnStageDTO> findOnStages(UUID performanceUUID, YearMonth month) {
+		Range range = calculateRange(month.atDay(1));
+
+		return onStageRepository.findByPerformance_IdAndDateTimeBetween(
+				performanceUUID,
+				range.start().atStartOfDay(),
+				range.end().atStartOfDay()
+			)
+			.stream()
 			.map(SimpleOnStageDTO::from)
 			.toList();
 	}
@@ -0,0 +1,9 @@
+package tback.kicketingback.performance.service;
+
+/**
+ * 결제 취소를 요청하는 결제 서버. 같은 주문 번호로 여러 번 요청해도 한 번만 취소되어야 한다.
+ */
+public interface PaymentCancelGateway {
+
+	void cancelPayment(String orderNumber);
+}
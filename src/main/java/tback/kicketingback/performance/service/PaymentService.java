@@ -19,7 +19,7 @@ import tback.kicketingback.performance.exception.exceptions.PaymentServerErrorEx
 
 @Service
 @RequiredArgsConstructor
-public class PaymentService {
+public class PaymentService implements PaymentCancelGateway {
 
 	@Value("${payments.custom.verify-pay-url}")
 	private String payUrl;
@@ -41,6 +41,7 @@ public class PaymentService {
 		}
 	}
 
+	@Override
 	public void cancelPayment(String orderNumber) {
 		HttpHeaders headers = createHeaders();
 		PaymentCancelRequest paymentRequest = new PaymentCancelRequest(orderNumber);
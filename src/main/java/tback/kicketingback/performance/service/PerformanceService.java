@@ -2,11 +2,16 @@ package tback.kicketingback.performance.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.cache.CatalogCache;
 import tback.kicketingback.performance.domain.type.Genre;
 import tback.kicketingback.performance.dto.DateUnit;
 import tback.kicketingback.performance.dto.DetailPerformanceDTO;
@@ -17,7 +22,9 @@ import tback.kicketingback.performance.dto.Range;
 import tback.kicketingback.performance.dto.SeatGradeDTO;
 import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
 import tback.kicketingback.performance.dto.StarDTO;
+import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceBatchSizeException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceUUIDException;
+import tback.kicketingback.performance.ranking.PopularityRanking;
 import tback.kicketingback.performance.repository.PerformanceRepositoryCustom;
 import tback.kicketingback.performance.repository.SeatGradeRepository;
 
@@ -27,6 +34,8 @@ public class PerformanceService {
 
 	private final PerformanceRepositoryCustom performanceRepositoryCustom;
 	private final SeatGradeRepository seatGradeRepository;
+	private final PopularityRanking popularityRanking;
+	private final CatalogCache catalogCache;
 
 	public List<SimplePerformancePlaceDTO> getPerformances(
 		String genre,
@@ -38,20 +47,45 @@ public class PerformanceService {
 		Range range = dateUnit.getRangeCalculator().apply(localDate);
 		GetPerformancesSize getPerformancesSize = GetPerformancesSize.of(getPerformancesRequest.size());
 
-		if (targetGenre.equals(Genre.NONE)) {
-			return performanceRepositoryCustom.findRankingPerformances(
-				range,
-				getPerformancesSize
-			);
+		return popularityRanking.findRanking(targetGenre, range, getPerformancesSize)
+			.orElseGet(() -> catalogCache.getRanking(targetGenre, range, getPerformancesSize,
+				() -> findRankingPerformances(targetGenre, range, getPerformancesSize)));
+	}
+
+	public DetailPerformanceDTO getPerformance(UUID performanceUUID) {
+		return catalogCache.getPerformance(performanceUUID, this::findPerformance);
+	}
+
+	/**
+	 * 캐시에 없는 공연만 모아 공연, 좌석 등급, 출연진을 IN 조회 한 번씩으로 읽는다.
+	 * 요청한 순서대로 돌려주고 없는 공연은 뺀다.
+	 */
+	public List<DetailPerformanceDTO> getPerformances(List<UUID> performanceUUIDs) {
+		List<UUID> distinctUUIDs = performanceUUIDs.stream().distinct().toList();
+		if (distinctUUIDs.isEmpty() || distinctUUIDs.size() > GetPerformancesSize.MAX_SIZE) {
+			throw new InvalidPerformanceBatchSizeException(distinctUUIDs.size());
 		}
 
-		return performanceRepositoryCustom.findGenreRankingPerformances(
-			targetGenre,
-			range,
-			getPerformancesSize);
+		Map<UUID, DetailPerformanceDTO> performances = catalogCache.getPerformances(distinctUUIDs,
+			this::findPerformances);
+		return distinctUUIDs.stream()
+			.map(performances::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
-	public DetailPerformanceDTO getPerformance(UUID performanceUUID) {
+	/**
+	 * 공연, 공연장, 좌석 등급, 출연진을 바꾼 뒤 호출해 다음 조회가 DB 에서 다시 읽게 한다.
+	 */
+	public void evictPerformance(UUID performanceUUID) {
+		catalogCache.evictPerformance(performanceUUID);
+	}
+
+	public void evictAllPerformances() {
+		catalogCache.evictAllPerformances();
+	}
+
+	private DetailPerformanceDTO findPerformance(UUID performanceUUID) {
 		PerformancePlaceDTO performancePlaceDTO = performanceRepositoryCustom.findPerformanceAndPlaceInfo(
 				performanceUUID)
 			.orElseThrow(() -> new InvalidPerformanceUUIDException(performanceUUID));
@@ -69,4 +103,54 @@ public class PerformanceService {
 			performancePlaceDTO.placeDTO(),
 			seatGradeDTOS, starsDTOS);
 	}
+
+	private Map<UUID, DetailPerformanceDTO> findPerformances(Set<UUID> performanceUUIDs) {
+		List<PerformancePlaceDTO> performancePlaceDTOS = performanceRepositoryCustom.findPerformanceAndPlaceInfos(
+			performanceUUIDs);
+		if (performancePlaceDTOS.isEmpty()) {
+			return Map.of();
+		}
+
+		List<UUID> foundUUIDs = performancePlaceDTOS.stream()
+			.map(performancePlaceDTO -> performancePlaceDTO.performanceDTO().id())
+			.toList();
+		Map<UUID, List<SeatGradeDTO>> seatGradeDTOS = seatGradeRepository.findSeatGradesByPerformanceIdIn(foundUUIDs)
+			.stream()
+			.collect(Collectors.groupingBy(seatGrade -> seatGrade.getPerformance().getId(),
+				Collectors.mapping(seatGrade ->
+					new SeatGradeDTO(seatGrade.getId(),
+						seatGrade.getGrade(),
+						seatGrade.getPrice()), Collectors.toList())));
+		Map<UUID, List<StarDTO>> starDTOS = performanceRepositoryCustom.findStarsIn(foundUUIDs);
+
+		return performancePlaceDTOS.stream()
+			.collect(Collectors.toMap(performancePlaceDTO -> performancePlaceDTO.performanceDTO().id(),
+				performancePlaceDTO -> new DetailPerformanceDTO(
+					performancePlaceDTO.performanceDTO(),
+					performancePlaceDTO.placeDTO(),
+					seatGradeDTOS.getOrDefault(performancePlaceDTO.performanceDTO().id(), List.of()),
+					starDTOS.getOrDefault(performancePlaceDTO.performanceDTO().id(), List.of())),
+				(first, second) -> first));
+	}
+
+	/**
+	 * 순위 인덱스가 아직 없거나 인덱스보다 앞선 날짜를 조회할 때만 직접 집계한다.
+	 */
+	private List<SimplePerformancePlaceDTO> findRankingPerformances(
+		Genre targetGenre,
+		Range range,
+		GetPerformancesSize getPerformancesSize
+	) {
+		if (targetGenre.equals(Genre.NONE)) {
+			return performanceRepositoryCustom.findRankingPerformances(
+				range,
+				getPerformancesSize
+			);
+		}
+
+		return performanceRepositoryCustom.findGenreRankingPerformances(
+			targetGenre,
+			range,
+			getPerformancesSize);
+	}
 }
@@ -0,0 +1,54 @@
+package tback.kicketingback.performance.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.PaymentStatus;
+import tback.kicketingback.performance.repository.ReservationPaymentRepository;
+
+/**
+ * 서버가 죽거나 결제 서버 응답을 받지 못해 중간 상태로 남은 결제를 마무리한다.
+ * resolve-after 는 결제 서버 응답을 기다리는 시간보다 길어야 진행 중인 요청과 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationPaymentResolver {
+
+	private static final List<PaymentStatus> UNFINISHED_STATUSES = List.of(
+		PaymentStatus.PENDING, PaymentStatus.VERIFIED, PaymentStatus.COMPENSATING);
+
+	@Value("${reservation-policy.payment.resolve-after}")
+	private long resolveAfter;
+	@Value("${reservation-policy.payment.resolve-batch-size}")
+	private int resolveBatchSize;
+
+	private final ReservationPaymentRepository reservationPaymentRepository;
+	private final ReservationPaymentService reservationPaymentService;
+
+	@Scheduled(fixedDelayString = "${reservation-policy.payment.resolve-interval}")
+	public void resolveUnfinishedPayments() {
+		LocalDateTime modifiedBefore = LocalDateTime.now().minus(resolveAfter, ChronoUnit.MILLIS);
+		List<ReservationPayment> reservationPayments = reservationPaymentRepository
+			.findByStatusInAndModifiedAtBeforeOrderByModifiedAt(UNFINISHED_STATUSES, modifiedBefore,
+				Limit.of(resolveBatchSize));
+
+		reservationPayments.forEach(reservationPayment -> {
+			try {
+				reservationPaymentService.resolve(reservationPayment);
+			} catch (RuntimeException exception) {
+				log.warn("{}: {} 결제 마무리 실패, 다음 차례에 다시 시도",
+					reservationPayment.getOrderNumber(), reservationPayment.getStatus(), exception);
+			}
+		});
+	}
+}
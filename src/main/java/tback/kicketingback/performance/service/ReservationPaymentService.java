@@ -0,0 +1,101 @@
+package tback.kicketingback.performance.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.performance.command.SeatCommandProcessor;
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidPayRequestException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.user.domain.User;
+
+/**
+ * 좌석 확인과 예매 확정을 짧은 트랜잭션 두 개로 나누고, 그 사이 결제 서버 호출은 DB 락과 커넥션 없이 한다.
+ * 단계마다 ReservationPayment 상태를 남겨 두므로 중간에 실패해도 ReservationPaymentResolver 가 이어서 마무리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationPaymentService {
+
+	private final TransactionalReservationService transactionalReservationService;
+	private final SingleWriterReservationService singleWriterReservationService;
+	private final SeatCommandProcessor seatCommandProcessor;
+	private final PaymentService paymentService;
+
+	/**
+	 * 같은 주문 번호로 다시 보낸 요청은 앞선 요청이 남긴 결제를 남은 단계부터 이어서 진행한다.
+	 */
+	public void completeReservation(
+		Long onStageId, String orderNumber, DiscountType discountType, List<Long> seatIds, User user
+	) {
+		if (seatCommandProcessor.isEnabled()) {
+			resolve(singleWriterReservationService.preparePayment(onStageId, orderNumber, discountType, seatIds, user));
+			return;
+		}
+		resolve(transactionalReservationService.preparePayment(onStageId, orderNumber, discountType, seatIds, user));
+	}
+
+	/**
+	 * 끝나지 않은 결제를 남은 단계부터 다시 진행한다.
+	 */
+	public void resolve(ReservationPayment reservationPayment) {
+		String orderNumber = reservationPayment.getOrderNumber();
+
+		switch (reservationPayment.getStatus()) {
+			case PENDING -> {
+				verify(orderNumber, reservationPayment.getPrice());
+				complete(orderNumber);
+			}
+			case VERIFIED -> complete(orderNumber);
+			case COMPENSATING -> compensate(orderNumber);
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * 결제 서버 오류나 응답 시간 초과는 결제 여부를 알 수 없으므로 PENDING 으로 두고 resolver 가 다시 확인한다.
+	 */
+	private void verify(String orderNumber, int price) {
+		try {
+			paymentService.verifyPayment(orderNumber, price);
+		} catch (InvalidPayRequestException exception) {
+			transactionalReservationService.changePaymentStatus(orderNumber, ReservationPayment::fail);
+			throw exception;
+		}
+		transactionalReservationService.changePaymentStatus(orderNumber, ReservationPayment::verify);
+	}
+
+	/**
+	 * 좌석 점유를 잃어 확정할 수 없을 때만 결제를 취소한다. 그 밖의 실패는 VERIFIED 로 두고 다시 확정을 시도한다.
+	 */
+	private void complete(String orderNumber) {
+		try {
+			if (seatCommandProcessor.isEnabled()) {
+				singleWriterReservationService.completePayment(orderNumber);
+			} else {
+				transactionalReservationService.completePayment(orderNumber);
+			}
+		} catch (AlreadySelectedSeatException | InvalidSeatIdException exception) {
+			transactionalReservationService.changePaymentStatus(orderNumber, ReservationPayment::startCompensation);
+			try {
+				compensate(orderNumber);
+			} catch (RuntimeException cancelException) {
+				log.error("{}: 좌석 확정 실패 후 결제 취소도 실패, resolver 가 다시 시도", orderNumber, cancelException);
+				exception.addSuppressed(cancelException);
+			}
+			throw exception;
+		}
+	}
+
+	private void compensate(String orderNumber) {
+		paymentService.cancelPayment(orderNumber);
+		transactionalReservationService.changePaymentStatus(orderNumber, ReservationPayment::compensate);
+	}
+}
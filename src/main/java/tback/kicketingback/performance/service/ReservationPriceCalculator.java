@@ -0,0 +1,35 @@
+package tback.kicketingback.performance.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.dto.SeatGradeDTO;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.performance.repository.SeatRepository;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationPriceCalculator {
+
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final SeatRepository seatRepository;
+
+	public int calcPrice(DiscountType discountType, Long onStageId, List<Long> seatIds) {
+		List<SeatGradeDTO> seatGradeDTOS = reservationRepositoryCustom.findSeatGradeByOnStageId(onStageId);
+		List<Seat> seats = seatRepository.findByIdIn(seatIds);
+
+		int price = seats.stream()
+			.map(seat -> seatGradeDTOS.stream()
+				.filter(seatGradeDTO -> seatGradeDTO.grade().equals(seat.getGrade()))
+				.findFirst()
+				.get()
+				.price())
+			.reduce((acc, cur) -> acc + cur)
+			.get();
+		return price - discountType.getDiscountAmount(price);
+	}
+}
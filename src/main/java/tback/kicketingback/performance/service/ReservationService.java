@@ -1,274 +1,219 @@
 package tback.kicketingback.performance.service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
-import tback.kicketingback.performance.domain.CanceledReservation;
+import tback.kicketingback.performance.command.SeatCommandProcessor;
 import tback.kicketingback.performance.domain.OnStage;
-import tback.kicketingback.performance.domain.Performance;
-import tback.kicketingback.performance.domain.Place;
-import tback.kicketingback.performance.domain.Reservation;
-import tback.kicketingback.performance.domain.Seat;
 import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.Grade;
 import tback.kicketingback.performance.dto.GetSeatInfoResponse;
-import tback.kicketingback.performance.dto.ReservationDTO;
+import tback.kicketingback.performance.dto.SeatAvailability;
 import tback.kicketingback.performance.dto.SeatGradeCount;
-import tback.kicketingback.performance.dto.SeatGradeDTO;
-import tback.kicketingback.performance.dto.SeatReservationDTO;
-import tback.kicketingback.performance.dto.SimpleSeatDTO;
+import tback.kicketingback.performance.dto.SeatLayoutResponse;
 import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
 import tback.kicketingback.performance.exception.exceptions.InvalidOnStageIDException;
 import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceException;
-import tback.kicketingback.performance.exception.exceptions.InvalidReservationDataException;
-import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
 import tback.kicketingback.performance.exception.exceptions.NoAvailableSeatsException;
-import tback.kicketingback.performance.exception.exceptions.NoSuchReservationException;
-import tback.kicketingback.performance.exception.exceptions.UnableCancelException;
-import tback.kicketingback.performance.repository.CanceledReservationRepository;
+import tback.kicketingback.performance.exception.exceptions.SeatWriteConflictException;
+import tback.kicketingback.performance.hold.SeatHoldHandler;
+import tback.kicketingback.performance.hold.SeatHoldHandlerProvider;
+import tback.kicketingback.performance.idempotency.ReservationIdempotencyGuard;
+import tback.kicketingback.performance.idempotency.ReservationOperation;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.inventory.SeatInventoryManager;
+import tback.kicketingback.performance.metrics.SeatLockMetrics;
 import tback.kicketingback.performance.repository.OnStageRepository;
-import tback.kicketingback.performance.repository.PerformanceRepository;
-import tback.kicketingback.performance.repository.PerformanceRepositoryCustom;
-import tback.kicketingback.performance.repository.PlaceRepository;
-import tback.kicketingback.performance.repository.ReservationRepository;
-import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
-import tback.kicketingback.performance.repository.SeatGradeRepository;
-import tback.kicketingback.performance.repository.SeatRepository;
+import tback.kicketingback.performance.stream.SeatMapStreamHub;
 import tback.kicketingback.user.domain.User;
-import tback.kicketingback.utils.NumberCodeUtil;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
-	@Value("${reservation-policy.lock-time}")
-	private int lockTime;
+	@Value("${reservation-policy.best-available.max-attempts}")
+	private int bestAvailableMaxAttempts;
 
-	@Value("${reservation-policy.free-lock-time.range.start}")
-	private int freeLockTimeStart;
-	@Value("${reservation-policy.free-lock-time.range.end}")
-	private int freeLockTimeEnd;
+	@Value("${reservation-policy.optimistic.max-attempts}")
+	private int optimisticMaxAttempts;
 
-	@Value("${reservation-policy.cancellable-time}")
-	private int cancellableTime;
-
-	private final ReservationRepository reservationRepository;
 	private final OnStageRepository onStageRepository;
-	private final PerformanceRepository performanceRepository;
-	private final PlaceRepository placeRepository;
-	private final SeatGradeRepository seatGradeRepository;
-	private final SeatRepository seatRepository;
-	private final CanceledReservationRepository canceledReservationRepository;
-	private final ReservationRepositoryCustom reservationRepositoryCustom;
-	private final PerformanceRepositoryCustom performanceRepositoryCustom;
-	private final PaymentService paymentService;
+	private final SeatInventoryManager seatInventoryManager;
+	private final SeatHoldHandlerProvider seatHoldHandlerProvider;
+	private final SeatCommandProcessor seatCommandProcessor;
+	private final TransactionalReservationService transactionalReservationService;
+	private final ReservationPaymentService reservationPaymentService;
+	private final SingleWriterReservationService singleWriterReservationService;
+	private final SeatMapStreamHub seatMapStreamHub;
+	private final ReservationIdempotencyGuard reservationIdempotencyGuard;
+	private final SeatLockMetrics seatLockMetrics;
 
 	public GetSeatInfoResponse getSeatInfo(UUID performanceUUID, Long onStageId) {
-		checkValidOnStage(onStageId);
-
-		if (!performanceRepositoryCustom.isExistPerformance(performanceUUID, onStageId)) {
-			throw new InvalidPerformanceException();
+		GetSeatInfoResponse seatInfo = getOpenInventory(performanceUUID, onStageId).getSeatInfo();
+		if (seatInfo.bookableSeats().isEmpty()) {
+			throw new NoAvailableSeatsException();
 		}
-		List<SeatReservationDTO> seatReservationDTOS = reservationRepositoryCustom.findOnStageSeats(onStageId);
 
-		Map<Boolean, List<SeatReservationDTO>> partitionedSeats = seatReservationDTOS.stream()
-			.collect(
-				Collectors.partitioningBy(
-					seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() == null
-						&& (seatReservationDTO.reservation().getUser() == null
-						|| (seatReservationDTO.reservation().getLockExpiredTime() != null
-						&& seatReservationDTO.reservation().getLockExpiredTime().isBefore(LocalDateTime.now())))));
+		return seatInfo;
+	}
 
-		List<SimpleSeatDTO> bookableSeats = partitionedSeats.get(true)
-			.stream()
-			.map(SeatReservationDTO::seat)
-			.map(seat -> new SimpleSeatDTO(seat.getId(), seat.getGrade(), seat.getSeatRow(), seat.getSeatCol()))
-			.toList();
+	public SeatLayoutResponse getSeatLayout(UUID performanceUUID, Long onStageId) {
+		return getOpenInventory(performanceUUID, onStageId).getLayout();
+	}
 
-		if (bookableSeats.isEmpty()) {
-			throw new NoAvailableSeatsException();
-		}
+	public SeatAvailability getSeatAvailability(UUID performanceUUID, Long onStageId) {
+		return getOpenInventory(performanceUUID, onStageId).getAvailability();
+	}
 
-		List<SimpleSeatDTO> unbookableSeats = partitionedSeats.get(false)
-			.stream()
-			.map(SeatReservationDTO::seat)
-			.map(seat -> new SimpleSeatDTO(seat.getId(), seat.getGrade(), seat.getSeatRow(), seat.getSeatCol()))
-			.toList();
+	/**
+	 * 예매 가능한 좌석 구성으로 정해지는 좌석 조회 응답의 ETag. 같은 좌석 구성이면 어느 서버에서 읽어도 같다.
+	 * 응답을 만들 때와 같은 검사를 먼저 하므로 잘못된 요청은 304 가 아니라 예외로 끝난다.
+	 */
+	public String getSeatMapETag(UUID performanceUUID, Long onStageId) {
+		return getOpenInventory(performanceUUID, onStageId).getAvailabilityTag();
+	}
 
-		List<SeatGradeDTO> seatGradeDTOS = seatGradeRepository.findSeatGradesByPerformanceId(performanceUUID)
-			.stream()
-			.map(seatGrade -> new SeatGradeDTO(seatGrade.getId(), seatGrade.getGrade(), seatGrade.getPrice()))
-			.toList();
+	public String getSeatMapETag(Long onStageId) {
+		return getOpenInventory(onStageId).getAvailabilityTag();
+	}
 
-		return new GetSeatInfoResponse(bookableSeats, unbookableSeats, seatGradeDTOS);
+	public SseEmitter subscribeSeatMap(UUID performanceUUID, Long onStageId) {
+		return seatMapStreamHub.subscribe(getOpenInventory(performanceUUID, onStageId));
 	}
 
-	@Transactional(readOnly = true)
 	public List<SeatGradeCount> getUnorderedReservationsCountByGrade(Long onStageId) {
-		checkValidOnStage(onStageId);
-
-		return reservationRepositoryCustom.getUnorderedReservationsCountByGrade(onStageId)
-			.orElseThrow(() -> new InvalidOnStageIDException(onStageId));
+		List<SeatGradeCount> seatGradeCounts = getOpenInventory(onStageId).getAvailableSeatCounts();
+		if (seatGradeCounts.isEmpty()) {
+			throw new InvalidOnStageIDException(onStageId);
+		}
+		return seatGradeCounts;
 	}
 
-	@Transactional(isolation = Isolation.READ_COMMITTED)
 	public void lockSeats(Long onStageId, List<Long> seatIds, User user) {
 		checkValidOnStage(onStageId);
+		holdSeats(onStageId, seatIds, user);
+	}
 
-		List<SeatReservationDTO> seatReservationDTOS = getSeatReservationDTOS(onStageId, seatIds);
-		checkSelected(seatReservationDTOS, user);
-
-		seatReservationDTOS.forEach(seatReservationDTO -> {
-			seatReservationDTO.reservation().setUser(user);
-			seatReservationDTO.reservation().setLockExpiredTime(LocalDateTime.now().plusMinutes(lockTime));
-		});
+	/**
+	 * grade 좌석 중 가장 좋은 연속 count 석을 골라 점유한다.
+	 * 다른 서버에서 먼저 점유해 충돌하면 그 좌석을 빼고 다시 고른다.
+	 */
+	public List<Long> lockBestSeats(Long onStageId, Grade grade, int count, User user) {
+		checkValidOnStage(onStageId);
+		SeatInventory seatInventory = seatInventoryManager.getInventory(onStageId);
+		Set<Long> conflictSeatIds = new HashSet<>();
+
+		for (int attempt = 1; ; attempt++) {
+			List<Long> seatIds = seatInventory.findBestBlock(grade, count, conflictSeatIds);
+			if (seatIds.isEmpty()) {
+				throw new NoAvailableSeatsException();
+			}
+			try {
+				holdSeats(onStageId, seatIds, user);
+				return seatIds;
+			} catch (AlreadySelectedSeatException exception) {
+				if (attempt >= bestAvailableMaxAttempts) {
+					throw exception;
+				}
+				// 충돌 좌석을 알 수 없으면 같은 구간을 다시 고르지 않도록 구간 전체를 뺀다.
+				conflictSeatIds.addAll(exception.getSeatIds().isEmpty() ? seatIds : exception.getSeatIds());
+			}
+		}
 	}
 
-	@Transactional(isolation = Isolation.READ_COMMITTED)
+	/**
+	 * 응답을 받지 못해 다시 보낸 요청은 처음 요청의 결과를 기다렸다가 돌려받는다.
+	 */
 	public void completeReservation(
 		Long onStageId, String orderNumber, DiscountType discountType, List<Long> seatIds, User user
 	) {
-		checkValidOnStage(onStageId);
+		reservationIdempotencyGuard.execute(user.getId(), ReservationOperation.COMPLETE, orderNumber, () -> {
+			checkValidOnStage(onStageId);
 
-		List<SeatReservationDTO> seatReservationDTOS = getSeatReservationDTOS(onStageId, seatIds);
-		checkMySeats(user, seatReservationDTOS);
-
-		int price = calcPrice(discountType, onStageId, seatIds);
-		paymentService.verifyPayment(orderNumber, price);
-
-		seatReservationDTOS.forEach(seatReservationDTO -> {
-			seatReservationDTO.reservation().setOrderedAt(LocalDateTime.now());
-			seatReservationDTO.reservation().setOrderNumber(orderNumber);
-			seatReservationDTO.reservation().setDiscountType(discountType);
+			recordContention(onStageId, () ->
+				reservationPaymentService.completeReservation(onStageId, orderNumber, discountType, seatIds, user));
 		});
 	}
 
-	@Transactional
 	public void cancelReservation(User user, String orderNumber) {
-		List<Reservation> reservations = getReservations(orderNumber);
-		List<ReservationDTO> reservationDTOS = reservations.stream().map(ReservationDTO::of).toList();
-
-		checkReservedUser(user.getId(), reservationDTOS);
-		checkSameOnStage(reservationDTOS);
-
-		OnStage onStage = onStageRepository.findById(reservationDTOS.get(0).getOnStageId()).get();
-		checkCancellable(onStage);
-
-		paymentService.cancelPayment(orderNumber);
-
-		Performance performance = performanceRepository.findById(onStage.getPerformance().getId()).get();
-		Place place = placeRepository.findById(performance.getPlace().getId()).get();
-		reservationDTOS.stream().map(reservationDTO -> {
-			Seat seat = seatRepository.findById(reservationDTO.getSeatId()).get();
-			return CanceledReservation.of(reservationDTO, user, performance, onStage, place, seat);
-		}).forEach(canceledReservationRepository::save);
-
-		reservations.forEach(reservation -> {
-			reservation.setOrderedAt(null);
-			reservation.setOrderNumber(null);
-			reservation.setDiscountType(null);
-			reservation.setLockExpiredTime(getRandomFreeLockTime());
+		reservationIdempotencyGuard.execute(user.getId(), ReservationOperation.CANCEL, orderNumber, () -> {
+			if (seatCommandProcessor.isEnabled()) {
+				singleWriterReservationService.cancelReservation(user, orderNumber);
+				return;
+			}
+			transactionalReservationService.cancelReservation(user, orderNumber);
 		});
 	}
 
-	private List<Reservation> getReservations(String orderNumber) {
-		List<Reservation> reservations = reservationRepository.findReservationByOrderNumber(orderNumber);
-		if (reservations.isEmpty()) {
-			throw new NoSuchReservationException();
-		}
-		return reservations;
+	private void holdSeats(Long onStageId, List<Long> seatIds, User user) {
+		recordContention(onStageId, () -> {
+			if (seatCommandProcessor.isEnabled()) {
+				singleWriterReservationService.lockSeats(onStageId, seatIds, user);
+				return;
+			}
+			holdWithRetry(seatHoldHandlerProvider.getSeatHoldHandler(onStageId), onStageId, seatIds, user);
+		});
 	}
 
-	private List<SeatReservationDTO> getSeatReservationDTOS(Long onStageId, List<Long> seatIds) {
-		List<SeatReservationDTO> seatReservationDTOS = reservationRepositoryCustom.findSeats(onStageId, seatIds);
-
-		if (seatIds.size() != seatReservationDTOS.size()) {
-			throw new InvalidSeatIdException();
+	/**
+	 * 좌석 충돌과 데드락, 락 대기 시간 초과를 회차별로 기록한다.
+	 */
+	private void recordContention(Long onStageId, Runnable action) {
+		try {
+			action.run();
+		} catch (AlreadySelectedSeatException exception) {
+			seatLockMetrics.recordConflict(onStageId, exception.getSeatIds());
+			throw exception;
+		} catch (PessimisticLockingFailureException exception) {
+			seatLockMetrics.recordLockFailure(onStageId, exception);
+			throw exception;
 		}
-
-		return seatReservationDTOS;
 	}
 
-	private void checkSelected(List<SeatReservationDTO> seatReservationDTOS, User user) {
-		List<Seat> reservedSeats = seatReservationDTOS.stream()
-			.filter(seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() != null || (
-				seatReservationDTO.reservation().getUser() != null && (
-					seatReservationDTO.reservation().getLockExpiredTime() != null && seatReservationDTO.reservation()
-						.getLockExpiredTime()
-						.isAfter(LocalDateTime.now()))))
-			.map(SeatReservationDTO::seat)
-			.toList();
-		if (!reservedSeats.isEmpty()) {
-			throw AlreadySelectedSeatException.of(reservedSeats);
+	/**
+	 * optimistic 점유가 version 충돌로 롤백되면 새로 읽어 다시 시도한다.
+	 * 다시 읽은 좌석이 이미 점유됐으면 AlreadySelectedSeatException 으로 바로 끝난다.
+	 */
+	private void holdWithRetry(SeatHoldHandler seatHoldHandler, Long onStageId, List<Long> seatIds, User user) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				seatHoldHandler.hold(onStageId, seatIds, user);
+				return;
+			} catch (OptimisticLockingFailureException exception) {
+				if (attempt >= optimisticMaxAttempts) {
+					throw new SeatWriteConflictException();
+				}
+			}
 		}
 	}
 
-	private void checkMySeats(User user, List<SeatReservationDTO> seatReservationDTOS) {
-		List<Seat> mySeats = seatReservationDTOS.stream()
-			.filter(seatReservationDTO -> seatReservationDTO.reservation().getOrderNumber() == null
-				&& seatReservationDTO.reservation().getUser() != null && seatReservationDTO.reservation()
-				.getUser()
-				.getId()
-				.equals(user.getId()) && seatReservationDTO.reservation().getLockExpiredTime() != null
-				&& seatReservationDTO.reservation().getLockExpiredTime().isAfter(LocalDateTime.now()))
-			.map(SeatReservationDTO::seat)
-			.toList();
-		if (mySeats.size() != seatReservationDTOS.size()) {
-			List<Seat> notMySeat = seatReservationDTOS.stream()
-				.map(SeatReservationDTO::seat)
-				.filter(seat -> !mySeats.contains(seat))
-				.toList();
-			throw AlreadySelectedSeatException.of(notMySeat);
-		}
-	}
+	private SeatInventory getOpenInventory(UUID performanceUUID, Long onStageId) {
+		SeatInventory seatInventory = getOpenInventory(onStageId);
 
-	private void checkReservedUser(Long userid, List<ReservationDTO> reservations) {
-		long countNotUserReservation = reservations.stream()
-			.filter(reservation -> !reservation.getUserId().equals(userid))
-			.count();
-		if (countNotUserReservation > 0) {
-			throw new InvalidReservationDataException(reservations);
+		if (!seatInventory.getPerformanceId().equals(performanceUUID)) {
+			throw new InvalidPerformanceException();
 		}
+		return seatInventory;
 	}
 
-	private void checkSameOnStage(List<ReservationDTO> reservations) {
-		long countOnStageId = reservations.stream().map(ReservationDTO::getOnStageId).distinct().count();
-		if (countOnStageId != 1) {
-			throw new InvalidReservationDataException(reservations);
-		}
-	}
+	private SeatInventory getOpenInventory(Long onStageId) {
+		SeatInventory seatInventory = seatInventoryManager.getInventory(onStageId);
 
-	private void checkCancellable(OnStage onStage) {
-		if (LocalDateTime.now().plusMinutes(cancellableTime).isAfter(onStage.getDateTime())) {
-			throw new UnableCancelException();
+		if (seatInventory.isClosed(LocalDateTime.now())) {
+			seatInventoryManager.evict(onStageId);
+			throw new InvalidOnStageIDException(onStageId);
 		}
-	}
-
-	private LocalDateTime getRandomFreeLockTime() {
-		return LocalDateTime.now().plusMinutes(NumberCodeUtil.getRandomIntInRange(freeLockTimeStart, freeLockTimeEnd));
-	}
-
-	private int calcPrice(DiscountType discountType, Long onStageId, List<Long> seatIds) {
-		List<SeatGradeDTO> seatGradeDTOS = reservationRepositoryCustom.findSeatGradeByOnStageId(onStageId);
-		List<Seat> seats = seatRepository.findByIdIn(seatIds);
-
-		int price = seats.stream()
-			.map(seat -> seatGradeDTOS.stream()
-				.filter(seatGradeDTO -> seatGradeDTO.grade().equals(seat.getGrade()))
-				.findFirst()
-				.get()
-				.price())
-			.reduce((acc, cur) -> acc + cur)
-			.get();
-		return price - discountType.getDiscountAmount(price);
+		return seatInventory;
 	}
 
 	private void checkValidOnStage(Long onStageId) {
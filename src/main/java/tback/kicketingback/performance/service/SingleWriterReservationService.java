@@ -0,0 +1,102 @@
+package tback.kicketingback.performance.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.command.CancelReservationCommand;
+import tback.kicketingback.performance.command.CompleteReservationCommand;
+import tback.kicketingback.performance.command.LockSeatsCommand;
+import tback.kicketingback.performance.command.PreparePaymentCommand;
+import tback.kicketingback.performance.command.SeatCommandProcessor;
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.dto.ReservationCancellationDTO;
+import tback.kicketingback.performance.exception.exceptions.NoSuchReservationException;
+import tback.kicketingback.performance.repository.ReservationPaymentRepository;
+import tback.kicketingback.user.domain.User;
+import tback.kicketingback.utils.NumberCodeUtil;
+
+/**
+ * 좌석 변경은 SeatCommandProcessor 에 맡긴다. 결제 서버 호출은 ReservationPaymentService 가 요청 스레드에서 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SingleWriterReservationService {
+
+	@Value("${reservation-policy.lock-time}")
+	private int lockTime;
+
+	@Value("${reservation-policy.payment.pending-time}")
+	private int paymentPendingTime;
+
+	@Value("${reservation-policy.free-lock-time.range.start}")
+	private int freeLockTimeStart;
+	@Value("${reservation-policy.free-lock-time.range.end}")
+	private int freeLockTimeEnd;
+
+	private final SeatCommandProcessor seatCommandProcessor;
+	private final ReservationPriceCalculator reservationPriceCalculator;
+	private final ReservationPaymentRepository reservationPaymentRepository;
+	private final TransactionalReservationService transactionalReservationService;
+
+	public void lockSeats(Long onStageId, List<Long> seatIds, User user) {
+		LocalDateTime lockExpiredTime = LocalDateTime.now().plusMinutes(lockTime);
+		seatCommandProcessor.execute(onStageId, new LockSeatsCommand(onStageId, seatIds, user.getId(), lockExpiredTime));
+	}
+
+	/**
+	 * 같은 주문 번호로 남긴 결제가 있으면 그 결제를, 없으면 좌석 점유를 늘리고 새로 남긴 PENDING 결제를 돌려준다.
+	 */
+	public ReservationPayment preparePayment(
+		Long onStageId, String orderNumber, DiscountType discountType, List<Long> seatIds, User user
+	) {
+		Optional<ReservationPayment> preparedPayment = transactionalReservationService.findResumablePayment(
+			onStageId, orderNumber, discountType, seatIds, user);
+		if (preparedPayment.isPresent()) {
+			return preparedPayment.get();
+		}
+
+		int price = reservationPriceCalculator.calcPrice(discountType, onStageId, seatIds);
+		LocalDateTime pendingUntil = LocalDateTime.now().plusMinutes(paymentPendingTime).truncatedTo(ChronoUnit.SECONDS);
+		seatCommandProcessor.execute(onStageId,
+			new PreparePaymentCommand(onStageId, seatIds, user, orderNumber, discountType, price, pendingUntil));
+		return getReservationPayment(orderNumber);
+	}
+
+	/**
+	 * 결제가 확인된(VERIFIED) 주문의 좌석을 확정한다. 결제는 좌석과 같은 트랜잭션에서 COMPLETED 가 된다.
+	 */
+	public void completePayment(String orderNumber) {
+		ReservationPayment reservationPayment = getReservationPayment(orderNumber);
+		Long onStageId = reservationPayment.getOnStageId();
+		seatCommandProcessor.execute(onStageId, new CompleteReservationCommand(onStageId,
+			reservationPayment.getSeatIdList(), reservationPayment.getUser().getId(), orderNumber,
+			reservationPayment.getDiscountType(), reservationPayment.getId()));
+	}
+
+	public void cancelReservation(User user, String orderNumber) {
+		ReservationCancellationDTO cancellation = transactionalReservationService.prepareCancellation(user,
+			orderNumber);
+
+		List<LocalDateTime> freeLockTimes = cancellation.seatIds().stream()
+			.map(seatId -> getRandomFreeLockTime())
+			.toList();
+		seatCommandProcessor.execute(cancellation.onStageId(),
+			new CancelReservationCommand(cancellation, user.getId(), freeLockTimes));
+	}
+
+	private ReservationPayment getReservationPayment(String orderNumber) {
+		return reservationPaymentRepository.findByOrderNumber(orderNumber)
+			.orElseThrow(NoSuchReservationException::new);
+	}
+
+	private LocalDateTime getRandomFreeLockTime() {
+		return LocalDateTime.now().plusMinutes(NumberCodeUtil.getRandomIntInRange(freeLockTimeStart, freeLockTimeEnd));
+	}
+}
@@ -0,0 +1,264 @@
+package tback.kicketingback.performance.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.domain.OnStage;
+import tback.kicketingback.performance.domain.Performance;
+import tback.kicketingback.performance.domain.Place;
+import tback.kicketingback.performance.domain.Reservation;
+import tback.kicketingback.performance.domain.ReservationPayment;
+import tback.kicketingback.performance.domain.Seat;
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.dto.ReservationCancellationDTO;
+import tback.kicketingback.performance.dto.ReservationDTO;
+import tback.kicketingback.performance.dto.SeatReservationDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.exception.exceptions.DuplicateOrderNumberException;
+import tback.kicketingback.performance.exception.exceptions.InvalidReservationDataException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.exception.exceptions.NoSuchReservationException;
+import tback.kicketingback.performance.exception.exceptions.UnableCancelException;
+import tback.kicketingback.performance.hold.SeatHoldHandler;
+import tback.kicketingback.performance.hold.SeatHoldHandlerProvider;
+import tback.kicketingback.performance.metrics.SeatLockMetrics;
+import tback.kicketingback.performance.repository.CanceledReservationRepository;
+import tback.kicketingback.performance.repository.OnStageRepository;
+import tback.kicketingback.performance.repository.PaymentCancelOutboxRepository;
+import tback.kicketingback.performance.repository.PerformanceRepository;
+import tback.kicketingback.performance.repository.PlaceRepository;
+import tback.kicketingback.performance.repository.ReservationPaymentRepository;
+import tback.kicketingback.performance.repository.ReservationRepository;
+import tback.kicketingback.performance.repository.ReservationRepositoryCustom;
+import tback.kicketingback.performance.repository.SeatRepository;
+import tback.kicketingback.user.domain.User;
+import tback.kicketingback.utils.NumberCodeUtil;
+
+/**
+ * reservation 행 락을 잡고 예매를 확정하거나 취소한다.
+ * 예매 확정은 결제 서버 호출을 사이에 두고 preparePayment, completePayment 두 트랜잭션으로 나뉜다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionalReservationService {
+
+	@Value("${reservation-policy.free-lock-time.range.start}")
+	private int freeLockTimeStart;
+	@Value("${reservation-policy.free-lock-time.range.end}")
+	private int freeLockTimeEnd;
+
+	@Value("${reservation-policy.cancellable-time}")
+	private int cancellableTime;
+
+	@Value("${reservation-policy.payment.pending-time}")
+	private int paymentPendingTime;
+
+	private final ReservationRepository reservationRepository;
+	private final OnStageRepository onStageRepository;
+	private final PerformanceRepository performanceRepository;
+	private final PlaceRepository placeRepository;
+	private final SeatRepository seatRepository;
+	private final CanceledReservationRepository canceledReservationRepository;
+	private final PaymentCancelOutboxRepository paymentCancelOutboxRepository;
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final ReservationPaymentRepository reservationPaymentRepository;
+	private final SeatHoldHandlerProvider seatHoldHandlerProvider;
+	private final ReservationPriceCalculator reservationPriceCalculator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SeatLockMetrics seatLockMetrics;
+
+	/**
+	 * 좌석 점유를 확인하고 결제를 기다리는 동안 점유가 풀리지 않도록 늘려 둔 뒤 PENDING 결제를 남긴다.
+	 * 결제 서버는 이 트랜잭션이 끝난 뒤에 호출한다.
+	 * 같은 사용자가 같은 주문 번호로 다시 요청했고 결제가 아직 PENDING 이나 VERIFIED 이면 새로 만들지 않고 그 결제를 돌려준다.
+	 *
+	 * @return 남은 단계를 진행할 결제
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public ReservationPayment preparePayment(
+		Long onStageId, String orderNumber, DiscountType discountType, List<Long> seatIds, User user
+	) {
+		Optional<ReservationPayment> preparedPayment = findResumablePayment(onStageId, orderNumber, discountType,
+			seatIds, user);
+		if (preparedPayment.isPresent()) {
+			return preparedPayment.get();
+		}
+
+		List<SeatReservationDTO> seatReservationDTOS = getSeatReservationDTOS(onStageId, seatIds);
+		SeatHoldHandler seatHoldHandler = seatHoldHandlerProvider.getSeatHoldHandler(onStageId);
+		seatHoldHandler.checkHolder(onStageId, seatReservationDTOS, user);
+
+		LocalDateTime pendingUntil = LocalDateTime.now().plusMinutes(paymentPendingTime).truncatedTo(ChronoUnit.SECONDS);
+		seatHoldHandler.extendHold(onStageId, seatReservationDTOS, user, pendingUntil);
+
+		int price = reservationPriceCalculator.calcPrice(discountType, onStageId, seatIds);
+		return reservationPaymentRepository.save(
+			ReservationPayment.pending(orderNumber, user, onStageId, seatIds, discountType, price, pendingUntil));
+	}
+
+	/**
+	 * 결제가 확인된(VERIFIED) 주문의 좌석을 다시 잠그고 예매를 확정한다.
+	 * 점유가 그 사이 풀렸으면 AlreadySelectedSeatException 으로 롤백되고 결제는 VERIFIED 로 남는다.
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public void completePayment(String orderNumber) {
+		ReservationPayment reservationPayment = getReservationPayment(orderNumber);
+		reservationPayment.complete();
+
+		Long onStageId = reservationPayment.getOnStageId();
+		List<Long> seatIds = reservationPayment.getSeatIdList();
+		User user = reservationPayment.getUser();
+		List<SeatReservationDTO> seatReservationDTOS = getSeatReservationDTOS(onStageId, seatIds);
+		seatHoldHandlerProvider.getSeatHoldHandler(onStageId).checkHolder(onStageId, seatReservationDTOS, user);
+
+		seatReservationDTOS.forEach(seatReservationDTO -> {
+			seatReservationDTO.reservation().setUser(user);
+			seatReservationDTO.reservation().setOrderedAt(LocalDateTime.now());
+			seatReservationDTO.reservation().setOrderNumber(orderNumber);
+			seatReservationDTO.reservation().setDiscountType(reservationPayment.getDiscountType());
+		});
+		eventPublisher.publishEvent(SeatStateChangedEvent.completed(onStageId, seatIds, user.getId()));
+	}
+
+	@Transactional
+	public void changePaymentStatus(String orderNumber, Consumer<ReservationPayment> transition) {
+		transition.accept(getReservationPayment(orderNumber));
+	}
+
+	@Transactional
+	public void cancelReservation(User user, String orderNumber) {
+		List<Reservation> reservations = getReservations(orderNumber);
+		ReservationCancellationDTO cancellation = createCancellation(user, orderNumber, reservations);
+		cancellation.createPaymentCancelOutbox(LocalDateTime.now()).ifPresent(paymentCancelOutboxRepository::save);
+		canceledReservationRepository.saveAll(cancellation.createCanceledReservations());
+		Long onStageId = cancellation.onStageId();
+
+		reservations.forEach(reservation -> {
+			LocalDateTime freeLockTime = getRandomFreeLockTime();
+			reservation.setOrderedAt(null);
+			reservation.setOrderNumber(null);
+			reservation.setDiscountType(null);
+			reservation.setLockExpiredTime(freeLockTime);
+			eventPublisher.publishEvent(SeatStateChangedEvent.canceled(
+				onStageId, List.of(reservation.getSeat().getId()), user.getId(), freeLockTime));
+		});
+	}
+
+	/**
+	 * 취소할 수 있는지 확인만 하고 아무것도 저장하지 않는다.
+	 * 결제 취소 요청과 취소 내역은 좌석을 되돌리는 트랜잭션에서 함께 저장해야 한다.
+	 */
+	@Transactional(readOnly = true)
+	public ReservationCancellationDTO prepareCancellation(User user, String orderNumber) {
+		return createCancellation(user, orderNumber, getReservations(orderNumber));
+	}
+
+	private ReservationCancellationDTO createCancellation(
+		User user, String orderNumber, List<Reservation> reservations
+	) {
+		List<ReservationDTO> reservationDTOS = reservations.stream().map(ReservationDTO::of).toList();
+
+		checkReservedUser(user.getId(), reservationDTOS);
+		checkSameOnStage(reservationDTOS);
+
+		OnStage onStage = onStageRepository.findById(reservationDTOS.get(0).getOnStageId()).get();
+		checkCancellable(onStage);
+
+		Performance performance = performanceRepository.findById(onStage.getPerformance().getId()).get();
+		Place place = placeRepository.findById(performance.getPlace().getId()).get();
+		Map<Long, Seat> seats = seatRepository.findByIdIn(
+				reservationDTOS.stream().map(ReservationDTO::getSeatId).toList()).stream()
+			.collect(Collectors.toMap(Seat::getId, Function.identity()));
+
+		return new ReservationCancellationDTO(user, orderNumber, reservationDTOS, performance, onStage, place,
+			seats, paymentCancelOutboxRepository.existsByOrderNumber(orderNumber));
+	}
+
+	/**
+	 * 같은 주문 번호로 남긴 결제가 있으면 돌려준다.
+	 * 다른 사용자의 결제이거나, 회차, 좌석, 할인이 다른 요청이거나, 이미 끝난 결제이면
+	 * DuplicateOrderNumberException 을 던진다.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ReservationPayment> findResumablePayment(
+		Long onStageId, String orderNumber, DiscountType discountType, List<Long> seatIds, User user
+	) {
+		return reservationPaymentRepository.findByOrderNumber(orderNumber)
+			.map(reservationPayment -> getResumablePayment(reservationPayment, onStageId, discountType, seatIds,
+				user));
+	}
+
+	private ReservationPayment getResumablePayment(
+		ReservationPayment reservationPayment, Long onStageId, DiscountType discountType, List<Long> seatIds, User user
+	) {
+		if (!reservationPayment.getStatus().isResumable()
+			|| !reservationPayment.getUser().getId().equals(user.getId())
+			|| !reservationPayment.isFor(onStageId, seatIds, discountType)) {
+			throw new DuplicateOrderNumberException(reservationPayment.getOrderNumber());
+		}
+		return reservationPayment;
+	}
+
+	private ReservationPayment getReservationPayment(String orderNumber) {
+		return reservationPaymentRepository.findByOrderNumber(orderNumber)
+			.orElseThrow(NoSuchReservationException::new);
+	}
+
+	private List<Reservation> getReservations(String orderNumber) {
+		List<Reservation> reservations = reservationRepository.findReservationByOrderNumber(orderNumber);
+		if (reservations.isEmpty()) {
+			throw new NoSuchReservationException();
+		}
+		return reservations;
+	}
+
+	private List<SeatReservationDTO> getSeatReservationDTOS(Long onStageId, List<Long> seatIds) {
+		List<SeatReservationDTO> seatReservationDTOS = seatLockMetrics.recordLockWait(onStageId, "find-seats",
+			() -> reservationRepositoryCustom.findSeats(onStageId, seatIds));
+
+		if (seatIds.size() != seatReservationDTOS.size()) {
+			throw new InvalidSeatIdException();
+		}
+
+		return seatReservationDTOS;
+	}
+
+	private void checkReservedUser(Long userid, List<ReservationDTO> reservations) {
+		long countNotUserReservation = reservations.stream()
+			.filter(reservation -> !reservation.getUserId().equals(userid))
+			.count();
+		if (countNotUserReservation > 0) {
+			throw new InvalidReservationDataException(reservations);
+		}
+	}
+
+	private void checkSameOnStage(List<ReservationDTO> reservations) {
+		long countOnStageId = reservations.stream().map(ReservationDTO::getOnStageId).distinct().count();
+		if (countOnStageId != 1) {
+			throw new InvalidReservationDataException(reservations);
+		}
+	}
+
+	private void checkCancellable(OnStage onStage) {
+		if (LocalDateTime.now().plusMinutes(cancellableTime).isAfter(onStage.getDateTime())) {
+			throw new UnableCancelException();
+		}
+	}
+
+	private LocalDateTime getRandomFreeLockTime() {
+		return LocalDateTime.now().plusMinutes(NumberCodeUtil.getRandomIntInRange(freeLockTimeStart, freeLockTimeEnd));
+	}
+}
@@ -0,0 +1,85 @@
+package tback.kicketingback.performance.stream;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import tback.kicketingback.performance.event.SeatMapChangedEvent;
+import tback.kicketingback.performance.inventory.SeatInventory;
+
+/**
+ * 회차별 좌석 변경을 SSE 구독자에게 나눠 보낸다.
+ * 구독자는 먼저 등록해 변경을 모은 뒤 snapshot 을 받고, snapshot 이후 version 의 변경만 이어서 받는다.
+ */
+@Component
+public class SeatMapStreamHub {
+
+	@Value("${seat-stream.timeout}")
+	private long timeout;
+
+	@Value("${seat-stream.buffer-size}")
+	private int bufferSize;
+
+	private final Map<Long, List<SeatMapSubscriber>> subscribers = new ConcurrentHashMap<>();
+	private final Executor executor;
+
+	public SeatMapStreamHub(@Qualifier("seatStreamExecutor") Executor executor) {
+		this.executor = executor;
+	}
+
+	public SseEmitter subscribe(SeatInventory seatInventory) {
+		Long onStageId = seatInventory.getOnStageId();
+		SeatMapSubscriber subscriber = new SeatMapSubscriber(new SseEmitter(timeout), bufferSize, executor);
+
+		List<SeatMapSubscriber> onStageSubscribers = subscribers.computeIfAbsent(onStageId,
+			id -> new CopyOnWriteArrayList<>());
+		onStageSubscribers.add(subscriber);
+
+		SseEmitter emitter = subscriber.getEmitter();
+		emitter.onCompletion(() -> remove(onStageId, subscriber));
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(exception -> subscriber.close());
+
+		subscriber.sendSnapshot(seatInventory.getSnapshot());
+		return emitter;
+	}
+
+	public int countSubscribers(Long onStageId) {
+		return subscribers.getOrDefault(onStageId, List.of()).size();
+	}
+
+	public void disconnect(Long onStageId) {
+		List<SeatMapSubscriber> onStageSubscribers = subscribers.remove(onStageId);
+		if (onStageSubscribers != null) {
+			onStageSubscribers.forEach(SeatMapSubscriber::close);
+		}
+	}
+
+	@EventListener
+	public void onSeatMapChanged(SeatMapChangedEvent event) {
+		List<SeatMapSubscriber> onStageSubscribers = subscribers.get(event.onStageId());
+		if (onStageSubscribers == null) {
+			return;
+		}
+		for (SeatMapSubscriber subscriber : onStageSubscribers) {
+			if (!subscriber.offer(event)) {
+				onStageSubscribers.remove(subscriber);
+			}
+		}
+	}
+
+	private void remove(Long onStageId, SeatMapSubscriber subscriber) {
+		subscribers.computeIfPresent(onStageId, (id, onStageSubscribers) -> {
+			onStageSubscribers.remove(subscriber);
+			return onStageSubscribers.isEmpty() ? null : onStageSubscribers;
+		});
+	}
+}
@@ -0,0 +1,107 @@
+package tback.kicketingback.performance.stream;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import tback.kicketingback.performance.dto.SeatMapSnapshot;
+import tback.kicketingback.performance.event.SeatMapChangedEvent;
+
+/**
+ * 구독자 하나의 전송 버퍼. 이벤트를 받는 스레드는 버퍼에 넣기만 하고 실제 전송은 executor 에서 한다.
+ * 버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊는다.
+ */
+class SeatMapSubscriber {
+
+	private final SseEmitter emitter;
+	private final BlockingQueue<SeatMapChangedEvent> buffer;
+	private final Executor executor;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private volatile long sentVersion = -1;
+
+	SeatMapSubscriber(SseEmitter emitter, int bufferSize, Executor executor) {
+		this.emitter = emitter;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.executor = executor;
+	}
+
+	SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	boolean isClosed() {
+		return closed.get();
+	}
+
+	/**
+	 * @return 버퍼가 가득 차 구독을 끊었으면 false
+	 */
+	boolean offer(SeatMapChangedEvent event) {
+		if (closed.get()) {
+			return false;
+		}
+		if (!buffer.offer(event)) {
+			close();
+			return false;
+		}
+		scheduleDrain();
+		return true;
+	}
+
+	void sendSnapshot(SeatMapSnapshot snapshot) {
+		try {
+			emitter.send(SseEmitter.event()
+				.name("snapshot")
+				.id(String.valueOf(snapshot.version()))
+				.data(snapshot.seatInfo()));
+			sentVersion = snapshot.version();
+		} catch (IOException exception) {
+			close();
+			return;
+		}
+		scheduleDrain();
+	}
+
+	void close() {
+		if (closed.compareAndSet(false, true)) {
+			buffer.clear();
+			emitter.complete();
+		}
+	}
+
+	private void scheduleDrain() {
+		if (sentVersion < 0 || !draining.compareAndSet(false, true)) {
+			return;
+		}
+		executor.execute(this::drain);
+	}
+
+	private void drain() {
+		try {
+			SeatMapChangedEvent event;
+			while (!closed.get() && (event = buffer.poll()) != null) {
+				if (event.version() <= sentVersion) {
+					continue;
+				}
+				emitter.send(SseEmitter.event()
+					.name("delta")
+					.id(String.valueOf(event.version()))
+					.data(event.deltas()));
+				sentVersion = event.version();
+			}
+		} catch (IOException exception) {
+			close();
+		} finally {
+			draining.set(false);
+		}
+		if (!closed.get() && !buffer.isEmpty()) {
+			scheduleDrain();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package tback.kicketingback.performance.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 좌석 index(좌석 배치 응답의 순서) 기준 예매 가능 여부를 바이너리로 인코딩한다.
+ * bitmap: index i 가 i / 8 번째 바이트의 i % 8 번째 비트, 길이는 ceil(size / 8).
+ * run-length: 예매 불가부터 시작해 예매 불가, 예매 가능 구간 길이를 번갈아 unsigned LEB128 로 쓴다.
+ */
+public class SeatBitmapUtil {
+
+	public static final String BITMAP_VALUE = "application/vnd.kicketing.seat-bitmap";
+	public static final String RUN_LENGTH_VALUE = "application/vnd.kicketing.seat-bitmap-rle";
+
+	public static byte[] toBitmap(BitSet bookableSeats, int size) {
+		return Arrays.copyOf(bookableSeats.toByteArray(), (size + 7) / 8);
+	}
+
+	public static byte[] toRunLength(BitSet bookableSeats, int size) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		boolean bookable = false;
+		int from = 0;
+		while (from < size) {
+			int to = bookable ? bookableSeats.nextClearBit(from) : bookableSeats.nextSetBit(from);
+			if (to < 0 || to > size) {
+				to = size;
+			}
+			writeVarInt(output, to - from);
+			bookable = !bookable;
+			from = to;
+		}
+		return output.toByteArray();
+	}
+
+	public static BitSet fromRunLength(byte[] runLength) {
+		BitSet bookableSeats = new BitSet();
+		boolean bookable = false;
+		int index = 0;
+		int position = 0;
+		while (position < runLength.length) {
+			int run = 0;
+			int shift = 0;
+			byte current;
+			do {
+				current = runLength[position++];
+				run |= (current & 0x7F) << shift;
+				shift += 7;
+			} while ((current & 0x80) != 0);
+
+			if (bookable) {
+				bookableSeats.set(index, index + run);
+			}
+			index += run;
+			bookable = !bookable;
+		}
+		return bookableSeats;
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream output, int value) {
+		while ((value & ~0x7F) != 0) {
+			output.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.write(value);
+	}
+}
@@ -0,0 +1,39 @@
+package tback.kicketingback.queue.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.auth.jwt.JwtLogin;
+import tback.kicketingback.queue.dto.AdmissionStatusResponse;
+import tback.kicketingback.queue.dto.AdmissionTokenResponse;
+import tback.kicketingback.queue.service.AdmissionQueueService;
+import tback.kicketingback.user.domain.User;
+
+@RestController
+@RequestMapping("/api/queue")
+@RequiredArgsConstructor
+public class AdmissionQueueController {
+
+	private final AdmissionQueueService admissionQueueService;
+
+	@PostMapping("/{onStageId}")
+	public ResponseEntity<AdmissionTokenResponse> enter(
+		@JwtLogin User user,
+		@PathVariable("onStageId") Long onStageId
+	) {
+		return ResponseEntity.ok(admissionQueueService.enter(onStageId, user.getEmail()));
+	}
+
+	@GetMapping("/{onStageId}/{token}")
+	public ResponseEntity<AdmissionStatusResponse> getStatus(
+		@PathVariable("onStageId") Long onStageId,
+		@PathVariable("token") String token
+	) {
+		return ResponseEntity.ok(admissionQueueService.getStatus(onStageId, token));
+	}
+}
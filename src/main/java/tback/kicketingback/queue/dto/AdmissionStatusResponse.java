@@ -0,0 +1,16 @@
+package tback.kicketingback.queue.dto;
+
+public record AdmissionStatusResponse(
+	boolean admitted,
+	long position,
+	long waiting
+) {
+
+	public static AdmissionStatusResponse ofAdmitted() {
+		return new AdmissionStatusResponse(true, 0, 0);
+	}
+
+	public static AdmissionStatusResponse ofWaiting(long position, long waiting) {
+		return new AdmissionStatusResponse(false, position, waiting);
+	}
+}
@@ -0,0 +1,7 @@
+package tback.kicketingback.queue.dto;
+
+public record AdmissionTokenResponse(
+	String token,
+	AdmissionStatusResponse status
+) {
+}
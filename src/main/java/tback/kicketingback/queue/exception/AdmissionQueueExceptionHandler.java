@@ -0,0 +1,23 @@
+package tback.kicketingback.queue.exception;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import tback.kicketingback.global.exception.AbstractExceptionHandler;
+import tback.kicketingback.queue.exception.exceptions.NoSuchAdmissionTokenException;
+import tback.kicketingback.queue.exception.exceptions.NotAdmittedException;
+
+@RestControllerAdvice
+public class AdmissionQueueExceptionHandler extends AbstractExceptionHandler {
+
+	@ExceptionHandler(NotAdmittedException.class)
+	public ResponseEntity<String> notAdmittedException(NotAdmittedException exception) {
+		return getForbiddenResponseEntity(exception, exception.getMessage());
+	}
+
+	@ExceptionHandler(NoSuchAdmissionTokenException.class)
+	public ResponseEntity<String> noSuchAdmissionTokenException(NoSuchAdmissionTokenException exception) {
+		return getNotFoundResponseEntity(exception, exception.getMessage());
+	}
+}
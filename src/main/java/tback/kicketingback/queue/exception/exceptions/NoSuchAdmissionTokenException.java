@@ -0,0 +1,7 @@
+package tback.kicketingback.queue.exception.exceptions;
+
+public class NoSuchAdmissionTokenException extends RuntimeException {
+	public NoSuchAdmissionTokenException() {
+		super("대기열에 없는 입장 토큰");
+	}
+}
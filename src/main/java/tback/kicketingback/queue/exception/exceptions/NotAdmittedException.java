@@ -0,0 +1,7 @@
+package tback.kicketingback.queue.exception.exceptions;
+
+public class NotAdmittedException extends RuntimeException {
+	public NotAdmittedException(Long onStageId) {
+		super("%s: 입장 대기열을 통과하지 않은 요청".formatted(onStageId));
+	}
+}
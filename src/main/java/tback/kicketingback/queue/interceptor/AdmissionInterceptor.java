@@ -0,0 +1,56 @@
+package tback.kicketingback.queue.interceptor;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.auth.jwt.JwtTokenExtractor;
+import tback.kicketingback.auth.jwt.JwtTokenProvider;
+import tback.kicketingback.queue.service.AdmissionQueueService;
+
+/**
+ * 입장 대기열을 통과한 사용자의 예매 요청만 통과시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+	private static final String ADMISSION_TOKEN_HEADER = "Admission-Token";
+
+	private final JwtTokenExtractor jwtTokenExtractor;
+	private final JwtTokenProvider jwtTokenProvider;
+	private final AdmissionQueueService admissionQueueService;
+
+	@Override
+	public boolean preHandle(
+		@NonNull final HttpServletRequest request,
+		@NonNull final HttpServletResponse response,
+		@NonNull final Object handler
+	) {
+		if (request.getMethod().equals("OPTIONS")) {
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<String, String> pathVariables = (Map<String, String>)request.getAttribute(
+			HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		if (pathVariables == null || !isNumber(pathVariables.get("onStageId"))) {
+			return true;
+		}
+
+		String email = jwtTokenProvider.extractEmailFromAccessToken(jwtTokenExtractor.extractAccessToken(request));
+		admissionQueueService.checkAdmitted(Long.valueOf(pathVariables.get("onStageId")),
+			request.getHeader(ADMISSION_TOKEN_HEADER), email);
+		return true;
+	}
+
+	private boolean isNumber(String value) {
+		return value != null && !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+	}
+}
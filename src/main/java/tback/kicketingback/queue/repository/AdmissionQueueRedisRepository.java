@@ -0,0 +1,137 @@
+package tback.kicketingback.queue.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회차별 입장 대기열. 대기 순서와 입장 만료 시각을 sorted set 으로 관리해 순번 조회가 O(log n) 이다.
+ */
+@RequiredArgsConstructor
+public class AdmissionQueueRedisRepository {
+
+	private static final String ACTIVE_KEY = "admission-queue:active";
+	private static final String WAITING_KEY_FORMAT = "admission-queue:{%d}:waiting";
+	private static final String ADMITTED_KEY_FORMAT = "admission-queue:{%d}:admitted";
+	private static final String OWNER_KEY_FORMAT = "admission-queue:{%d}:owner";
+	private static final String TOKEN_KEY_FORMAT = "admission-queue:{%d}:token";
+	private static final String SEQUENCE_KEY_FORMAT = "admission-queue:{%d}:sequence";
+	private static final String TICK_KEY_FORMAT = "admission-queue:{%d}:tick";
+
+	private static final RedisScript<String> ENTER_SCRIPT = new DefaultRedisScript<>("""
+		local token = redis.call('HGET', KEYS[4], ARGV[1])
+		if token then
+			return token
+		end
+		local sequence = redis.call('INCR', KEYS[5])
+		redis.call('ZADD', KEYS[1], sequence, ARGV[2])
+		redis.call('HSET', KEYS[3], ARGV[2], ARGV[1])
+		redis.call('HSET', KEYS[4], ARGV[1], ARGV[2])
+		return ARGV[2]
+		""", String.class);
+
+	private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+		if not redis.call('SET', KEYS[5], '1', 'NX', 'PX', ARGV[4]) then
+			return -1
+		end
+		local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+		for _, token in ipairs(expired) do
+			local owner = redis.call('HGET', KEYS[3], token)
+			if owner then
+				redis.call('HDEL', KEYS[4], owner)
+			end
+			redis.call('HDEL', KEYS[3], token)
+		end
+		redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+		local admitted = redis.call('ZPOPMIN', KEYS[1], ARGV[3])
+		for index = 1, #admitted, 2 do
+			redis.call('ZADD', KEYS[2], ARGV[2], admitted[index])
+		end
+		return #admitted / 2
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 이미 대기 중이거나 입장한 사용자는 기존 토큰을 그대로 돌려받는다.
+	 * 스크립트는 회차 slot 의 키만 다루고, 여러 회차가 함께 쓰는 ACTIVE_KEY 는 대기열에 넣은 뒤 따로 추가한다.
+	 */
+	public String enter(Long onStageId, String email) {
+		String token = redisTemplate.execute(ENTER_SCRIPT, List.of(
+				WAITING_KEY_FORMAT.formatted(onStageId),
+				ADMITTED_KEY_FORMAT.formatted(onStageId),
+				OWNER_KEY_FORMAT.formatted(onStageId),
+				TOKEN_KEY_FORMAT.formatted(onStageId),
+				SEQUENCE_KEY_FORMAT.formatted(onStageId)),
+			email, UUID.randomUUID().toString());
+		redisTemplate.opsForSet().add(ACTIVE_KEY, String.valueOf(onStageId));
+		return token;
+	}
+
+	/**
+	 * @return 0부터 시작하는 대기 순번, 대기열에 없으면 empty
+	 */
+	public Optional<Long> findRank(Long onStageId, String token) {
+		return Optional.ofNullable(redisTemplate.opsForZSet().rank(WAITING_KEY_FORMAT.formatted(onStageId), token));
+	}
+
+	public boolean isAdmitted(Long onStageId, String token, long nowMilli) {
+		Double expiredAt = redisTemplate.opsForZSet().score(ADMITTED_KEY_FORMAT.formatted(onStageId), token);
+		return expiredAt != null && expiredAt > nowMilli;
+	}
+
+	public Optional<String> findOwner(Long onStageId, String token) {
+		return Optional.ofNullable(
+			(String)redisTemplate.opsForHash().get(OWNER_KEY_FORMAT.formatted(onStageId), token));
+	}
+
+	public long countWaiting(Long onStageId) {
+		Long size = redisTemplate.opsForZSet().zCard(WAITING_KEY_FORMAT.formatted(onStageId));
+		return size == null ? 0 : size;
+	}
+
+	public long countAdmitted(Long onStageId) {
+		Long size = redisTemplate.opsForZSet().zCard(ADMITTED_KEY_FORMAT.formatted(onStageId));
+		return size == null ? 0 : size;
+	}
+
+	/**
+	 * 만료된 입장 토큰을 정리하고 대기열 앞에서부터 최대 count 명을 입장시킨다.
+	 * 여러 서버가 동시에 실행해도 interval 동안 한 번만 입장시킨다.
+	 *
+	 * @return 입장시킨 인원, 이번 주기에 다른 서버가 이미 입장시켰으면 -1
+	 */
+	public long admit(Long onStageId, long nowMilli, long admittedExpiredAt, int count, long intervalMilli) {
+		Long admitted = redisTemplate.execute(ADMIT_SCRIPT, List.of(
+				WAITING_KEY_FORMAT.formatted(onStageId),
+				ADMITTED_KEY_FORMAT.formatted(onStageId),
+				OWNER_KEY_FORMAT.formatted(onStageId),
+				TOKEN_KEY_FORMAT.formatted(onStageId),
+				TICK_KEY_FORMAT.formatted(onStageId)),
+			String.valueOf(nowMilli), String.valueOf(admittedExpiredAt), String.valueOf(count),
+			String.valueOf(intervalMilli));
+		return admitted == null ? -1 : admitted;
+	}
+
+	public Set<String> findActiveOnStageIds() {
+		Set<String> onStageIds = redisTemplate.opsForSet().members(ACTIVE_KEY);
+		return onStageIds == null ? Set.of() : onStageIds;
+	}
+
+	/**
+	 * 빈 대기열을 확인한 뒤 지우기 전에 들어온 사용자가 있으면 다시 활성 회차로 되돌린다.
+	 */
+	public void deactivate(Long onStageId) {
+		redisTemplate.opsForSet().remove(ACTIVE_KEY, String.valueOf(onStageId));
+		if (countWaiting(onStageId) > 0) {
+			redisTemplate.opsForSet().add(ACTIVE_KEY, String.valueOf(onStageId));
+		}
+	}
+}
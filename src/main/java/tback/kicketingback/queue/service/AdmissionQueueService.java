@@ -0,0 +1,132 @@
+package tback.kicketingback.queue.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import tback.kicketingback.performance.exception.exceptions.InvalidOnStageIDException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.performance.inventory.SeatInventoryManager;
+import tback.kicketingback.queue.dto.AdmissionStatusResponse;
+import tback.kicketingback.queue.dto.AdmissionTokenResponse;
+import tback.kicketingback.queue.exception.exceptions.NoSuchAdmissionTokenException;
+import tback.kicketingback.queue.exception.exceptions.NotAdmittedException;
+import tback.kicketingback.queue.repository.AdmissionQueueRedisRepository;
+
+@Service
+@RequiredArgsConstructor
+public class AdmissionQueueService {
+
+	@Value("${admission-queue.enabled}")
+	private boolean enabled;
+
+	@Value("${admission-queue.admit-count}")
+	private int admitCount;
+
+	@Value("${admission-queue.admit-interval}")
+	private long admitInterval;
+
+	@Value("${admission-queue.admitted-time}")
+	private long admittedTime;
+
+	private final Map<Long, AtomicLong> waitingDepths = new ConcurrentHashMap<>();
+
+	private final AdmissionQueueRedisRepository admissionQueueRedisRepository;
+	private final SeatInventoryManager seatInventoryManager;
+	private final MeterRegistry meterRegistry;
+
+	public AdmissionTokenResponse enter(Long onStageId, String email) {
+		SeatInventory seatInventory = seatInventoryManager.getInventory(onStageId);
+		if (seatInventory.isClosed(LocalDateTime.now())) {
+			throw new InvalidOnStageIDException(onStageId);
+		}
+
+		String token = admissionQueueRedisRepository.enter(onStageId, email);
+		meterRegistry.counter("admission.queue.entered").increment();
+
+		return new AdmissionTokenResponse(token, getStatus(onStageId, token));
+	}
+
+	public AdmissionStatusResponse getStatus(Long onStageId, String token) {
+		if (admissionQueueRedisRepository.isAdmitted(onStageId, token, System.currentTimeMillis())) {
+			return AdmissionStatusResponse.ofAdmitted();
+		}
+
+		long rank = admissionQueueRedisRepository.findRank(onStageId, token)
+			.orElseThrow(NoSuchAdmissionTokenException::new);
+		return AdmissionStatusResponse.ofWaiting(rank + 1, admissionQueueRedisRepository.countWaiting(onStageId));
+	}
+
+	public void checkAdmitted(Long onStageId, String token, String email) {
+		if (!enabled) {
+			return;
+		}
+		if (token == null
+			|| !admissionQueueRedisRepository.isAdmitted(onStageId, token, System.currentTimeMillis())
+			|| !admissionQueueRedisRepository.findOwner(onStageId, token).map(email::equals).orElse(false)) {
+			throw new NotAdmittedException(onStageId);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${admission-queue.admit-interval}")
+	public void admit() {
+		if (!enabled) {
+			return;
+		}
+		Set<Long> activeOnStageIds = admissionQueueRedisRepository.findActiveOnStageIds().stream()
+			.map(Long::valueOf)
+			.collect(Collectors.toSet());
+		// 다른 서버가 끝낸 대기열의 게이지도 여기서 정리한다.
+		waitingDepths.keySet().stream()
+			.filter(onStageId -> !activeOnStageIds.contains(onStageId))
+			.toList()
+			.forEach(this::removeWaitingDepth);
+		activeOnStageIds.forEach(this::admit);
+	}
+
+	private void admit(Long onStageId) {
+		long now = System.currentTimeMillis();
+		long admitted = admissionQueueRedisRepository.admit(onStageId, now, now + admittedTime * 1000, admitCount,
+			admitInterval);
+		if (admitted > 0) {
+			meterRegistry.counter("admission.queue.admitted").increment(admitted);
+		}
+
+		long waiting = admissionQueueRedisRepository.countWaiting(onStageId);
+		getWaitingDepth(onStageId).set(waiting);
+		if (waiting == 0 && admissionQueueRedisRepository.countAdmitted(onStageId) == 0) {
+			admissionQueueRedisRepository.deactivate(onStageId);
+			removeWaitingDepth(onStageId);
+		}
+	}
+
+	private AtomicLong getWaitingDepth(Long onStageId) {
+		return waitingDepths.computeIfAbsent(onStageId, id -> {
+			AtomicLong depth = new AtomicLong();
+			Gauge.builder("admission.queue.depth", depth, AtomicLong::get)
+				.tag("onStageId", String.valueOf(id))
+				.register(meterRegistry);
+			return depth;
+		});
+	}
+
+	private void removeWaitingDepth(Long onStageId) {
+		if (waitingDepths.remove(onStageId) == null) {
+			return;
+		}
+		Gauge gauge = meterRegistry.find("admission.queue.depth").tag("onStageId", String.valueOf(onStageId)).gauge();
+		if (gauge != null) {
+			meterRegistry.remove(gauge);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package tback.kicketingback.ratelimit.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import tback.kicketingback.ratelimit.policy.RateLimitKeyType;
+import tback.kicketingback.ratelimit.policy.RateLimitScope;
+
+/**
+ * @param policies 요청 경로 패턴(method 가 비어 있으면 모든 method)마다 window 밀리초 동안 limit 번까지 허용한다
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(
+	boolean enabled,
+	List<Policy> policies
+) {
+
+	public record Policy(
+		String name,
+		String path,
+		String method,
+		RateLimitKeyType key,
+		RateLimitScope scope,
+		int limit,
+		long window
+	) {
+	}
+}
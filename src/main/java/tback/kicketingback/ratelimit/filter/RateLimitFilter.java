@@ -0,0 +1,137 @@
+package tback.kicketingback.ratelimit.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.auth.jwt.JwtTokenExtractor;
+import tback.kicketingback.auth.jwt.JwtTokenProvider;
+import tback.kicketingback.global.config.ApiPaths;
+import tback.kicketingback.ratelimit.config.RateLimitProperties;
+import tback.kicketingback.ratelimit.limiter.LocalTokenBucketRateLimiter;
+import tback.kicketingback.ratelimit.limiter.RateLimitDecision;
+import tback.kicketingback.ratelimit.limiter.RateLimiter;
+import tback.kicketingback.ratelimit.limiter.RedisSlidingWindowRateLimiter;
+import tback.kicketingback.ratelimit.policy.RateLimitKeyType;
+import tback.kicketingback.ratelimit.policy.RateLimitPolicy;
+import tback.kicketingback.ratelimit.policy.RateLimitScope;
+
+/**
+ * 인터셉터보다 먼저 요청 수를 제한해 넘친 요청이 인증, DB, Redis, 메일 발송까지 가지 않게 한다.
+ * 요청에 맞는 정책을 모두 검사하고 하나라도 넘으면 429 와 Retry-After(초)로 답한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많음, 잠시 후 다시 시도해 주세요";
+
+	private final boolean enabled;
+	private final List<RateLimitPolicy> policies;
+	private final List<PathPattern> publicPaths;
+	private final LocalTokenBucketRateLimiter localTokenBucketRateLimiter;
+	private final RedisSlidingWindowRateLimiter redisSlidingWindowRateLimiter;
+	private final JwtTokenExtractor jwtTokenExtractor;
+	private final JwtTokenProvider jwtTokenProvider;
+	private final MeterRegistry meterRegistry;
+
+	public RateLimitFilter(
+		RateLimitProperties rateLimitProperties,
+		LocalTokenBucketRateLimiter localTokenBucketRateLimiter,
+		RedisSlidingWindowRateLimiter redisSlidingWindowRateLimiter,
+		JwtTokenExtractor jwtTokenExtractor,
+		JwtTokenProvider jwtTokenProvider,
+		MeterRegistry meterRegistry
+	) {
+		this.enabled = rateLimitProperties.enabled();
+		this.policies = Optional.ofNullable(rateLimitProperties.policies()).orElse(List.of()).stream()
+			.map(RateLimitPolicy::from)
+			.toList();
+		this.publicPaths = Arrays.stream(ApiPaths.PUBLIC)
+			.map(PathPatternParser.defaultInstance::parse)
+			.toList();
+		this.localTokenBucketRateLimiter = localTokenBucketRateLimiter;
+		this.redisSlidingWindowRateLimiter = redisSlidingWindowRateLimiter;
+		this.jwtTokenExtractor = jwtTokenExtractor;
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		return !enabled || policies.isEmpty() || request.getMethod().equals("OPTIONS");
+	}
+
+	@Override
+	protected void doFilterInternal(
+		@NonNull HttpServletRequest request,
+		@NonNull HttpServletResponse response,
+		@NonNull FilterChain filterChain
+	) throws ServletException, IOException {
+		for (RateLimitPolicy policy : policies) {
+			if (!policy.matches(request)) {
+				continue;
+			}
+			RateLimitDecision decision = getRateLimiter(policy).tryAcquire(policy, resolveKey(request, policy));
+			if (!decision.allowed()) {
+				meterRegistry.counter("rate-limit.rejected", "policy", policy.getName()).increment();
+				reject(response, decision);
+				return;
+			}
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private RateLimiter getRateLimiter(RateLimitPolicy policy) {
+		if (policy.getScope() == RateLimitScope.CLUSTER) {
+			return redisSlidingWindowRateLimiter;
+		}
+		return localTokenBucketRateLimiter;
+	}
+
+	/**
+	 * 로그인이 필요 없는 경로에서는 토큰을 읽지 않는다. 토큰 검증은 서명 확인뿐이라 DB 에 닿지 않는다.
+	 */
+	private String resolveKey(HttpServletRequest request, RateLimitPolicy policy) {
+		if (policy.getKeyType() == RateLimitKeyType.USER && !isPublicPath(request)) {
+			try {
+				return "user:" + jwtTokenProvider.extractEmailFromAccessToken(
+					jwtTokenExtractor.extractAccessToken(request));
+			} catch (RuntimeException exception) {
+				log.debug("{}: 사용자를 알 수 없어 IP 로 셈 - {}", policy.getName(), exception.getMessage());
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private boolean isPublicPath(HttpServletRequest request) {
+		PathContainer path = PathContainer.parsePath(request.getRequestURI());
+		return publicPaths.stream().anyMatch(publicPath -> publicPath.matches(path));
+	}
+
+	private void reject(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((decision.retryAfterMillis() + 999) / 1000));
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write(TOO_MANY_REQUESTS_MESSAGE);
+	}
+}
@@ -0,0 +1,65 @@
+package tback.kicketingback.ratelimit.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import tback.kicketingback.ratelimit.policy.RateLimitPolicy;
+
+/**
+ * 서버 한 대 안에서만 세는 토큰 버킷. 버킷마다 다음 토큰이 차는 시각(GCRA 의 TAT) 하나만 두고 CAS 로 갱신하므로 락이 없다.
+ * 버킷은 여러 구간으로 나뉜 Caffeine 캐시에 두어 키가 많아도 한 락을 두고 경합하지 않고,
+ * idleTimeout 동안 요청이 없던 키는 버린다. 버려진 버킷은 가득 찬 상태로 다시 시작한다.
+ */
+@Component
+public class LocalTokenBucketRateLimiter implements RateLimiter {
+
+	private final Cache<String, AtomicLong> buckets;
+	private final LongSupplier clock;
+
+	@Autowired
+	public LocalTokenBucketRateLimiter(
+		@Value("${rate-limit.local.max-keys}") long maxKeys,
+		@Value("${rate-limit.local.idle-timeout}") long idleTimeout
+	) {
+		this(maxKeys, idleTimeout, System::currentTimeMillis);
+	}
+
+	LocalTokenBucketRateLimiter(long maxKeys, long idleTimeout, LongSupplier clock) {
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(Duration.ofMillis(idleTimeout))
+			.build();
+		this.clock = clock;
+	}
+
+	/**
+	 * limit 개까지 한꺼번에 허용하고, 그 뒤로는 emission interval 마다 하나씩 허용한다.
+	 */
+	@Override
+	public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+		AtomicLong bucket = buckets.get(policy.getName() + ":" + key, bucketKey -> new AtomicLong());
+		long interval = policy.getEmissionInterval();
+		long burst = interval * policy.getLimit();
+
+		while (true) {
+			long now = clock.getAsLong();
+			long arrivedAt = bucket.get();
+			long nextArrivedAt = Math.max(arrivedAt, now) + interval;
+			long allowedAt = nextArrivedAt - burst;
+			if (allowedAt > now) {
+				return RateLimitDecision.reject(allowedAt - now);
+			}
+			if (bucket.compareAndSet(arrivedAt, nextArrivedAt)) {
+				return RateLimitDecision.allow();
+			}
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package tback.kicketingback.ratelimit.limiter;
+
+/**
+ * @param retryAfterMillis 거절됐을 때 다시 시도해도 되는 때까지 남은 시간
+ */
+public record RateLimitDecision(boolean allowed, long retryAfterMillis) {
+
+	private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0L);
+
+	public static RateLimitDecision allow() {
+		return ALLOWED;
+	}
+
+	public static RateLimitDecision reject(long retryAfterMillis) {
+		return new RateLimitDecision(false, Math.max(1L, retryAfterMillis));
+	}
+}
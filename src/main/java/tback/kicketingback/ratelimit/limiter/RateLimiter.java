@@ -0,0 +1,8 @@
+package tback.kicketingback.ratelimit.limiter;
+
+import tback.kicketingback.ratelimit.policy.RateLimitPolicy;
+
+public interface RateLimiter {
+
+	RateLimitDecision tryAcquire(RateLimitPolicy policy, String key);
+}
@@ -0,0 +1,33 @@
+package tback.kicketingback.ratelimit.limiter;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tback.kicketingback.ratelimit.policy.RateLimitPolicy;
+import tback.kicketingback.ratelimit.repository.RateLimitRedisRepository;
+
+/**
+ * 모든 서버의 요청을 Redis 에서 함께 센다.
+ * Redis 에 닿지 못하면 요청을 막지 않고 통과시킨다. 요청 수 제한 때문에 서비스 전체가 멈추지 않게 하기 위해서다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSlidingWindowRateLimiter implements RateLimiter {
+
+	private final RateLimitRedisRepository rateLimitRedisRepository;
+
+	@Override
+	public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+		try {
+			long retryAfter = rateLimitRedisRepository.acquire(policy.getName() + ":" + key, policy.getLimit(),
+				policy.getWindow(), System.currentTimeMillis());
+			return retryAfter == 0L ? RateLimitDecision.allow() : RateLimitDecision.reject(retryAfter);
+		} catch (DataAccessException exception) {
+			log.warn("{}: 요청 수를 세지 못해 통과시킴 - {}", policy.getName(), exception.getMessage());
+			return RateLimitDecision.allow();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package tback.kicketingback.ratelimit.policy;
+
+public enum RateLimitKeyType {
+	/**
+	 * access token 의 사용자, 토큰이 없거나 잘못됐으면 IP
+	 */
+	USER,
+	IP
+}
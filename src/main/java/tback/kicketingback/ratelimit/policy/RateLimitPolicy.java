@@ -0,0 +1,54 @@
+package tback.kicketingback.ratelimit.policy;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import tback.kicketingback.ratelimit.config.RateLimitProperties;
+
+/**
+ * 경로 패턴은 인터셉터와 같은 PathPattern 문법으로 해석한다.
+ */
+@Getter
+public class RateLimitPolicy {
+
+	private final String name;
+	private final PathPattern pathPattern;
+	private final String method;
+	private final RateLimitKeyType keyType;
+	private final RateLimitScope scope;
+	private final int limit;
+	private final long window;
+
+	private RateLimitPolicy(RateLimitProperties.Policy policy) {
+		this.name = policy.name();
+		this.pathPattern = PathPatternParser.defaultInstance.parse(policy.path());
+		this.method = StringUtils.hasText(policy.method()) ? policy.method().toUpperCase() : null;
+		this.keyType = policy.key() == null ? RateLimitKeyType.IP : policy.key();
+		this.scope = policy.scope() == null ? RateLimitScope.LOCAL : policy.scope();
+		this.limit = policy.limit();
+		this.window = policy.window();
+	}
+
+	public static RateLimitPolicy from(RateLimitProperties.Policy policy) {
+		if (!StringUtils.hasText(policy.name()) || policy.limit() <= 0 || policy.window() <= 0) {
+			throw new IllegalArgumentException("잘못된 요청 수 제한 정책: " + policy);
+		}
+		return new RateLimitPolicy(policy);
+	}
+
+	public boolean matches(HttpServletRequest request) {
+		return (method == null || method.equals(request.getMethod()))
+			&& pathPattern.matches(PathContainer.parsePath(request.getRequestURI()));
+	}
+
+	/**
+	 * 요청 사이 최소 간격. 토큰 하나가 다시 차는 시간이다.
+	 */
+	public long getEmissionInterval() {
+		return Math.max(1L, window / limit);
+	}
+}
@@ -0,0 +1,12 @@
+package tback.kicketingback.ratelimit.policy;
+
+public enum RateLimitScope {
+	/**
+	 * 서버마다 따로 센다. Redis 를 거치지 않는다.
+	 */
+	LOCAL,
+	/**
+	 * Redis 에서 모든 서버의 요청을 함께 센다.
+	 */
+	CLUSTER
+}
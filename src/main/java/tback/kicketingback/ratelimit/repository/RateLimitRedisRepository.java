@@ -0,0 +1,53 @@
+package tback.kicketingback.ratelimit.repository;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * window 단위 요청 수를 키 하나씩에 세고, 직전 window 의 수를 지난 비율만큼 덜어 더하는 sliding window 로 요청 수를 센다.
+ * 한 키에 두 카운터만 두므로 limit 이 커도 메모리가 늘지 않는다.
+ */
+@RequiredArgsConstructor
+public class RateLimitRedisRepository {
+
+	private static final String COUNT_KEY_FORMAT = "rate-limit:{%s}:%d";
+
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+		local window = tonumber(ARGV[1])
+		local limit = tonumber(ARGV[2])
+		local elapsed = tonumber(ARGV[3])
+		local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+		local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+		local estimated = previous * (window - elapsed) / window + current
+		if estimated + 1 <= limit then
+			redis.call('INCR', KEYS[1])
+			redis.call('PEXPIRE', KEYS[1], window * 2)
+			return 0
+		end
+		local remaining = window - elapsed
+		if current + 1 > limit or previous == 0 then
+			return remaining
+		end
+		return math.min(remaining, math.ceil((estimated + 1 - limit) * window / previous))
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * @param now 모든 서버가 같은 window 를 쓰도록 epoch 밀리초 기준으로 나눈다
+	 * @return 허용하면 0, 거절하면 다시 시도해도 되는 때까지 남은 밀리초
+	 */
+	public long acquire(String bucketKey, int limit, long window, long now) {
+		long windowIndex = now / window;
+		Long retryAfter = redisTemplate.execute(ACQUIRE_SCRIPT,
+			List.of(COUNT_KEY_FORMAT.formatted(bucketKey, windowIndex),
+				COUNT_KEY_FORMAT.formatted(bucketKey, windowIndex - 1)),
+			String.valueOf(window), String.valueOf(limit), String.valueOf(now % window));
+		return retryAfter == null ? 0L : retryAfter;
+	}
+}
@@ -0,0 +1,237 @@
+package tback.kicketingback.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tback.kicketingback.global.repository.CacheRedisRepository;
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+import tback.kicketingback.performance.dto.DetailPerformanceDTO;
+import tback.kicketingback.performance.dto.PerformanceDTO;
+import tback.kicketingback.performance.dto.PlaceDTO;
+import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceUUIDException;
+
+class TwoTierCacheTest {
+
+	private static final String CACHE_NAME = "performance-detail";
+	private static final TwoTierCacheProperties PROPERTIES = new TwoTierCacheProperties(
+		Map.of(CACHE_NAME, new TwoTierCacheProperties.Spec(100, 60_000, 60_000)));
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final CacheRedisRepository cacheRedisRepository = new CacheRedisRepository(redisTemplate);
+	private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void unsubscribe() {
+		containers.forEach(RedisMessageListenerContainer::stop);
+	}
+
+	@Test
+	@DisplayName("[정상] 다른 서버가 읽어 둔 값은 Redis 에서 가져와 원본을 다시 읽지 않음")
+	void shareLoadedValue() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeA = createNode(new SimpleMeterRegistry());
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeB = createNode(meterRegistry);
+		UUID performanceUUID = UUID.randomUUID();
+
+		DetailPerformanceDTO loaded = nodeA.get(performanceUUID, uuid -> load(uuid, "name"));
+		DetailPerformanceDTO shared = nodeB.get(performanceUUID, uuid -> load(uuid, "name"));
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(shared).isEqualTo(loaded);
+		assertThat(meterRegistry.counter("catalog-cache.shared", "cache", CACHE_NAME, "result", "hit").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("[정상] 한 서버에서 무효화하면 다른 서버의 메모리 값도 지워짐")
+	void broadcastInvalidation() throws InterruptedException {
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeA = createNode(new SimpleMeterRegistry());
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeB = createNode(new SimpleMeterRegistry());
+		UUID performanceUUID = UUID.randomUUID();
+		nodeA.get(performanceUUID, uuid -> load(uuid, "before"));
+		nodeB.get(performanceUUID, uuid -> load(uuid, "before"));
+
+		nodeA.evict(performanceUUID);
+
+		long deadline = System.currentTimeMillis() + 2_000;
+		String name = nodeB.get(performanceUUID, uuid -> load(uuid, "after")).performanceDTO().name();
+		while (name.equals("before") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			name = nodeB.get(performanceUUID, uuid -> load(uuid, "after")).performanceDTO().name();
+		}
+		assertThat(name).isEqualTo("after");
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[정상] Redis 값을 지우는 동안 들어온 조회가 옛 값을 메모리에 남기지 않음")
+	void doNotRefillLocalDuringEvict() {
+		AtomicReference<Runnable> beforeDelete = new AtomicReference<>(() -> {
+		});
+		CacheRedisRepository racingRepository = new CacheRedisRepository(redisTemplate) {
+			@Override
+			public void delete(String cacheName, String key) {
+				beforeDelete.get().run();
+				super.delete(cacheName, key);
+			}
+		};
+		TwoTierCache<UUID, DetailPerformanceDTO> node = new TwoTierCacheManager(PROPERTIES, objectMapper,
+			racingRepository, new SimpleMeterRegistry())
+			.create(CACHE_NAME, DetailPerformanceDTO.class);
+		UUID performanceUUID = UUID.randomUUID();
+		node.get(performanceUUID, uuid -> load(uuid, "before"));
+		beforeDelete.set(() -> node.get(performanceUUID, uuid -> load(uuid, "before")));
+
+		node.evict(performanceUUID);
+
+		assertThat(node.get(performanceUUID, uuid -> load(uuid, "after")).performanceDTO().name())
+			.isEqualTo("after");
+	}
+
+	@Test
+	@DisplayName("[정상] 여러 개를 한 번에 찾으면 메모리와 Redis 에 없는 것만 원본에서 한 번에 읽음")
+	void loadMissingKeysTogether() {
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeA = createNode(new SimpleMeterRegistry());
+		TwoTierCache<UUID, DetailPerformanceDTO> nodeB = createNode(new SimpleMeterRegistry());
+		UUID shared = UUID.randomUUID();
+		UUID cold = UUID.randomUUID();
+		UUID unknown = UUID.randomUUID();
+		nodeA.get(shared, uuid -> load(uuid, "shared"));
+		List<Set<UUID>> requests = new ArrayList<>();
+		Function<Set<UUID>, Map<UUID, DetailPerformanceDTO>> loader = uuids -> {
+			requests.add(uuids);
+			return uuids.contains(cold) ? Map.of(cold, load(cold, "cold")) : Map.of();
+		};
+
+		Map<UUID, DetailPerformanceDTO> found = nodeB.getAll(List.of(cold, shared, unknown), loader);
+		nodeB.getAll(List.of(cold, shared, unknown), loader);
+
+		assertThat(found.keySet()).containsExactly(cold, shared);
+		assertThat(requests).containsExactly(Set.of(cold, unknown), Set.of(unknown));
+		assertThat(nodeA.get(cold, uuid -> load(uuid, "reloaded")).performanceDTO().name()).isEqualTo("cold");
+	}
+
+	@Test
+	@DisplayName("[정상] 동시에 처음 조회해도 원본은 한 번만 읽음")
+	void loadColdKeyOnce() throws Exception {
+		TwoTierCache<UUID, DetailPerformanceDTO> node = createNode(new SimpleMeterRegistry());
+		UUID performanceUUID = UUID.randomUUID();
+		Function<UUID, DetailPerformanceDTO> slowLoader = uuid -> {
+			sleep();
+			return load(uuid, "name");
+		};
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		List<Future<DetailPerformanceDTO>> results = executorService.invokeAll(
+			Collections.nCopies(16, () -> node.get(performanceUUID, slowLoader)));
+		executorService.shutdown();
+
+		assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(loads.get()).isEqualTo(1);
+		for (Future<DetailPerformanceDTO> result : results) {
+			assertThat(result.get().performanceDTO().id()).isEqualTo(performanceUUID);
+		}
+	}
+
+	@Test
+	@DisplayName("[예외] 원본 조회가 실패하면 어디에도 남기지 않음")
+	void doNotCacheFailure() {
+		TwoTierCache<UUID, DetailPerformanceDTO> node = createNode(new SimpleMeterRegistry());
+		UUID performanceUUID = UUID.randomUUID();
+		Function<UUID, DetailPerformanceDTO> failingLoader = uuid -> {
+			loads.incrementAndGet();
+			throw new InvalidPerformanceUUIDException(uuid);
+		};
+
+		assertThatThrownBy(() -> node.get(performanceUUID, failingLoader))
+			.isInstanceOf(InvalidPerformanceUUIDException.class);
+		assertThatThrownBy(() -> node.get(performanceUUID, failingLoader))
+			.isInstanceOf(InvalidPerformanceUUIDException.class);
+		assertThat(loads.get()).isEqualTo(2);
+		assertThat(cacheRedisRepository.get(CACHE_NAME, performanceUUID.toString())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[예외] Redis 에 닿지 못해도 원본에서 읽어 메모리에 둠")
+	void workWithoutRedis() {
+		LettuceConnectionFactory closedConnectionFactory = EmbeddedRedisExtension.connect(
+			EmbeddedRedisExtension.findFreePort());
+		TwoTierCache<UUID, DetailPerformanceDTO> node = new TwoTierCacheManager(PROPERTIES, objectMapper,
+			new CacheRedisRepository(new StringRedisTemplate(closedConnectionFactory)), new SimpleMeterRegistry())
+			.create(CACHE_NAME, DetailPerformanceDTO.class);
+		UUID performanceUUID = UUID.randomUUID();
+
+		try {
+			node.get(performanceUUID, uuid -> load(uuid, "name"));
+			DetailPerformanceDTO cached = node.get(performanceUUID, uuid -> load(uuid, "name"));
+
+			assertThat(cached.performanceDTO().id()).isEqualTo(performanceUUID);
+			assertThat(loads.get()).isEqualTo(1);
+		} finally {
+			closedConnectionFactory.destroy();
+		}
+	}
+
+	private TwoTierCache<UUID, DetailPerformanceDTO> createNode(SimpleMeterRegistry meterRegistry) {
+		TwoTierCacheManager twoTierCacheManager = new TwoTierCacheManager(PROPERTIES, objectMapper,
+			cacheRedisRepository, meterRegistry);
+
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(REDIS.getConnectionFactory());
+		container.addMessageListener(twoTierCacheManager, new ChannelTopic(CacheRedisRepository.INVALIDATION_CHANNEL));
+		container.afterPropertiesSet();
+		container.start();
+		containers.add(container);
+
+		return twoTierCacheManager.create(CACHE_NAME, DetailPerformanceDTO.class);
+	}
+
+	private DetailPerformanceDTO load(UUID performanceUUID, String name) {
+		loads.incrementAndGet();
+		return new DetailPerformanceDTO(
+			new PerformanceDTO(performanceUUID, name, "뮤지컬", 120, LocalDate.of(2024, 3, 1),
+				LocalDate.of(2024, 3, 31), 15, "image", 1L),
+			new PlaceDTO(1L, "place", "address", "hall"),
+			List.of(), List.of());
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
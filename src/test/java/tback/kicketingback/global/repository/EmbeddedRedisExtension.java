@@ -0,0 +1,75 @@
+package tback.kicketingback.global.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 테스트 클래스마다 비어 있는 포트에 embedded Redis 를 띄우고, 테스트마다 데이터를 비운다.
+ * static 필드에 @RegisterExtension 으로 등록해야 인스턴스 필드를 초기화할 때 getRedisTemplate() 을 쓸 수 있다.
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback {
+
+	private RedisServer redisServer;
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+
+	public static int findFreePort() {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			return serverSocket.getLocalPort();
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	public static LettuceConnectionFactory connect(int port) {
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		return connectionFactory;
+	}
+
+	@Override
+	public void beforeAll(ExtensionContext context) throws IOException {
+		int port = findFreePort();
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = connect(port);
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@Override
+	public void afterAll(ExtensionContext context) throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		flushAll();
+	}
+
+	public void flushAll() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+
+	public LettuceConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	public StringRedisTemplate getRedisTemplate() {
+		return redisTemplate;
+	}
+}
@@ -0,0 +1,111 @@
+package tback.kicketingback.performance.command;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.event.SeatTransition;
+import tback.kicketingback.performance.exception.exceptions.AlreadySelectedSeatException;
+import tback.kicketingback.performance.exception.exceptions.InvalidSeatIdException;
+import tback.kicketingback.performance.inventory.SeatInventory;
+import tback.kicketingback.user.domain.User;
+import tback.kicketingback.user.domain.UserState;
+
+class SeatCommandTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+	private static final Long USER_ID = 7L;
+	private static final Long OTHER_USER_ID = 8L;
+
+	private final LocalDateTime now = LocalDateTime.now();
+
+	private SeatInventory createInventory() {
+		return SeatInventory.of(ON_STAGE_ID, UUID.randomUUID(), now.plusDays(1), List.of(), List.of(
+			new SeatStateDTO(1L, Grade.VIP, "A", 1, null, null, null),
+			new SeatStateDTO(2L, Grade.VIP, "A", 2, null, null, null),
+			new SeatStateDTO(3L, Grade.VIP, "A", 3, OTHER_USER_ID, now.plusMinutes(5), null)));
+	}
+
+	@Test
+	@DisplayName("[정상] 비어 있는 좌석 점유는 좌석마다 한 행씩 저장")
+	void lockFreeSeats() {
+		SeatDecision decision = new LockSeatsCommand(ON_STAGE_ID, List.of(1L, 2L), USER_ID, now.plusMinutes(5))
+			.decide(createInventory());
+
+		assertThat(decision.rows()).hasSize(2);
+		assertThat(decision.events()).singleElement()
+			.satisfies(event -> assertThat(event.transition()).isEqualTo(SeatTransition.LOCK));
+	}
+
+	@Test
+	@DisplayName("[예외] 다른 사용자가 점유 중이거나 회차에 없는 좌석은 점유 불가")
+	void lockUnavailableSeats() {
+		SeatInventory seatInventory = createInventory();
+
+		assertThatThrownBy(() -> new LockSeatsCommand(ON_STAGE_ID, List.of(1L, 3L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory))
+			.isInstanceOf(AlreadySelectedSeatException.class);
+		assertThatThrownBy(() -> new LockSeatsCommand(ON_STAGE_ID, List.of(1L, 99L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory))
+			.isInstanceOf(InvalidSeatIdException.class);
+	}
+
+	@Test
+	@DisplayName("[예외] 본인이 이미 점유한 좌석도 다시 점유 불가")
+	void lockOwnHeldSeats() {
+		SeatInventory seatInventory = createInventory();
+		new LockSeatsCommand(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory).events().forEach(seatInventory::apply);
+
+		assertThatThrownBy(() -> new LockSeatsCommand(ON_STAGE_ID, List.of(1L, 2L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory))
+			.isInstanceOf(AlreadySelectedSeatException.class);
+	}
+
+	@Test
+	@DisplayName("[정상] 본인이 점유한 좌석만 예매 확정")
+	void completeOnlyHeldSeats() {
+		SeatInventory seatInventory = createInventory();
+		SeatDecision lock = new LockSeatsCommand(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory);
+		lock.events().forEach(seatInventory::apply);
+
+		SeatDecision complete = new CompleteReservationCommand(ON_STAGE_ID, List.of(1L), USER_ID, "order",
+			DiscountType.NONE, 1L).decide(seatInventory);
+
+		assertThat(complete.rows()).hasSize(1);
+		assertThatThrownBy(() -> new CompleteReservationCommand(ON_STAGE_ID, List.of(2L), USER_ID, "order",
+			DiscountType.NONE, 1L).decide(seatInventory))
+			.isInstanceOf(AlreadySelectedSeatException.class);
+	}
+
+	@Test
+	@DisplayName("[정상] 본인이 점유한 좌석만 결제를 기다리는 동안 점유를 늘리고 결제를 함께 저장")
+	void preparePaymentOnlyForHeldSeats() {
+		SeatInventory seatInventory = createInventory();
+		new LockSeatsCommand(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5))
+			.decide(seatInventory).events().forEach(seatInventory::apply);
+		User user = User.of("test@test.com", "123!@jjsjs4", "test", UserState.REGULAR_USER);
+		ReflectionTestUtils.setField(user, "id", USER_ID);
+
+		SeatDecision prepare = new PreparePaymentCommand(ON_STAGE_ID, List.of(1L), user, "order", DiscountType.NONE,
+			10000, now.plusMinutes(15)).decide(seatInventory);
+
+		assertThat(prepare.rows()).hasSize(1);
+		assertThat(prepare.writes()).hasSize(1);
+		assertThat(prepare.events()).singleElement()
+			.satisfies(event -> assertThat(event.lockExpiredTime()).isEqualTo(now.plusMinutes(15)));
+		assertThatThrownBy(() -> new PreparePaymentCommand(ON_STAGE_ID, List.of(2L), user, "order",
+			DiscountType.NONE, 10000, now.plusMinutes(15)).decide(seatInventory))
+			.isInstanceOf(AlreadySelectedSeatException.class);
+	}
+}
@@ -0,0 +1,82 @@
+package tback.kicketingback.performance.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.performance.domain.type.DiscountType;
+import tback.kicketingback.performance.domain.type.PaymentStatus;
+import tback.kicketingback.performance.exception.exceptions.InvalidPaymentStatusException;
+
+class ReservationPaymentTest {
+
+	private ReservationPayment createPayment() {
+		return ReservationPayment.pending("order", null, 1L, List.of(3L, 1L, 2L), DiscountType.NONE, 30000,
+			LocalDateTime.now().plusMinutes(10));
+	}
+
+	@Test
+	@DisplayName("[정상] PENDING 으로 시작해 결제 확인 후 확정되고 좌석 ID 순서를 유지함")
+	void completeAfterVerify() {
+		ReservationPayment reservationPayment = createPayment();
+
+		assertThat(reservationPayment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+		assertThat(reservationPayment.getSeatIdList()).containsExactly(3L, 1L, 2L);
+
+		reservationPayment.verify();
+		reservationPayment.complete();
+
+		assertThat(reservationPayment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("[정상] 결제 확인 후 좌석을 확정하지 못하면 보상 단계를 거쳐 COMPENSATED 로 끝남")
+	void compensateAfterVerify() {
+		ReservationPayment reservationPayment = createPayment();
+
+		reservationPayment.verify();
+		reservationPayment.startCompensation();
+		reservationPayment.compensate();
+		assertThat(reservationPayment.getStatus()).isEqualTo(PaymentStatus.COMPENSATED);
+	}
+
+	@Test
+	@DisplayName("[예외] 결제 확인 전 확정하거나 끝난 결제를 다시 바꾸면 예외 발생")
+	void rejectInvalidTransition() {
+		ReservationPayment reservationPayment = createPayment();
+
+		assertThatThrownBy(reservationPayment::complete).isInstanceOf(InvalidPaymentStatusException.class);
+
+		reservationPayment.fail();
+		assertThatThrownBy(reservationPayment::verify).isInstanceOf(InvalidPaymentStatusException.class);
+		assertThat(reservationPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("[정상] 좌석 확정 전인 PENDING, VERIFIED 결제만 다시 요청해 이어서 진행할 수 있음")
+	void resumeOnlyBeforeCompletion() {
+		ReservationPayment reservationPayment = createPayment();
+		assertThat(reservationPayment.getStatus().isResumable()).isTrue();
+
+		reservationPayment.verify();
+		assertThat(reservationPayment.getStatus().isResumable()).isTrue();
+
+		reservationPayment.complete();
+		assertThat(reservationPayment.getStatus().isResumable()).isFalse();
+	}
+
+	@Test
+	@DisplayName("[정상] 회차, 좌석, 할인이 모두 같은 요청만 같은 결제로 봄")
+	void matchSameRequestOnly() {
+		ReservationPayment reservationPayment = createPayment();
+
+		assertThat(reservationPayment.isFor(1L, List.of(1L, 2L, 3L), DiscountType.NONE)).isTrue();
+		assertThat(reservationPayment.isFor(2L, List.of(3L, 1L, 2L), DiscountType.NONE)).isFalse();
+		assertThat(reservationPayment.isFor(1L, List.of(3L, 1L), DiscountType.NONE)).isFalse();
+		assertThat(reservationPayment.isFor(1L, List.of(3L, 1L, 2L), DiscountType.STUDENT)).isFalse();
+	}
+}
@@ -0,0 +1,35 @@
+package tback.kicketingback.performance.dto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+
+class ReservationCancellationDTOTest {
+
+	private ReservationCancellationDTO createCancellation(boolean paymentCancelRequested) {
+		return new ReservationCancellationDTO(null, "order", List.of(), null, null, null, Map.of(),
+			paymentCancelRequested);
+	}
+
+	@Test
+	@DisplayName("[정상] 결제 취소 요청이 없으면 주문 번호로 새로 만듦")
+	void createPaymentCancelOutbox() {
+		assertThat(createCancellation(false).createPaymentCancelOutbox(LocalDateTime.now()))
+			.get()
+			.extracting(PaymentCancelOutbox::getOrderNumber)
+			.isEqualTo("order");
+	}
+
+	@Test
+	@DisplayName("[정상] 같은 주문 번호의 결제 취소 요청이 이미 있으면 다시 만들지 않음")
+	void doNotCreatePaymentCancelOutboxTwice() {
+		assertThat(createCancellation(true).createPaymentCancelOutbox(LocalDateTime.now())).isEmpty();
+	}
+}
@@ -0,0 +1,45 @@
+package tback.kicketingback.performance.hold;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SeatHoldHandlerProviderTest {
+
+	private final DatabaseSeatHoldHandler databaseSeatHoldHandler = new DatabaseSeatHoldHandler(null, null, null);
+	private final OptimisticSeatHoldHandler optimisticSeatHoldHandler = new OptimisticSeatHoldHandler(null, null,
+		null);
+
+	private SeatHoldHandlerProvider seatHoldHandlerProvider;
+
+	@BeforeEach
+	void setUp() {
+		seatHoldHandlerProvider = new SeatHoldHandlerProvider(Map.of(
+			"databaseSeatHoldHandler", databaseSeatHoldHandler,
+			"optimisticSeatHoldHandler", optimisticSeatHoldHandler));
+		ReflectionTestUtils.setField(seatHoldHandlerProvider, "holdMode", "database");
+		ReflectionTestUtils.setField(seatHoldHandlerProvider, "optimisticOnStageIds", Set.of(2L));
+	}
+
+	@Test
+	@DisplayName("[정상] 지정한 회차만 optimistic 방식, 나머지는 배포 설정 방식으로 점유")
+	void selectHandlerByOnStage() {
+		assertThat(seatHoldHandlerProvider.getSeatHoldHandler(1L)).isSameAs(databaseSeatHoldHandler);
+		assertThat(seatHoldHandlerProvider.getSeatHoldHandler(2L)).isSameAs(optimisticSeatHoldHandler);
+	}
+
+	@Test
+	@DisplayName("[예외] 지원하지 않는 점유 방식")
+	void unknownHoldMode() {
+		ReflectionTestUtils.setField(seatHoldHandlerProvider, "holdMode", "unknown");
+
+		assertThatThrownBy(() -> seatHoldHandlerProvider.getSeatHoldHandler(1L))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,110 @@
+package tback.kicketingback.performance.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+import tback.kicketingback.performance.exception.exceptions.InvalidPayRequestException;
+import tback.kicketingback.performance.exception.exceptions.RequestInProgressException;
+import tback.kicketingback.performance.repository.IdempotencyRedisRepository;
+
+class ReservationIdempotencyGuardTest {
+
+	private static final Long USER_ID = 7L;
+	private static final String ORDER_NUMBER = "order";
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	private ReservationIdempotencyGuard createGuard(long waitTimeout) {
+		return new ReservationIdempotencyGuard(new IdempotencyRedisRepository(redisTemplate), 30000, 60000,
+			waitTimeout, 10, 100);
+	}
+
+	@Test
+	@DisplayName("[정상] 성공한 요청을 다시 보내면 다른 서버에서도 처리하지 않고 성공으로 끝남")
+	void skipCompletedRequest() {
+		createGuard(1000).execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, executions::incrementAndGet);
+		createGuard(1000).execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, executions::incrementAndGet);
+		createGuard(1000).execute(USER_ID, ReservationOperation.CANCEL, ORDER_NUMBER, executions::incrementAndGet);
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[정상] 실패한 요청은 기록을 지워 다시 보낸 요청을 처음부터 처리함")
+	void retryFailedRequest() {
+		ReservationIdempotencyGuard guard = createGuard(1000);
+
+		assertThatThrownBy(() -> guard.execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, () -> {
+			executions.incrementAndGet();
+			throw new InvalidPayRequestException();
+		})).isInstanceOf(InvalidPayRequestException.class);
+		guard.execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, executions::incrementAndGet);
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[정상] 처리 중인 요청과 같은 요청은 같은 서버, 다른 서버 모두 결과를 기다림")
+	void waitForInFlightRequest() throws Exception {
+		ReservationIdempotencyGuard guard = createGuard(5000);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+			guard.execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, () -> {
+				executions.incrementAndGet();
+				started.countDown();
+				await(finish);
+			}));
+		started.await(5, TimeUnit.SECONDS);
+		CompletableFuture<Void> sameServer = CompletableFuture.runAsync(() ->
+			guard.execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER, executions::incrementAndGet));
+		CompletableFuture<Void> otherServer = CompletableFuture.runAsync(() ->
+			createGuard(5000).execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER,
+				executions::incrementAndGet));
+
+		Thread.sleep(100);
+		assertThat(sameServer).isNotDone();
+		assertThat(otherServer).isNotDone();
+
+		finish.countDown();
+		CompletableFuture.allOf(first, sameServer, otherServer).get(5, TimeUnit.SECONDS);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[예외] 처리 중인 요청이 wait-timeout 안에 끝나지 않으면 예외 발생")
+	void timeoutWhileInFlight() {
+		new IdempotencyRedisRepository(redisTemplate).begin(
+			IdempotencyRedisRepository.toKey(USER_ID, ReservationOperation.COMPLETE.name(), ORDER_NUMBER), "other",
+			Duration.ofSeconds(30));
+
+		assertThatThrownBy(() -> createGuard(100).execute(USER_ID, ReservationOperation.COMPLETE, ORDER_NUMBER,
+			executions::incrementAndGet)).isInstanceOf(RequestInProgressException.class);
+		assertThat(executions.get()).isZero();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
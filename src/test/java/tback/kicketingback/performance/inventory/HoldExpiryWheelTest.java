@@ -0,0 +1,50 @@
+package tback.kicketingback.performance.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HoldExpiryWheelTest {
+
+	private static final long TICK = 100L;
+
+	private final HoldExpiryWheel holdExpiryWheel = new HoldExpiryWheel(8, TICK);
+	private final long now = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[정상] 만료 시각이 지난 점유만 회차별로 꺼냄")
+	void advanceExpired() {
+		holdExpiryWheel.schedule(1L, List.of(1L, 2L), now + 200);
+		holdExpiryWheel.schedule(2L, List.of(3L), now + 300);
+		holdExpiryWheel.schedule(1L, List.of(4L), now + 500);
+
+		Map<Long, List<Long>> expired = holdExpiryWheel.advance(now + 350);
+
+		assertThat(expired).containsOnlyKeys(1L, 2L);
+		assertThat(expired.get(1L)).containsExactly(1L, 2L);
+		assertThat(expired.get(2L)).containsExactly(3L);
+		assertThat(holdExpiryWheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[정상] 휠 한 바퀴보다 먼 만료 시각은 해당 바퀴가 돌아올 때 꺼냄")
+	void keepDeadlineBeyondOneRound() {
+		holdExpiryWheel.schedule(1L, List.of(1L), now + TICK * 8 * 2 + 50);
+
+		assertThat(holdExpiryWheel.advance(now + TICK * 8 + 50)).isEmpty();
+		assertThat(holdExpiryWheel.advance(now + TICK * 8 * 2 + 50)).containsEntry(1L, List.of(1L));
+	}
+
+	@Test
+	@DisplayName("[정상] 이미 지난 만료 시각은 다음 진행 때 바로 꺼냄")
+	void scheduleAlreadyExpired() {
+		holdExpiryWheel.advance(now + 1_000);
+		holdExpiryWheel.schedule(1L, List.of(1L), now);
+
+		assertThat(holdExpiryWheel.advance(now + 1_000)).containsEntry(1L, List.of(1L));
+	}
+}
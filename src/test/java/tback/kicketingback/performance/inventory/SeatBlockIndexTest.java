@@ -0,0 +1,98 @@
+package tback.kicketingback.performance.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+
+class SeatBlockIndexTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+	private static final Long USER_ID = 7L;
+	private static final int COLS = 10;
+
+	private final LocalDateTime now = LocalDateTime.now();
+
+	/**
+	 * A~C 열에 1~10번 좌석, 좌석 ID 는 열 순서대로 1부터. C 열만 R 등급
+	 */
+	private SeatInventory createInventory(List<Long> soldSeatIds) {
+		List<SeatStateDTO> seatStates = new ArrayList<>();
+		long seatId = 1;
+		for (String seatRow : List.of("A", "B", "C")) {
+			Grade grade = seatRow.equals("C") ? Grade.R : Grade.VIP;
+			for (int seatCol = 1; seatCol <= COLS; seatCol++, seatId++) {
+				String orderNumber = soldSeatIds.contains(seatId) ? "order" : null;
+				seatStates.add(new SeatStateDTO(seatId, grade, seatRow, seatCol, null, null, orderNumber));
+			}
+		}
+		return SeatInventory.of(ON_STAGE_ID, UUID.randomUUID(), now.plusDays(1), List.of(), seatStates);
+	}
+
+	@Test
+	@DisplayName("[정상] 앞 열의 가운데에 가장 가까운 연속 좌석을 고름")
+	void findCenterOfFrontRow() {
+		SeatInventory inventory = createInventory(List.of());
+
+		assertThat(inventory.findBestBlock(Grade.VIP, 2, Set.of())).containsExactly(5L, 6L);
+		assertThat(inventory.findBestBlock(Grade.VIP, 3, Set.of())).containsExactly(5L, 6L, 7L);
+		assertThat(inventory.findBestBlock(Grade.R, 4, Set.of())).containsExactly(24L, 25L, 26L, 27L);
+	}
+
+	@Test
+	@DisplayName("[정상] 앞 열에 연속 좌석이 부족하면 다음 열에서 고름")
+	void skipRowWithoutLongEnoughBlock() {
+		SeatInventory inventory = createInventory(List.of(4L, 8L));
+
+		assertThat(inventory.findBestBlock(Grade.VIP, 3, Set.of())).containsExactly(5L, 6L, 7L);
+		assertThat(inventory.findBestBlock(Grade.VIP, 4, Set.of())).containsExactly(14L, 15L, 16L, 17L);
+	}
+
+	@Test
+	@DisplayName("[정상] 점유, 만료 이벤트가 연속 구간에 반영됨")
+	void applyEventsToBlocks() {
+		SeatInventory inventory = createInventory(List.of());
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(3L, 7L), USER_ID, now.plusMinutes(5)));
+		assertThat(inventory.findBestBlock(Grade.VIP, 4, Set.of())).containsExactly(14L, 15L, 16L, 17L);
+		assertThat(inventory.findBestBlock(Grade.VIP, 3, Set.of())).containsExactly(4L, 5L, 6L);
+
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(3L, 7L), now.plusMinutes(6)));
+		assertThat(inventory.findBestBlock(Grade.VIP, 10, Set.of())).hasSize(10).startsWith(1L);
+	}
+
+	@Test
+	@DisplayName("[정상] 제외한 좌석을 피해 고르고, 없으면 빈 목록")
+	void excludeSeats() {
+		SeatInventory inventory = createInventory(List.of());
+
+		assertThat(inventory.findBestBlock(Grade.VIP, 2, Set.of(4L, 5L, 6L))).containsExactly(7L, 8L);
+		assertThat(inventory.findBestBlock(Grade.R, 11, Set.of())).isEmpty();
+		assertThat(inventory.findBestBlock(Grade.S, 1, Set.of())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[정상] 열 이름의 숫자는 수 크기로 비교해 앞 열을 고름")
+	void orderRowsNumerically() {
+		SeatInventory inventory = SeatInventory.of(ON_STAGE_ID, UUID.randomUUID(), now.plusDays(1), List.of(),
+			List.of(
+				new SeatStateDTO(1L, Grade.VIP, "10", 1, null, null, null),
+				new SeatStateDTO(2L, Grade.VIP, "2", 1, null, null, null)));
+
+		assertThat(inventory.findBestBlock(Grade.VIP, 1, Set.of())).containsExactly(2L);
+		assertThat(Stream.of("R10", "R2", "B1", "A", "R1").sorted(SeatBlockIndex::compareSeatRows))
+			.containsExactly("A", "B1", "R1", "R2", "R10");
+		assertThat(SeatBlockIndex.compareSeatRows("R02", "R2")).isZero();
+	}
+}
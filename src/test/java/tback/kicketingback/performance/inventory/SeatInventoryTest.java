@@ -0,0 +1,177 @@
+package tback.kicketingback.performance.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.performance.domain.type.Grade;
+import tback.kicketingback.performance.dto.GetSeatInfoResponse;
+import tback.kicketingback.performance.dto.SeatDelta;
+import tback.kicketingback.performance.dto.SeatGradeCount;
+import tback.kicketingback.performance.dto.SeatStateDTO;
+import tback.kicketingback.performance.dto.SimpleSeatDTO;
+import tback.kicketingback.performance.event.SeatMapChangedEvent;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+
+class SeatInventoryTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+	private static final Long USER_ID = 7L;
+
+	private final LocalDateTime now = LocalDateTime.now();
+
+	private SeatInventory createInventory(List<SeatStateDTO> seatStates) {
+		return SeatInventory.of(ON_STAGE_ID, UUID.randomUUID(), now.plusDays(1), List.of(), seatStates);
+	}
+
+	private SeatStateDTO freeSeat(Long seatId) {
+		return new SeatStateDTO(seatId, Grade.VIP, "A", seatId.intValue(), null, null, null);
+	}
+
+	private List<Long> bookableSeatIds(GetSeatInfoResponse seatInfo) {
+		return seatInfo.bookableSeats().stream().map(SimpleSeatDTO::id).toList();
+	}
+
+	@Test
+	@DisplayName("[정상] 예매 번호와 점유자가 모두 없는 좌석만 예매 가능")
+	void partitionLoadedSeats() {
+		SeatInventory inventory = createInventory(List.of(
+			freeSeat(3L),
+			new SeatStateDTO(1L, Grade.R, "A", 1, USER_ID, now.minusMinutes(1), null),
+			new SeatStateDTO(2L, Grade.R, "A", 2, USER_ID, now.plusMinutes(5), null),
+			new SeatStateDTO(4L, Grade.R, "A", 4, USER_ID, now.minusMinutes(1), "order"),
+			new SeatStateDTO(5L, Grade.R, "A", 5, USER_ID, null, null)));
+
+		GetSeatInfoResponse seatInfo = inventory.getSeatInfo();
+
+		assertThat(bookableSeatIds(seatInfo)).containsExactly(3L);
+		assertThat(seatInfo.unbookableSeats()).extracting(SimpleSeatDTO::id).containsExactly(1L, 2L, 4L, 5L);
+	}
+
+	@Test
+	@DisplayName("[정상] 점유, 예매, 취소, 만료 이벤트가 좌석 상태에 반영됨")
+	void applyEvents() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L), freeSeat(2L), freeSeat(3L)));
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L, 2L), USER_ID, now.plusMinutes(5)));
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).containsExactly(3L);
+
+		inventory.apply(SeatStateChangedEvent.completed(ON_STAGE_ID, List.of(1L), USER_ID));
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L, 2L), now.plusMinutes(6)));
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).containsExactly(2L, 3L);
+
+		inventory.apply(SeatStateChangedEvent.canceled(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(10)));
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).containsExactly(2L, 3L);
+
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L), now.plusMinutes(11)));
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("[정상] 만료 기준 이후에 다시 점유된 좌석은 만료 이벤트로 해제되지 않음")
+	void ignoreExpireForNewerHold() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L)));
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5)));
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L), now));
+
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[정상] 회차에 없는 좌석 이벤트는 무시")
+	void ignoreUnknownSeat() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L)));
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(99L), USER_ID, now.plusMinutes(5)));
+
+		assertThat(bookableSeatIds(inventory.getSeatInfo())).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("[정상] 등급별 예매 가능 좌석 수가 이벤트마다 갱신됨")
+	void countAvailableSeatsByGrade() {
+		SeatInventory inventory = createInventory(List.of(
+			freeSeat(1L),
+			freeSeat(2L),
+			new SeatStateDTO(3L, Grade.R, "B", 1, null, null, null),
+			new SeatStateDTO(4L, Grade.R, "B", 2, USER_ID, now.plusMinutes(5), "order")));
+
+		assertThat(inventory.getAvailableSeatCounts())
+			.containsExactly(new SeatGradeCount(Grade.VIP, 2L), new SeatGradeCount(Grade.R, 1L));
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L, 3L), USER_ID, now.plusMinutes(5)));
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5)));
+		assertThat(inventory.getAvailableSeatCounts())
+			.containsExactly(new SeatGradeCount(Grade.VIP, 1L), new SeatGradeCount(Grade.R, 0L));
+
+		inventory.apply(SeatStateChangedEvent.completed(ON_STAGE_ID, List.of(1L), USER_ID));
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L, 3L), now.plusMinutes(6)));
+		assertThat(inventory.getAvailableSeatCounts())
+			.containsExactly(new SeatGradeCount(Grade.VIP, 1L), new SeatGradeCount(Grade.R, 1L));
+	}
+
+	@Test
+	@DisplayName("[정상] 예매 가능 여부가 바뀐 좌석만 변경분으로 돌려주고 version 을 올림")
+	void returnSeatDeltas() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L), freeSeat(2L)));
+
+		SeatMapChangedEvent locked = inventory.apply(
+			SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L, 2L), USER_ID, now.plusMinutes(5)));
+		SeatMapChangedEvent completed = inventory.apply(
+			SeatStateChangedEvent.completed(ON_STAGE_ID, List.of(1L), USER_ID));
+		SeatMapChangedEvent expired = inventory.apply(
+			SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L, 2L), now.plusMinutes(6)));
+
+		assertThat(locked.version()).isEqualTo(1L);
+		assertThat(locked.deltas()).containsExactly(new SeatDelta(1L, false), new SeatDelta(2L, false));
+		assertThat(completed.version()).isEqualTo(1L);
+		assertThat(completed.deltas()).isEmpty();
+		assertThat(expired.version()).isEqualTo(2L);
+		assertThat(expired.deltas()).containsExactly(new SeatDelta(2L, true));
+		assertThat(inventory.getSnapshot().version()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("[정상] 저장 전인 변경과 그 뒤에 반영된 변경은 commit 때 version 순서대로 돌려줌")
+	void deferChangesUntilCommit() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L), freeSeat(2L)));
+
+		inventory.applyUncommitted(
+			SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5)));
+		assertThat(inventory.applyCommitted(
+			SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(2L), USER_ID, now.plusMinutes(5)))).isEmpty();
+
+		assertThat(inventory.commit()).extracting(SeatMapChangedEvent::version).containsExactly(1L, 2L);
+		assertThat(inventory.applyCommitted(
+			SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L), now.plusMinutes(6))))
+			.hasValueSatisfying(event -> assertThat(event.version()).isEqualTo(3L));
+	}
+
+	@Test
+	@DisplayName("[정상] availability tag 는 예매 가능한 좌석 구성이 같으면 다른 인벤토리에서도 같음")
+	void deriveAvailabilityTagFromSeatMap() {
+		SeatInventory inventory = createInventory(List.of(freeSeat(1L), freeSeat(2L)));
+		SeatInventory otherNode = createInventory(List.of(freeSeat(1L), freeSeat(2L)));
+		String loadedTag = inventory.getAvailabilityTag();
+		assertThat(otherNode.getAvailabilityTag()).isEqualTo(loadedTag);
+
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L), now));
+		assertThat(inventory.getAvailabilityTag()).isEqualTo(loadedTag);
+
+		inventory.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5)));
+		assertThat(inventory.getAvailabilityTag()).isNotEqualTo(loadedTag);
+		assertThat(otherNode.getAvailabilityTag()).isEqualTo(loadedTag);
+
+		otherNode.apply(SeatStateChangedEvent.locked(ON_STAGE_ID, List.of(1L), USER_ID, now.plusMinutes(5)));
+		assertThat(otherNode.getAvailabilityTag()).isEqualTo(inventory.getAvailabilityTag());
+
+		inventory.apply(SeatStateChangedEvent.expired(ON_STAGE_ID, List.of(1L), now.plusMinutes(5)));
+		assertThat(inventory.getAvailabilityTag()).isEqualTo(loadedTag);
+	}
+}
@@ -0,0 +1,84 @@
+package tback.kicketingback.performance.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.repository.SeatStateRedisRepository;
+
+class SeatStateRelayTest {
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final SeatStateRedisRepository seatStateRedisRepository = new SeatStateRedisRepository(
+		REDIS.getRedisTemplate());
+	private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+	@AfterEach
+	void unsubscribe() {
+		containers.forEach(RedisMessageListenerContainer::stop);
+	}
+
+	@Test
+	@DisplayName("[정상] 커밋된 좌석 변경은 다른 서버의 인벤토리에만 반영됨")
+	void relayToOtherNodes() throws InterruptedException {
+		RecordingSeatInventoryManager managerA = new RecordingSeatInventoryManager();
+		RecordingSeatInventoryManager managerB = new RecordingSeatInventoryManager();
+		SeatStateRelay relayA = createRelay(managerA);
+		createRelay(managerB);
+		SeatStateChangedEvent event = SeatStateChangedEvent.locked(1L, List.of(10L, 11L), 7L,
+			LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.MILLIS));
+
+		relayA.onSeatStateChanged(event);
+
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (managerB.applied.isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(managerB.applied).containsExactly(event);
+		assertThat(managerA.applied).isEmpty();
+	}
+
+	private SeatStateRelay createRelay(SeatInventoryManager seatInventoryManager) {
+		SeatStateRelay relay = new SeatStateRelay(seatInventoryManager, seatStateRedisRepository, objectMapper);
+
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(REDIS.getConnectionFactory());
+		container.addMessageListener(relay, new ChannelTopic(SeatStateRedisRepository.CHANNEL));
+		container.afterPropertiesSet();
+		container.start();
+		containers.add(container);
+		return relay;
+	}
+
+	private static class RecordingSeatInventoryManager extends SeatInventoryManager {
+
+		private final List<SeatStateChangedEvent> applied = new CopyOnWriteArrayList<>();
+
+		RecordingSeatInventoryManager() {
+			super(null, null, null, null, null, null, 10, 60_000);
+		}
+
+		@Override
+		public void applyCommitted(SeatStateChangedEvent event) {
+			applied.add(event);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package tback.kicketingback.performance.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.JDBCException;
+import org.hibernate.dialect.MySQLDialect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tback.kicketingback.performance.dto.HotSeatDTO;
+import tback.kicketingback.performance.dto.SeatLockContentionDTO;
+
+class SeatLockMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SeatLockMetrics seatLockMetrics = new SeatLockMetrics(meterRegistry);
+
+	@Test
+	@DisplayName("[정상] 충돌이 많은 회차와 좌석 순으로 보여 주고 Micrometer 에도 기록함")
+	void rankHottestOnStagesAndSeats() {
+		seatLockMetrics.recordConflict(1L, List.of(10L));
+		seatLockMetrics.recordConflict(2L, List.of(20L, 21L));
+		seatLockMetrics.recordConflict(2L, List.of(21L));
+		assertThat(seatLockMetrics.recordLockWait(2L, "hold", () -> 3L)).isEqualTo(3L);
+
+		List<SeatLockContentionDTO> hottest = seatLockMetrics.getHottestOnStages(10, 1);
+
+		assertThat(hottest).extracting(SeatLockContentionDTO::onStageId).containsExactly(2L, 1L);
+		assertThat(hottest.get(0).conflicts()).isEqualTo(2L);
+		assertThat(hottest.get(0).lockWaits()).isEqualTo(1L);
+		assertThat(hottest.get(0).hotSeats()).containsExactly(new HotSeatDTO(21L, 2L));
+		assertThat(meterRegistry.counter("seat.lock.conflict").count()).isEqualTo(3.0);
+		assertThat(meterRegistry.counter("seat.lock.conflict.seats").count()).isEqualTo(4.0);
+		assertThat(meterRegistry.timer("seat.lock.wait", "operation", "hold").count()).isEqualTo(1L);
+		assertThat(meterRegistry.find("seat.lock.conflict").tagKeys("onStageId").counter()).isNull();
+	}
+
+	@Test
+	@DisplayName("[정상] Hibernate 와 Spring 이 번역한 MySQL 락 예외를 에러 코드로 구분해 기록함")
+	void classifyLockFailures() {
+		PessimisticLockingFailureException lockTimeout = translate(
+			new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+		PessimisticLockingFailureException deadlock = translate(
+			new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+
+		seatLockMetrics.recordLockFailure(1L, lockTimeout);
+		seatLockMetrics.recordLockFailure(1L, deadlock);
+		seatLockMetrics.recordLockFailure(1L, deadlock);
+		seatLockMetrics.recordLockFailure(1L, new PessimisticLockingFailureException("원인 없음"));
+
+		SeatLockContentionDTO contention = seatLockMetrics.getHottestOnStages(1, 1).get(0);
+
+		assertThat(lockTimeout).isNotInstanceOf(CannotAcquireLockException.class);
+		assertThat(deadlock).isInstanceOf(CannotAcquireLockException.class);
+		assertThat(contention.lockTimeouts()).isEqualTo(1L);
+		assertThat(contention.deadlocks()).isEqualTo(2L);
+		assertThat(meterRegistry.counter("seat.lock.failure", "type", "lock-timeout").count()).isEqualTo(1.0);
+		assertThat(meterRegistry.counter("seat.lock.failure", "type", "deadlock").count()).isEqualTo(2.0);
+		assertThat(meterRegistry.counter("seat.lock.failure", "type", "other").count()).isEqualTo(1.0);
+	}
+
+	private PessimisticLockingFailureException translate(SQLException sqlException) {
+		JDBCException hibernateException = new MySQLDialect().buildSQLExceptionConversionDelegate()
+			.convert(sqlException, sqlException.getMessage(), "select ... for update");
+		return (PessimisticLockingFailureException)new HibernateJpaDialect()
+			.translateExceptionIfPossible(hibernateException);
+	}
+
+	@Test
+	@DisplayName("[정상] 진단 값은 최근 두 구간만 합침")
+	void keepOnlyRecentWindows() {
+		seatLockMetrics.recordConflict(1L, List.of(10L));
+		seatLockMetrics.rotate();
+		seatLockMetrics.recordConflict(1L, List.of(10L));
+
+		assertThat(seatLockMetrics.getHottestOnStages(1, 1).get(0).conflicts()).isEqualTo(2L);
+
+		seatLockMetrics.rotate();
+		assertThat(seatLockMetrics.getHottestOnStages(1, 1).get(0).conflicts()).isEqualTo(1L);
+
+		seatLockMetrics.rotate();
+		assertThat(seatLockMetrics.getHottestOnStages(1, 1)).isEmpty();
+		assertThat(meterRegistry.counter("seat.lock.conflict").count()).isEqualTo(2.0);
+	}
+}
@@ -0,0 +1,161 @@
+package tback.kicketingback.performance.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+import tback.kicketingback.performance.domain.type.OutboxStatus;
+import tback.kicketingback.performance.exception.exceptions.InvalidPayCancelRequestException;
+import tback.kicketingback.performance.exception.exceptions.PaymentCancelServerErrorException;
+import tback.kicketingback.performance.repository.FakePaymentCancelOutboxRepository;
+import tback.kicketingback.performance.service.FakePaymentCancelGateway;
+
+class PaymentCancelDispatcherTest {
+
+	private final FakePaymentCancelOutboxRepository outboxRepository = new FakePaymentCancelOutboxRepository();
+	private final FakePaymentCancelGateway gateway = new FakePaymentCancelGateway();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private PaymentCancelDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = createDispatcher(Runnable::run, 4);
+	}
+
+	private PaymentCancelDispatcher createDispatcher(Executor executor, int concurrency) {
+		PaymentCancelDispatcher dispatcher = new PaymentCancelDispatcher(outboxRepository, gateway, executor,
+			meterRegistry);
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+		ReflectionTestUtils.setField(dispatcher, "concurrency", concurrency);
+		ReflectionTestUtils.setField(dispatcher, "claimTimeout", 60000L);
+		ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+		ReflectionTestUtils.setField(dispatcher, "initialBackoff", 1000L);
+		ReflectionTestUtils.setField(dispatcher, "maxBackoff", 5000L);
+		return dispatcher;
+	}
+
+	private PaymentCancelOutbox enqueue(String orderNumber) {
+		return outboxRepository.save(PaymentCancelOutbox.of(orderNumber, LocalDateTime.now().minusSeconds(1)));
+	}
+
+	private double dispatched(String result) {
+		return meterRegistry.counter("payment.cancel.outbox.dispatch", "result", result).count();
+	}
+
+	@Test
+	@DisplayName("[정상] 시도할 때가 된 결제 취소 요청을 보내고 SENT 로 바꿈")
+	void dispatchDueOutboxes() {
+		PaymentCancelOutbox first = enqueue("order-1");
+		PaymentCancelOutbox second = enqueue("order-2");
+		PaymentCancelOutbox later = outboxRepository.save(
+			PaymentCancelOutbox.of("order-3", LocalDateTime.now().plusMinutes(1)));
+
+		dispatcher.dispatch();
+
+		assertThat(gateway.getCanceledOrderNumbers()).containsExactly("order-1", "order-2");
+		assertThat(first.getStatus()).isEqualTo(OutboxStatus.SENT);
+		assertThat(second.getStatus()).isEqualTo(OutboxStatus.SENT);
+		assertThat(later.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(dispatched("sent")).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("[정상] 보내는 중인 요청은 결과를 기다리지 않고 다음 차례에 다시 읽지 않음")
+	void doNotDispatchClaimedOutboxAgain() {
+		List<Runnable> sending = new ArrayList<>();
+		PaymentCancelDispatcher deferredDispatcher = createDispatcher(sending::add, 1);
+		PaymentCancelOutbox outbox = enqueue("order");
+
+		deferredDispatcher.dispatch();
+		deferredDispatcher.dispatch();
+
+		assertThat(sending).hasSize(1);
+		assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+		sending.forEach(Runnable::run);
+
+		assertThat(gateway.getCanceledOrderNumbers()).containsExactly("order");
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+	}
+
+	@Test
+	@DisplayName("[정상] 쉬고 있는 스레드가 없으면 요청을 더 가져가지 않음")
+	void claimOnlyForIdleWorkers() {
+		List<Runnable> sending = new ArrayList<>();
+		PaymentCancelDispatcher deferredDispatcher = createDispatcher(sending::add, 1);
+		enqueue("order-1");
+		PaymentCancelOutbox waiting = enqueue("order-2");
+		LocalDateTime dueAt = waiting.getNextAttemptAt();
+
+		deferredDispatcher.dispatch();
+		deferredDispatcher.dispatch();
+
+		assertThat(sending).hasSize(1);
+		assertThat(waiting.getNextAttemptAt()).isEqualTo(dueAt);
+
+		sending.remove(0).run();
+		deferredDispatcher.dispatch();
+
+		assertThat(sending).hasSize(1);
+		sending.remove(0).run();
+		assertThat(gateway.getCanceledOrderNumbers()).containsExactly("order-1", "order-2");
+	}
+
+	@Test
+	@DisplayName("[정상] 결제 서버 오류는 대기 시간을 늘려 다시 보내고 max-attempts 에서 FAILED 로 남김")
+	void retryWithBackoffThenFail() {
+		PaymentCancelOutbox outbox = enqueue("order");
+		gateway.failNext("order", 3, PaymentCancelServerErrorException::new);
+
+		dispatcher.dispatch();
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(outbox.getAttempts()).isEqualTo(1);
+		assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+		dispatcher.dispatch();
+		assertThat(outbox.getAttempts()).isEqualTo(1);
+
+		ReflectionTestUtils.setField(outbox, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+		dispatcher.dispatch();
+		ReflectionTestUtils.setField(outbox, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+		dispatcher.dispatch();
+
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(outbox.getAttempts()).isEqualTo(3);
+		assertThat(gateway.getCanceledOrderNumbers()).isEmpty();
+		assertThat(dispatched("retry")).isEqualTo(2.0);
+		assertThat(dispatched("failed")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("[예외] 결제 서버가 거절한 취소 요청은 다시 보내지 않음")
+	void failRejectedRequest() {
+		PaymentCancelOutbox outbox = enqueue("order");
+		gateway.failNext("order", 1, InvalidPayCancelRequestException::new);
+
+		dispatcher.dispatch();
+
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(outbox.getAttempts()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[정상] 대기 시간은 시도마다 두 배로 늘고 최대값에서 멈춤")
+	void doubleBackoffUpToMax() {
+		assertThat(dispatcher.backoff(1)).isEqualTo(1000L);
+		assertThat(dispatcher.backoff(2)).isEqualTo(2000L);
+		assertThat(dispatcher.backoff(3)).isEqualTo(4000L);
+		assertThat(dispatcher.backoff(4)).isEqualTo(5000L);
+		assertThat(dispatcher.backoff(100)).isEqualTo(5000L);
+	}
+}
@@ -0,0 +1,148 @@
+package tback.kicketingback.performance.ranking;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.performance.domain.type.Genre;
+import tback.kicketingback.performance.dto.DateUnit;
+import tback.kicketingback.performance.dto.GetPerformancesSize;
+import tback.kicketingback.performance.dto.OnStageSalesDTO;
+import tback.kicketingback.performance.dto.PlaceDTO;
+import tback.kicketingback.performance.dto.Range;
+import tback.kicketingback.performance.dto.SimplePerformanceDTO;
+import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
+import tback.kicketingback.performance.event.SeatStateChangedEvent;
+import tback.kicketingback.performance.repository.PerformanceRepositoryCustom;
+
+class PopularityRankingTest {
+
+	private final LocalDate today = LocalDate.of(2024, 3, 13);
+	private final Range week = DateUnit.WEEK.getRangeCalculator().apply(today);
+	private final Range month = DateUnit.MONTH.getRangeCalculator().apply(today);
+	private final GetPerformancesSize size = GetPerformancesSize.of(10);
+
+	private final SimplePerformancePlaceDTO musical = performance("뮤지컬", "musical");
+	private final SimplePerformancePlaceDTO concert = performance("콘서트", "concert");
+	private final SimplePerformancePlaceDTO classic = performance("클래식", "classic");
+
+	private final FakeSalesRepository performanceRepositoryCustom = new FakeSalesRepository();
+	private final PopularityRanking popularityRanking = new PopularityRanking(performanceRepositoryCustom);
+
+	@Test
+	@DisplayName("[정상] 범위 안 날짜의 판매 수를 합쳐 많이 팔린 순으로 돌려줌")
+	void rankBySalesInRange() {
+		performanceRepositoryCustom.onStageSales.addAll(List.of(
+			new OnStageSalesDTO(1L, today.atTime(19, 0), musical, 3L),
+			new OnStageSalesDTO(2L, today.plusDays(1).atTime(19, 0), musical, 4L),
+			new OnStageSalesDTO(3L, today.atTime(20, 0), concert, 5L),
+			new OnStageSalesDTO(4L, today.plusDays(10).atTime(20, 0), classic, 9L),
+			new OnStageSalesDTO(5L, today.plusDays(2).atTime(20, 0), classic, 0L)));
+		popularityRanking.rebuild(today);
+
+		assertThat(popularityRanking.findRanking(Genre.NONE, week, size).orElseThrow())
+			.containsExactly(musical, concert);
+		assertThat(popularityRanking.findRanking(Genre.NONE, month, size).orElseThrow())
+			.containsExactly(classic, musical, concert);
+		assertThat(popularityRanking.findRanking(Genre.CONCERT, month, size).orElseThrow())
+			.containsExactly(concert);
+	}
+
+	@Test
+	@DisplayName("[정상] 예매 확정과 취소가 DB 를 다시 읽지 않고 바로 순위에 반영됨")
+	void applyReservationEvents() {
+		performanceRepositoryCustom.onStageSales.addAll(List.of(
+			new OnStageSalesDTO(1L, today.atTime(19, 0), musical, 2L),
+			new OnStageSalesDTO(2L, today.atTime(20, 0), concert, 3L)));
+		popularityRanking.rebuild(today);
+
+		popularityRanking.onSeatStateChanged(SeatStateChangedEvent.completed(1L, List.of(10L, 11L), 7L));
+		assertThat(popularityRanking.findRanking(Genre.NONE, week, size).orElseThrow())
+			.containsExactly(musical, concert);
+
+		popularityRanking.onSeatStateChanged(
+			SeatStateChangedEvent.canceled(1L, List.of(10L), 7L, LocalDateTime.now()));
+		popularityRanking.onSeatStateChanged(
+			SeatStateChangedEvent.canceled(1L, List.of(11L), 7L, LocalDateTime.now()));
+		assertThat(popularityRanking.findRanking(Genre.NONE, week, size).orElseThrow())
+			.containsExactly(concert, musical);
+		assertThat(performanceRepositoryCustom.queries.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[정상] 인덱스에 없는 회차는 처음 한 번만 DB 에서 판매 수를 읽음")
+	void loadUnknownOnStageOnce() {
+		popularityRanking.rebuild(today);
+		performanceRepositoryCustom.onStageSales.add(new OnStageSalesDTO(1L, today.atTime(19, 0), musical, 2L));
+
+		popularityRanking.onSeatStateChanged(SeatStateChangedEvent.completed(1L, List.of(10L, 11L), 7L));
+		popularityRanking.onSeatStateChanged(SeatStateChangedEvent.completed(1L, List.of(12L), 8L));
+
+		assertThat(performanceRepositoryCustom.queries.get()).isEqualTo(2);
+		assertThat(popularityRanking.findRanking(Genre.MUSICAL, week, size).orElseThrow())
+			.containsExactly(musical);
+	}
+
+	@Test
+	@DisplayName("[예외] 인덱스가 없거나 인덱스보다 앞선 날짜를 포함하면 빈 값")
+	void notCovered() {
+		assertThat(popularityRanking.findRanking(Genre.NONE, week, size)).isEmpty();
+
+		popularityRanking.rebuild(today);
+
+		assertThat(popularityRanking.findRanking(Genre.NONE, DateUnit.MONTH.getRangeCalculator()
+			.apply(today.minusMonths(1)), size)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[예외] 재계산에 실패하면 이전 인덱스를 그대로 씀")
+	void keepIndexOnFailure() {
+		performanceRepositoryCustom.onStageSales.add(new OnStageSalesDTO(1L, today.atTime(19, 0), musical, 2L));
+		popularityRanking.rebuild(today);
+		performanceRepositoryCustom.failing = true;
+
+		popularityRanking.rebuild(today.plusDays(1));
+
+		assertThat(popularityRanking.findRanking(Genre.NONE, week, size).orElseThrow()).containsExactly(musical);
+	}
+
+	private SimplePerformancePlaceDTO performance(String genre, String name) {
+		return new SimplePerformancePlaceDTO(
+			new SimplePerformanceDTO(UUID.randomUUID(), genre, name, today, today.plusMonths(1), "image"),
+			new PlaceDTO(1L, "place", "address", "hall"));
+	}
+
+	private static class FakeSalesRepository extends PerformanceRepositoryCustom {
+
+		private final List<OnStageSalesDTO> onStageSales = new ArrayList<>();
+		private final AtomicInteger queries = new AtomicInteger();
+		private boolean failing;
+
+		FakeSalesRepository() {
+			super(null);
+		}
+
+		@Override
+		public List<OnStageSalesDTO> findOnStageSales(LocalDate from) {
+			if (failing) {
+				throw new IllegalStateException("DB 연결 실패");
+			}
+			queries.incrementAndGet();
+			return onStageSales.stream().filter(sales -> !sales.dateTime().toLocalDate().isBefore(from)).toList();
+		}
+
+		@Override
+		public List<OnStageSalesDTO> findOnStageSales(Long onStageId) {
+			queries.incrementAndGet();
+			return onStageSales.stream().filter(sales -> sales.onStageId().equals(onStageId)).toList();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package tback.kicketingback.performance.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import tback.kicketingback.performance.domain.PaymentCancelOutbox;
+import tback.kicketingback.performance.domain.type.OutboxStatus;
+
+public class FakePaymentCancelOutboxRepository implements PaymentCancelOutboxRepository {
+
+	private final List<PaymentCancelOutbox> outboxes = new ArrayList<>();
+
+	@Override
+	public synchronized PaymentCancelOutbox save(PaymentCancelOutbox paymentCancelOutbox) {
+		if (!outboxes.contains(paymentCancelOutbox)) {
+			outboxes.add(paymentCancelOutbox);
+		}
+		return paymentCancelOutbox;
+	}
+
+	@Override
+	public synchronized boolean existsByOrderNumber(String orderNumber) {
+		return outboxes.stream().anyMatch(outbox -> outbox.getOrderNumber().equals(orderNumber));
+	}
+
+	@Override
+	public synchronized List<PaymentCancelOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+		OutboxStatus status, LocalDateTime nextAttemptAt, Limit limit) {
+		return outboxes.stream()
+			.filter(outbox -> outbox.getStatus() == status && !outbox.getNextAttemptAt().isAfter(nextAttemptAt))
+			.sorted(Comparator.comparing(PaymentCancelOutbox::getNextAttemptAt))
+			.limit(limit.max())
+			.toList();
+	}
+}
@@ -0,0 +1,85 @@
+package tback.kicketingback.performance.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+import tback.kicketingback.performance.dto.HeldSeatDTO;
+
+class SeatHoldRedisRepositoryTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+	private static final Duration LOCK_TIME = Duration.ofMinutes(5);
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+
+	private final SeatHoldRedisRepository seatHoldRedisRepository = new SeatHoldRedisRepository(redisTemplate);
+
+	@Test
+	@DisplayName("[정상] 여러 좌석을 한 번에 점유")
+	void holdSeats() {
+		List<Long> conflicts = seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L, 2L, 3L), 7L, LOCK_TIME);
+
+		assertThat(conflicts).isEmpty();
+		assertThat(seatHoldRedisRepository.findNotHeldBy(ON_STAGE_ID, List.of(1L, 2L, 3L), 7L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[정상] 같은 사용자는 점유를 다시 요청할 수 있음")
+	void holdAgainBySameUser() {
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L), 7L, LOCK_TIME);
+
+		assertThat(seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L, 2L), 7L, LOCK_TIME)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[예외] 하나라도 다른 사용자가 점유 중이면 아무 좌석도 점유하지 않음")
+	void holdAllOrNothing() {
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(2L), 8L, LOCK_TIME);
+
+		List<Long> conflicts = seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L, 2L, 3L), 7L, LOCK_TIME);
+
+		assertThat(conflicts).containsExactly(2L);
+		assertThat(seatHoldRedisRepository.findNotHeldBy(ON_STAGE_ID, List.of(1L, 2L, 3L), 7L))
+			.containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("[정상] 본인이 점유한 좌석만 해제")
+	void releaseOnlyOwnSeats() {
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L), 7L, LOCK_TIME);
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(2L), 8L, LOCK_TIME);
+
+		seatHoldRedisRepository.release(ON_STAGE_ID, List.of(1L, 2L), 7L);
+
+		assertThat(seatHoldRedisRepository.findNotHeldBy(ON_STAGE_ID, List.of(1L), 7L)).containsExactly(1L);
+		assertThat(seatHoldRedisRepository.findNotHeldBy(ON_STAGE_ID, List.of(2L), 8L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[정상] 점유 중인 좌석의 점유자와 만료 시각 조회")
+	void findHolds() {
+		LocalDateTime now = LocalDateTime.now();
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(1L), 7L, LOCK_TIME);
+		seatHoldRedisRepository.hold(ON_STAGE_ID, List.of(3L), 8L, LOCK_TIME);
+
+		List<HeldSeatDTO> holds = seatHoldRedisRepository.findHolds(ON_STAGE_ID, List.of(1L, 2L, 3L), now);
+
+		assertThat(holds).extracting(HeldSeatDTO::seatId, HeldSeatDTO::userId)
+			.containsExactly(tuple(1L, 7L), tuple(3L, 8L));
+		assertThat(holds).allSatisfy(hold -> assertThat(hold.lockExpiredTime())
+			.isAfter(now.plus(LOCK_TIME).minusMinutes(1))
+			.isBeforeOrEqualTo(now.plus(LOCK_TIME)));
+	}
+}
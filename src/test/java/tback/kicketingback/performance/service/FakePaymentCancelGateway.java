@@ -0,0 +1,36 @@
+package tback.kicketingback.performance.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 주문 번호별로 정해 둔 횟수만큼 실패한 뒤 취소에 성공하는 결제 서버.
+ */
+public class FakePaymentCancelGateway implements PaymentCancelGateway {
+
+	private final Map<String, Integer> remainingFailures = new ConcurrentHashMap<>();
+	private final Map<String, Supplier<RuntimeException>> failures = new ConcurrentHashMap<>();
+	private final List<String> canceledOrderNumbers = new CopyOnWriteArrayList<>();
+
+	public void failNext(String orderNumber, int times, Supplier<RuntimeException> failure) {
+		remainingFailures.put(orderNumber, times);
+		failures.put(orderNumber, failure);
+	}
+
+	@Override
+	public void cancelPayment(String orderNumber) {
+		int remaining = remainingFailures.getOrDefault(orderNumber, 0);
+		if (remaining > 0) {
+			remainingFailures.put(orderNumber, remaining - 1);
+			throw failures.get(orderNumber).get();
+		}
+		canceledOrderNumbers.add(orderNumber);
+	}
+
+	public List<String> getCanceledOrderNumbers() {
+		return canceledOrderNumbers;
+	}
+}
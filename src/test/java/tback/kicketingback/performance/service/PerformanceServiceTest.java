@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import tback.kicketingback.performance.dto.GetPerformancesRequest;
 import tback.kicketingback.performance.dto.SimplePerformancePlaceDTO;
+import tback.kicketingback.performance.exception.exceptions.InvalidPerformanceBatchSizeException;
 
 @SpringBootTest
 class PerformanceServiceTest {
@@ -39,5 +42,19 @@ class PerformanceServiceTest {
 
 		assertThat(simplePerformancePlaceDTOS.size()).isGreaterThanOrEqualTo(0);
 	}
-}
 
+	@Test
+	@DisplayName("[정상] 여러 공연을 한 번에 조회하면 없는 공연은 빼고 돌려줌")
+	void getPerformancesByIds() {
+		assertThat(performanceService.getPerformances(List.of(UUID.randomUUID(), UUID.randomUUID()))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[예외] 한 번에 조회할 공연이 최대 개수를 넘으면 예외")
+	void getTooManyPerformances() {
+		List<UUID> performanceUUIDs = IntStream.range(0, 51).mapToObj(index -> UUID.randomUUID()).toList();
+
+		assertThatThrownBy(() -> performanceService.getPerformances(performanceUUIDs))
+			.isInstanceOf(InvalidPerformanceBatchSizeException.class);
+	}
+}
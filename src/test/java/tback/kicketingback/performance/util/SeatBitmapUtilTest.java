@@ -0,0 +1,46 @@
+package tback.kicketingback.performance.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatBitmapUtilTest {
+
+	private BitSet bitSetOf(int... indexes) {
+		BitSet bitSet = new BitSet();
+		for (int index : indexes) {
+			bitSet.set(index);
+		}
+		return bitSet;
+	}
+
+	@Test
+	@DisplayName("[정상] 좌석 수만큼의 바이트로 index 별 예매 가능 여부를 인코딩")
+	void encodeBitmap() {
+		byte[] bitmap = SeatBitmapUtil.toBitmap(bitSetOf(0, 3, 9), 12);
+
+		assertThat(bitmap).containsExactly(0b0000_1001, 0b0000_0010);
+		assertThat(SeatBitmapUtil.toBitmap(new BitSet(), 17)).hasSize(3).containsOnly(0);
+	}
+
+	@Test
+	@DisplayName("[정상] 예매 불가 구간부터 번갈아 구간 길이를 인코딩")
+	void encodeRunLength() {
+		assertThat(SeatBitmapUtil.toRunLength(bitSetOf(0, 1, 5), 8)).containsExactly(0, 2, 3, 1, 2);
+		assertThat(SeatBitmapUtil.toRunLength(new BitSet(), 300)).containsExactly(0b1010_1100, 0b0000_0010);
+	}
+
+	@Test
+	@DisplayName("[정상] run-length 인코딩 결과를 다시 읽으면 원래 좌석 상태")
+	void decodeRunLength() {
+		BitSet bookableSeats = bitSetOf(2, 3, 4, 200, 201, 4999);
+		bookableSeats.set(1000, 3000);
+
+		byte[] runLength = SeatBitmapUtil.toRunLength(bookableSeats, 5000);
+
+		assertThat(SeatBitmapUtil.fromRunLength(runLength)).isEqualTo(bookableSeats);
+	}
+}
@@ -0,0 +1,69 @@
+package tback.kicketingback.queue.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+
+class AdmissionQueueRedisRepositoryTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+	private static final long INTERVAL = 1000L;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+
+	private final AdmissionQueueRedisRepository admissionQueueRedisRepository =
+		new AdmissionQueueRedisRepository(redisTemplate);
+
+	@Test
+	@DisplayName("[정상] 들어온 순서대로 대기 순번을 받고 같은 사용자는 같은 토큰을 받음")
+	void enterInOrder() {
+		String first = admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com");
+		String second = admissionQueueRedisRepository.enter(ON_STAGE_ID, "b@test.com");
+
+		assertThat(admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com")).isEqualTo(first);
+		assertThat(admissionQueueRedisRepository.findRank(ON_STAGE_ID, first)).contains(0L);
+		assertThat(admissionQueueRedisRepository.findRank(ON_STAGE_ID, second)).contains(1L);
+		assertThat(admissionQueueRedisRepository.findOwner(ON_STAGE_ID, second)).contains("b@test.com");
+		assertThat(admissionQueueRedisRepository.findActiveOnStageIds()).containsExactly("1");
+	}
+
+	@Test
+	@DisplayName("[정상] 한 주기에 정해진 인원만 앞에서부터 입장")
+	void admitFromHead() {
+		String first = admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com");
+		String second = admissionQueueRedisRepository.enter(ON_STAGE_ID, "b@test.com");
+		long now = System.currentTimeMillis();
+
+		assertThat(admissionQueueRedisRepository.admit(ON_STAGE_ID, now, now + 60_000, 1, INTERVAL)).isEqualTo(1);
+		assertThat(admissionQueueRedisRepository.admit(ON_STAGE_ID, now, now + 60_000, 1, INTERVAL)).isEqualTo(-1);
+
+		assertThat(admissionQueueRedisRepository.isAdmitted(ON_STAGE_ID, first, now)).isTrue();
+		assertThat(admissionQueueRedisRepository.isAdmitted(ON_STAGE_ID, second, now)).isFalse();
+		assertThat(admissionQueueRedisRepository.findRank(ON_STAGE_ID, second)).contains(0L);
+	}
+
+	@Test
+	@DisplayName("[정상] 입장 시간이 지난 토큰은 정리되고 다시 대기열에 들어갈 수 있음")
+	void removeExpiredAdmission() {
+		String token = admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com");
+		long now = System.currentTimeMillis();
+		admissionQueueRedisRepository.admit(ON_STAGE_ID, now, now + 10, 1, 1);
+
+		assertThat(admissionQueueRedisRepository.isAdmitted(ON_STAGE_ID, token, now + 20)).isFalse();
+
+		redisTemplate.delete("admission-queue:{1}:tick");
+		admissionQueueRedisRepository.admit(ON_STAGE_ID, now + 20, now + 60_000, 1, INTERVAL);
+
+		assertThat(admissionQueueRedisRepository.countAdmitted(ON_STAGE_ID)).isZero();
+		assertThat(admissionQueueRedisRepository.findOwner(ON_STAGE_ID, token)).isEmpty();
+		assertThat(admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com")).isNotEqualTo(token);
+	}
+}
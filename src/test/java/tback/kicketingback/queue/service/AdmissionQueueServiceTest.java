@@ -0,0 +1,64 @@
+package tback.kicketingback.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+import tback.kicketingback.queue.repository.AdmissionQueueRedisRepository;
+
+class AdmissionQueueServiceTest {
+
+	private static final Long ON_STAGE_ID = 1L;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+	private final AdmissionQueueRedisRepository admissionQueueRedisRepository =
+		new AdmissionQueueRedisRepository(redisTemplate);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AdmissionQueueService admissionQueueService =
+		new AdmissionQueueService(admissionQueueRedisRepository, null, meterRegistry);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(admissionQueueService, "enabled", true);
+		ReflectionTestUtils.setField(admissionQueueService, "admitCount", 1);
+		ReflectionTestUtils.setField(admissionQueueService, "admitInterval", 1L);
+		ReflectionTestUtils.setField(admissionQueueService, "admittedTime", 60L);
+	}
+
+	@Test
+	@DisplayName("[정상] 입장 인원은 회차 태그 없이 집계하고 대기 인원은 회차별 게이지로 보여줌")
+	void recordAdmissionMetrics() {
+		admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com");
+		admissionQueueRedisRepository.enter(ON_STAGE_ID, "b@test.com");
+
+		admissionQueueService.admit();
+
+		assertThat(meterRegistry.get("admission.queue.admitted").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("admission.queue.admitted").counter().getId().getTags()).isEmpty();
+		assertThat(meterRegistry.get("admission.queue.depth").tag("onStageId", "1").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[정상] 다른 서버가 끝낸 대기열의 게이지도 제거")
+	void removeDepthGaugeOfEndedQueue() {
+		admissionQueueRedisRepository.enter(ON_STAGE_ID, "a@test.com");
+		admissionQueueRedisRepository.enter(ON_STAGE_ID, "b@test.com");
+		admissionQueueService.admit();
+
+		redisTemplate.opsForSet().remove("admission-queue:active", String.valueOf(ON_STAGE_ID));
+		admissionQueueService.admit();
+
+		assertThat(meterRegistry.find("admission.queue.depth").gauges()).isEmpty();
+	}
+}
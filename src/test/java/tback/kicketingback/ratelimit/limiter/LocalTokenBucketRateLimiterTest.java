@@ -0,0 +1,63 @@
+package tback.kicketingback.ratelimit.limiter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tback.kicketingback.ratelimit.config.RateLimitProperties;
+import tback.kicketingback.ratelimit.policy.RateLimitKeyType;
+import tback.kicketingback.ratelimit.policy.RateLimitPolicy;
+import tback.kicketingback.ratelimit.policy.RateLimitScope;
+
+class LocalTokenBucketRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final LocalTokenBucketRateLimiter rateLimiter = new LocalTokenBucketRateLimiter(100, 60_000, now::get);
+	private final RateLimitPolicy policy = RateLimitPolicy.from(new RateLimitProperties.Policy("lock-seats",
+		"/api/reservation/{onStageId}", "POST", RateLimitKeyType.USER, RateLimitScope.LOCAL, 3, 3000));
+
+	@Test
+	@DisplayName("[정상] limit 개까지 한꺼번에 허용하고 넘으면 다음 토큰이 찰 때까지 거절")
+	void rejectAfterBurst() {
+		for (int request = 0; request < 3; request++) {
+			assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isTrue();
+		}
+
+		RateLimitDecision decision = rateLimiter.tryAcquire(policy, "user:a");
+
+		assertThat(decision.allowed()).isFalse();
+		assertThat(decision.retryAfterMillis()).isEqualTo(1000L);
+	}
+
+	@Test
+	@DisplayName("[정상] 토큰은 window / limit 마다 하나씩 다시 참")
+	void refillOverTime() {
+		for (int request = 0; request < 3; request++) {
+			rateLimiter.tryAcquire(policy, "user:a");
+		}
+
+		now.addAndGet(1000L);
+		assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isTrue();
+		assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isFalse();
+
+		now.addAndGet(10_000L);
+		for (int request = 0; request < 3; request++) {
+			assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isTrue();
+		}
+		assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isFalse();
+	}
+
+	@Test
+	@DisplayName("[정상] 키마다 버킷을 따로 둠")
+	void separateBucketPerKey() {
+		for (int request = 0; request < 3; request++) {
+			rateLimiter.tryAcquire(policy, "user:a");
+		}
+
+		assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isFalse();
+		assertThat(rateLimiter.tryAcquire(policy, "user:b").allowed()).isTrue();
+	}
+}
@@ -0,0 +1,51 @@
+package tback.kicketingback.ratelimit.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import tback.kicketingback.global.repository.EmbeddedRedisExtension;
+
+class RateLimitRedisRepositoryTest {
+
+	private static final int LIMIT = 4;
+	private static final long WINDOW = 10_000L;
+	private static final long WINDOW_START = 1_000 * WINDOW;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension REDIS = new EmbeddedRedisExtension();
+
+	private final StringRedisTemplate redisTemplate = REDIS.getRedisTemplate();
+
+	private final RateLimitRedisRepository rateLimitRedisRepository = new RateLimitRedisRepository(redisTemplate);
+
+	@Test
+	@DisplayName("[정상] window 안에서 limit 번까지 허용하고 넘으면 window 가 끝날 때까지 거절")
+	void rejectOverLimit() {
+		for (int request = 0; request < LIMIT; request++) {
+			assertThat(rateLimitRedisRepository.acquire("sign-in:ip:1", LIMIT, WINDOW, WINDOW_START + 1000L))
+				.isZero();
+		}
+
+		assertThat(rateLimitRedisRepository.acquire("sign-in:ip:1", LIMIT, WINDOW, WINDOW_START + 4000L))
+			.isEqualTo(6000L);
+		assertThat(rateLimitRedisRepository.acquire("sign-in:ip:2", LIMIT, WINDOW, WINDOW_START + 4000L)).isZero();
+	}
+
+	@Test
+	@DisplayName("[정상] 직전 window 의 요청 수는 지난 비율만큼 덜어서 셈")
+	void weighPreviousWindow() {
+		for (int request = 0; request < LIMIT; request++) {
+			rateLimitRedisRepository.acquire("sign-in:ip:1", LIMIT, WINDOW, WINDOW_START + 9000L);
+		}
+
+		// 다음 window 의 1/4 지점: 직전 4건 중 3건으로 셈
+		assertThat(rateLimitRedisRepository.acquire("sign-in:ip:1", LIMIT, WINDOW, WINDOW + WINDOW_START + 2500L))
+			.isZero();
+		assertThat(rateLimitRedisRepository.acquire("sign-in:ip:1", LIMIT, WINDOW, WINDOW + WINDOW_START + 2500L))
+			.isEqualTo(2500L);
+	}
+}